@@ -1,31 +1,111 @@
 package com.techcourse;
 
 import jakarta.servlet.ServletContext;
+import com.interface21.jdbc.core.QueryCancellation;
+import com.interface21.webmvc.servlet.mvc.AsyncRequestBodyReader;
 import com.interface21.webmvc.servlet.mvc.DispatcherServlet;
+import com.interface21.webmvc.servlet.mvc.JsonBodyCache;
+import com.interface21.webmvc.servlet.mvc.RequestCancellation;
 import com.interface21.webmvc.servlet.mvc.asis.ControllerHandlerAdapter;
+import com.interface21.webmvc.servlet.mvc.limit.AimdConcurrencyLimiter;
+import com.interface21.webmvc.servlet.mvc.limit.TokenBucketLimiter;
+import com.interface21.webmvc.servlet.mvc.metrics.MetricsHandlerMapping;
+import com.interface21.webmvc.servlet.mvc.metrics.RequestMetrics;
 import com.interface21.webmvc.servlet.mvc.tobe.AnnotationHandlerMapping;
+import com.interface21.webmvc.servlet.mvc.tobe.HandlerKey;
+import com.techcourse.support.web.interceptor.AdminAccessInterceptor;
+import com.techcourse.support.web.interceptor.RequestTimingInterceptor;
 import com.interface21.webmvc.servlet.mvc.tobe.HandlerExecutionHandlerAdapter;
 import com.interface21.web.WebApplicationInitializer;
+import com.interface21.web.bind.annotation.RequestMethod;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+
 public class AppWebApplicationInitializer implements WebApplicationInitializer {
 
     private static final Logger log = LoggerFactory.getLogger(AppWebApplicationInitializer.class);
 
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(Long.getLong("request.timeout-seconds", 30));
+    private static final int JSON_BODY_CACHE_SIZE = 1_024;
+    private static final int MAXIMUM_REQUEST_BODY_SIZE = 1024 * 1024;
+    private static final double WRITE_PERMITS_PER_SECOND = Double.parseDouble(System.getProperty("admission.write-permits-per-second", "50"));
+    private static final int WRITE_BURST = Integer.getInteger("admission.write-burst", 100);
+    private static final Duration WRITE_LATENCY_THRESHOLD = Duration.ofMillis(500);
+    private static final Duration SLOW_REQUEST_THRESHOLD = Duration.ofSeconds(1);
+    private static final String ADMIN_PATHS = "/admin/**";
+    private static final String METRICS_PATH = "/admin/metrics";
+    private static final String ADMIN_TOKEN = System.getProperty("admin.token");
+
     @Override
     public void onStartup(final ServletContext servletContext) {
         final var dispatcherServlet = new DispatcherServlet();
         dispatcherServlet.addHandlerMapping(new ManualHandlerMapping());
-        dispatcherServlet.addHandlerMapping(new AnnotationHandlerMapping("com.techcourse.controller"));
+        final var annotationHandlerMapping = new AnnotationHandlerMapping("com.techcourse.controller");
+        dispatcherServlet.addHandlerMapping(annotationHandlerMapping);
+        limitWrites(annotationHandlerMapping);
+        exposeMetrics(dispatcherServlet);
 
         dispatcherServlet.addHandlerAdapter(new ControllerHandlerAdapter());
         dispatcherServlet.addHandlerAdapter(new HandlerExecutionHandlerAdapter());
+        dispatcherServlet.setRequestCancellation(AppWebApplicationInitializer::openQueryCancellation, REQUEST_TIMEOUT);
+        dispatcherServlet.addInterceptor(new RequestTimingInterceptor(SLOW_REQUEST_THRESHOLD), "/api/**", "/login", "/register");
+        dispatcherServlet.setJsonBodyCache(new JsonBodyCache(JSON_BODY_CACHE_SIZE));
+        dispatcherServlet.setAsyncRequestBodyReader(new AsyncRequestBodyReader(MAXIMUM_REQUEST_BODY_SIZE, REQUEST_TIMEOUT));
 
         final var dispatcher = servletContext.addServlet("dispatcher", dispatcherServlet);
         dispatcher.setLoadOnStartup(1);
+        dispatcher.setAsyncSupported(true);
         dispatcher.addMapping("/");
 
         log.info("Start AppWebApplication Initializer");
     }
+
+    /**
+     * 관리용 경로는 admin.token 으로 보호한다. 토큰을 설정하지 않으면 지표 경로를 열지 않고, 다른 관리용 경로도 모두 막는다.
+     */
+    private static void exposeMetrics(final DispatcherServlet dispatcherServlet) {
+        if (ADMIN_TOKEN == null || ADMIN_TOKEN.isBlank()) {
+            log.info("admin.token is not set. {} is disabled and {} is denied", METRICS_PATH, ADMIN_PATHS);
+            dispatcherServlet.addInterceptor(AdminAccessInterceptor.denyAll(), ADMIN_PATHS);
+            return;
+        }
+        final var requestMetrics = new RequestMetrics();
+        dispatcherServlet.addHandlerMapping(new MetricsHandlerMapping(METRICS_PATH, requestMetrics));
+        dispatcherServlet.setRequestMetrics(requestMetrics);
+        dispatcherServlet.addInterceptor(new AdminAccessInterceptor(ADMIN_TOKEN), ADMIN_PATHS);
+    }
+
+    /**
+     * 로그인, 가입 요청은 경로마다 초당 요청 수를 제한하고, 동시 처리 수는 두 경로가 함께 나눠 쓴다.
+     * 동시 처리 한도는 커넥션 풀 크기에서 시작해 응답 시간에 따라 조정된다.
+     */
+    private static void limitWrites(final AnnotationHandlerMapping annotationHandlerMapping) {
+        final var poolSize = Integer.getInteger("jdbc.pool.maximum-size", 10);
+        final var concurrencyLimiter = new AimdConcurrencyLimiter(poolSize, 1, poolSize * 4, WRITE_LATENCY_THRESHOLD);
+        for (final var url : new String[]{"/login", "/register"}) {
+            final var handlerKey = new HandlerKey(url, RequestMethod.POST);
+            annotationHandlerMapping.addAdmissionLimiter(handlerKey, new TokenBucketLimiter(WRITE_PERMITS_PER_SECOND, WRITE_BURST));
+            annotationHandlerMapping.addAdmissionLimiter(handlerKey, concurrencyLimiter);
+        }
+    }
+
+    /**
+     * 요청이 제한 시간을 넘기면 그 요청 스레드에서 실행 중인 쿼리를 취소한다.
+     */
+    private static RequestCancellation.Handle openQueryCancellation() {
+        final var queryCancellation = QueryCancellation.open();
+        return new RequestCancellation.Handle() {
+            @Override
+            public void cancel() {
+                queryCancellation.cancel();
+            }
+
+            @Override
+            public void close() {
+                queryCancellation.close();
+            }
+        };
+    }
 }
@@ -2,29 +2,45 @@ package com.techcourse;
 
 import com.techcourse.controller.*;
 import jakarta.servlet.http.HttpServletRequest;
+import com.interface21.webmvc.servlet.mvc.HandlerInterceptor;
 import com.interface21.webmvc.servlet.mvc.HandlerMapping;
+import com.interface21.webmvc.servlet.mvc.MappedInterceptor;
 import com.interface21.webmvc.servlet.mvc.asis.Controller;
+import com.interface21.webmvc.servlet.mvc.asis.ControllerExecution;
 import com.interface21.webmvc.servlet.mvc.asis.ForwardController;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class ManualHandlerMapping implements HandlerMapping {
 
     private static final Logger log = LoggerFactory.getLogger(ManualHandlerMapping.class);
 
-    private static final Map<String, Controller> controllers = new HashMap<>();
+    private static final Map<String, ControllerExecution> controllers = new HashMap<>();
 
     @Override
     public void initialize() {
-        controllers.put("/", new ForwardController("/index.jsp"));
-        controllers.put("/logout", new LogoutController());
+        controllers.put("/", new ControllerExecution(new ForwardController("/index.jsp")));
+        controllers.put("/logout", new ControllerExecution(new LogoutController()));
 
         log.info("Initialized Handler Mapping!");
         controllers.keySet()
-                .forEach(path -> log.info("Path : {}, Controller : {}", path, controllers.get(path).getClass()));
+                .forEach(path -> log.info("Path : {}, Controller : {}", path, controllers.get(path).getController().getClass()));
+    }
+
+    @Override
+    public void applyInterceptors(final List<MappedInterceptor> mappedInterceptors) {
+        controllers.forEach((path, controllerExecution) -> {
+            final var interceptors = mappedInterceptors.stream()
+                    .filter(mappedInterceptor -> mappedInterceptor.matches(path))
+                    .map(MappedInterceptor::getInterceptor)
+                    .toArray(HandlerInterceptor[]::new);
+            controllerExecution.setInterceptors(interceptors);
+            log.debug("apply {} interceptors to {}", interceptors.length, path);
+        });
     }
 
     @Override
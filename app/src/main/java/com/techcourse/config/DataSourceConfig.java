@@ -1,26 +1,125 @@
 package com.techcourse.config;
 
-import org.h2.jdbcx.JdbcDataSource;
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.util.Objects;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * 커넥션 풀 DataSource 를 처음 사용할 때 한 번만 만든다.
+ * 홀더 클래스 초기화로 생성하므로 이후 getInstance 호출에는 락이 없다.
+ * 접속 정보와 풀 크기는 시스템 프로퍼티로 바꿀 수 있다.
+ */
 public class DataSourceConfig {
 
-    private static javax.sql.DataSource INSTANCE;
+    private static final Logger log = LoggerFactory.getLogger(DataSourceConfig.class);
 
-    public static javax.sql.DataSource getInstance() {
-        if (Objects.isNull(INSTANCE)) {
-            INSTANCE = createJdbcDataSource();
+    private static final Settings SETTINGS = Settings.from(System.getProperties());
+
+    private static class Holder {
+        private static final JdbcConnectionPool INSTANCE = createConnectionPool(SETTINGS);
+    }
+
+    public static DataSource getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    static JdbcConnectionPool createConnectionPool(final Settings settings) {
+        final var connectionPool = JdbcConnectionPool.create(settings.url(), settings.user(), settings.password());
+        connectionPool.setMaxConnections(settings.maximumPoolSize());
+        log.info("created connection pool. url : {}, maximum size : {}", settings.url(), settings.maximumPoolSize());
+        return connectionPool;
+    }
+
+    /**
+     * 최소 개수만큼 커넥션을 백그라운드에서 미리 열었다가 풀에 반납해 둔다.
+     * 배포 직후 첫 요청들이 커넥션 생성 비용을 치르지 않도록 하기 위함이다.
+     */
+    public static CompletableFuture<Void> prewarm() {
+        return prewarm(getInstance(), SETTINGS.warmUpSize());
+    }
+
+    /**
+     * size 개를 모두 연 뒤에 반납한다. 하나씩 열고 닫으면 풀이 같은 커넥션을 돌려주므로 하나만 만들어진다.
+     */
+    static CompletableFuture<Void> prewarm(final DataSource dataSource, final int size) {
+        return CompletableFuture.runAsync(() -> openAndRelease(dataSource, size))
+                .whenComplete((ignored, e) -> {
+                    if (e != null) {
+                        log.warn("failed to prewarm connection pool : {}", e.getMessage());
+                    } else {
+                        log.info("prewarmed {} connections", size);
+                    }
+                });
+    }
+
+    private static void openAndRelease(final DataSource dataSource, final int size) {
+        final var connections = new ArrayList<Connection>(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                connections.add(dataSource.getConnection());
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            connections.forEach(DataSourceConfig::closeQuietly);
         }
-        return INSTANCE;
     }
 
-    private static JdbcDataSource createJdbcDataSource() {
-        final var jdbcDataSource = new JdbcDataSource();
-        jdbcDataSource.setUrl("jdbc:h2:mem:test;DB_CLOSE_DELAY=-1;");
-        jdbcDataSource.setUser("");
-        jdbcDataSource.setPassword("");
-        return jdbcDataSource;
+    private static void closeQuietly(final Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException ignored) {}
+    }
+
+    public static void close() {
+        close(Holder.INSTANCE);
+    }
+
+    /**
+     * 풀에 남은 커넥션을 닫는다. 이후에 커넥션을 요청하면 IllegalStateException 이 발생한다.
+     */
+    static void close(final JdbcConnectionPool connectionPool) {
+        connectionPool.dispose();
+        log.info("disposed connection pool");
+    }
+
+    /**
+     * jdbc.* 프로퍼티로 정하는 접속 정보와 풀 크기. 숫자가 아닌 값은 무시하고 기본값을 쓴다.
+     */
+    record Settings(String url, String user, String password, int maximumPoolSize, int minimumIdle) {
+
+        static Settings from(final Properties properties) {
+            return new Settings(
+                    properties.getProperty("jdbc.url", "jdbc:h2:mem:test;DB_CLOSE_DELAY=-1;"),
+                    properties.getProperty("jdbc.user", ""),
+                    properties.getProperty("jdbc.password", ""),
+                    intProperty(properties, "jdbc.pool.maximum-size", 10),
+                    intProperty(properties, "jdbc.pool.minimum-idle", 2)
+            );
+        }
+
+        int warmUpSize() {
+            return Math.min(minimumIdle, maximumPoolSize);
+        }
+
+        private static int intProperty(final Properties properties, final String key, final int defaultValue) {
+            final var value = properties.getProperty(key);
+            if (value == null) {
+                return defaultValue;
+            }
+            try {
+                return Integer.decode(value.trim());
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        }
     }
 
     private DataSourceConfig() {}
@@ -9,6 +9,7 @@ import com.interface21.webmvc.servlet.ModelAndView;
 import com.interface21.context.stereotype.Controller;
 import com.interface21.web.bind.annotation.RequestMapping;
 import com.interface21.web.bind.annotation.RequestMethod;
+import com.interface21.web.session.SessionStoreFullException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -17,6 +18,8 @@ public class LoginController {
 
     private static final Logger log = LoggerFactory.getLogger(LoginController.class);
 
+    private static final int RETRY_AFTER_SECONDS = 60;
+
     @RequestMapping(value = "/login", method = RequestMethod.GET)
     public ModelAndView view(final HttpServletRequest request, final HttpServletResponse response) {
         return UserSession.getUserFrom(request.getSession())
@@ -36,19 +39,27 @@ public class LoginController {
         return InMemoryUserRepository.findByAccount(request.getParameter("account"))
                 .map(user -> {
                     log.info("User : {}", user);
-                    return login(request, user);
+                    return login(request, response, user);
                 })
                 .orElse(redirect("/401.jsp"));
     }
 
-    private ModelAndView login(final HttpServletRequest request, final User user) {
-        if (user.checkPassword(request.getParameter("password"))) {
-            final var session = request.getSession();
-            session.setAttribute(UserSession.SESSION_KEY, user);
-            return redirect("/index.jsp");
-        } else {
+    private ModelAndView login(final HttpServletRequest request, final HttpServletResponse response, final User user) {
+        if (!user.checkPassword(request.getParameter("password"))) {
+            return redirect("/401.jsp");
+        }
+        try {
+            UserSession.login(request.getSession(), user);
+        } catch (SessionStoreFullException e) {
+            log.warn("login rejected. {}", e.getMessage());
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", String.valueOf(RETRY_AFTER_SECONDS));
+            return new ModelAndView(new JspView("/503.jsp"));
+        } catch (IllegalArgumentException e) {
+            log.warn("login rejected. account : {}, {}", user.getAccount(), e.getMessage());
             return redirect("/401.jsp");
         }
+        return redirect("/index.jsp");
     }
 
     private ModelAndView redirect(final String path) {
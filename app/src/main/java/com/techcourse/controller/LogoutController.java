@@ -8,8 +8,7 @@ public class LogoutController implements Controller {
 
     @Override
     public String execute(final HttpServletRequest req, final HttpServletResponse res) throws Exception {
-        final var session = req.getSession();
-        session.removeAttribute(UserSession.SESSION_KEY);
+        UserSession.logout(req.getSession());
         return "redirect:/";
     }
 }
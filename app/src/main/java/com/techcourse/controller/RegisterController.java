@@ -9,17 +9,34 @@ import com.interface21.webmvc.servlet.ModelAndView;
 import com.interface21.context.stereotype.Controller;
 import com.interface21.web.bind.annotation.RequestMapping;
 import com.interface21.web.bind.annotation.RequestMethod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 @Controller
 public class RegisterController {
 
+    private static final Logger log = LoggerFactory.getLogger(RegisterController.class);
+
+    private static final int RETRY_AFTER_SECONDS = 60;
+
     @RequestMapping(value = "/register", method = RequestMethod.POST)
     public ModelAndView register(final HttpServletRequest request, final HttpServletResponse response) {
-        final var user = new User(2,
+        final var user = new User(
                 request.getParameter("account"),
                 request.getParameter("password"),
                 request.getParameter("email"));
-        InMemoryUserRepository.save(user);
+        if (!UserSession.canStore(user)) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return new ModelAndView(new JspView("/register.jsp"));
+        }
+        try {
+            InMemoryUserRepository.save(user);
+        } catch (IllegalStateException e) {
+            log.warn("register rejected. {}", e.getMessage());
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", String.valueOf(RETRY_AFTER_SECONDS));
+            return new ModelAndView(new JspView("/503.jsp"));
+        }
 
         return new ModelAndView(new JspView("redirect:/index.jsp"));
     }
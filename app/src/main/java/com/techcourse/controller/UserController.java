@@ -1,21 +1,47 @@
 package com.techcourse.controller;
 
+import com.interface21.jdbc.core.KeysetCursor;
+import com.techcourse.config.DataSourceConfig;
+import com.techcourse.dao.UserDao;
+import com.techcourse.domain.User;
 import com.techcourse.repository.InMemoryUserRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.interface21.webmvc.servlet.view.JsonEncodingCache;
 import com.interface21.webmvc.servlet.view.JsonView;
 import com.interface21.webmvc.servlet.ModelAndView;
+import com.interface21.webmvc.servlet.mvc.LastModified;
 import com.interface21.context.stereotype.Controller;
 import com.interface21.web.bind.annotation.RequestMapping;
 import com.interface21.web.bind.annotation.RequestMethod;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+
 @Controller
-public class UserController {
+public class UserController implements LastModified {
 
     private static final Logger log = LoggerFactory.getLogger(UserController.class);
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAXIMUM_PAGE_SIZE = 100;
+
+    /**
+     * InMemoryUserRepository 는 저장할 때마다 새 User 를 만들고 저장된 User 를 바꾸지 않으므로 인스턴스별로 인코딩해 둔다.
+     */
+    private static final JsonEncodingCache userJson = new JsonEncodingCache(1_024);
+
+    private final UserDao userDao;
+
+    public UserController() {
+        this(new UserDao(DataSourceConfig.getInstance()));
+    }
+
+    UserController(final UserDao userDao) {
+        this.userDao = userDao;
+    }
+
     @RequestMapping(value = "/api/user", method = RequestMethod.GET)
     public ModelAndView show(final HttpServletRequest request, final HttpServletResponse response) {
         final var account = request.getParameter("account");
@@ -25,7 +51,56 @@ public class UserController {
         final var user = InMemoryUserRepository.findByAccount(account)
                 .orElseThrow();
 
-        modelAndView.addObject("user", user);
+        modelAndView.addObject("user", userJson.encode(user));
         return modelAndView;
     }
+
+    /**
+     * id 순으로 한 페이지씩 조회한다. 응답의 next 토큰을 다음 요청의 cursor 파라미터로 넘기면 이어서 읽는다.
+     */
+    @RequestMapping(value = "/api/users", method = RequestMethod.GET)
+    public ModelAndView list(final HttpServletRequest request, final HttpServletResponse response) {
+        final var modelAndView = new ModelAndView(new JsonView());
+        final KeysetCursor cursor;
+        final int pageSize;
+        try {
+            cursor = KeysetCursor.decode(request.getParameter("cursor"));
+            pageSize = parsePageSize(request.getParameter("size"));
+        } catch (IllegalArgumentException e) {
+            response.setStatus(400);
+            modelAndView.addObject("error", e.getMessage());
+            return modelAndView;
+        }
+
+        final var page = userDao.findPage(cursor, pageSize);
+        modelAndView.addObject("users", page.items().stream().map(UserController::summaryOf).toList());
+        modelAndView.addObject("next", page.hasNext() ? page.next().encode() : null);
+        return modelAndView;
+    }
+
+    /**
+     * 단건 조회만 저장소의 변경 시각으로 캐시한다. 목록은 여러 사용자에 걸쳐 있어 버전을 정할 수 없다.
+     */
+    @Override
+    public long getLastModified(final HttpServletRequest request) {
+        if (!"/api/user".equals(request.getRequestURI())) {
+            return -1;
+        }
+        return InMemoryUserRepository.lastModified(request.getParameter("account"));
+    }
+
+    private static int parsePageSize(final String size) {
+        if (size == null || size.isBlank()) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        final var pageSize = Integer.parseInt(size);
+        if (pageSize < 1 || pageSize > MAXIMUM_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAXIMUM_PAGE_SIZE);
+        }
+        return pageSize;
+    }
+
+    private static Map<String, Object> summaryOf(final User user) {
+        return Map.of("id", user.getId(), "account", user.getAccount(), "email", user.getEmail());
+    }
 }
@@ -0,0 +1,71 @@
+package com.techcourse.controller;
+
+import com.interface21.context.stereotype.Controller;
+import com.interface21.jdbc.core.KeysetIterator;
+import com.interface21.web.bind.annotation.RequestMapping;
+import com.interface21.web.bind.annotation.RequestMethod;
+import com.interface21.webmvc.servlet.ModelAndView;
+import com.interface21.webmvc.servlet.view.StreamingView;
+import com.techcourse.config.DataSourceConfig;
+import com.techcourse.dao.UserHistoryDao;
+import com.techcourse.domain.UserHistory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+
+@Controller
+public class UserHistoryController {
+
+    private static final int EXPORT_PAGE_SIZE = 500;
+    private static final Duration EXPORT_TIMEOUT = Duration.ofMinutes(Long.getLong("user-history.export-timeout-minutes", 10));
+
+    private final UserHistoryDao userHistoryDao;
+
+    public UserHistoryController() {
+        this(new UserHistoryDao(DataSourceConfig.getInstance()));
+    }
+
+    UserHistoryController(final UserHistoryDao userHistoryDao) {
+        this.userHistoryDao = userHistoryDao;
+    }
+
+    /**
+     * 변경 이력 전체를 id 순으로 스트리밍한다. 기본은 줄 단위 JSON 이고, Accept 가 text/event-stream 이면 SSE 로 보낸다.
+     * 한 번에 한 페이지씩만 읽으므로 이력이 많아도 메모리 사용량이 늘지 않는다.
+     * 모든 사용자의 계정과 이메일이 담기므로 관리용 경로에 두어 admin.token 으로 보호한다.
+     */
+    @RequestMapping(value = "/admin/user-history", method = RequestMethod.GET)
+    public ModelAndView export(final HttpServletRequest request, final HttpServletResponse response) {
+        final var histories = new KeysetIterator<>(cursor -> userHistoryDao.findPage(cursor, EXPORT_PAGE_SIZE));
+        final Iterator<Map<String, Object>> summaries = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return histories.hasNext();
+            }
+
+            @Override
+            public Map<String, Object> next() {
+                return summaryOf(histories.next());
+            }
+        };
+
+        final var accept = request.getHeader("Accept");
+        if (accept != null && accept.contains("text/event-stream")) {
+            return new ModelAndView(StreamingView.serverSentEvents(summaries, EXPORT_TIMEOUT));
+        }
+        return new ModelAndView(StreamingView.jsonLines(summaries, EXPORT_TIMEOUT));
+    }
+
+    private static Map<String, Object> summaryOf(final UserHistory userHistory) {
+        return Map.of(
+                "id", userHistory.getId(),
+                "userId", userHistory.getUserId(),
+                "account", userHistory.getAccount(),
+                "email", userHistory.getEmail(),
+                "createdAt", userHistory.getCreatedAt().toString(),
+                "createdBy", userHistory.getCreateBy());
+    }
+}
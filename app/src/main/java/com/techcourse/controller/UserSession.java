@@ -1,22 +1,75 @@
 package com.techcourse.controller;
 
+import com.interface21.web.session.OffHeapSessionStore;
+import com.interface21.web.session.SessionStore;
 import com.techcourse.domain.User;
 import jakarta.servlet.http.HttpSession;
 
+import java.time.Duration;
 import java.util.Optional;
 
+/**
+ * 로그인한 User 는 HttpSession 이 아닌 SessionStore 에 세션 id 로 저장한다.
+ * HttpSession 에는 로그인 여부를 나타내는 user id 만 남긴다.
+ */
 public class UserSession {
 
     public static final String SESSION_KEY = "user";
 
+    private static final int MAXIMUM_SESSIONS = Integer.getInteger("session.maximum-sessions", 10_000);
+    private static final int SLOT_SIZE = 1024;
+    private static final Duration MAX_IDLE = Duration.ofMinutes(Long.getLong("session.max-idle-minutes", 30));
+
+    private static volatile SessionStore<User> store =
+            new OffHeapSessionStore<>(new UserSessionCodec(), MAXIMUM_SESSIONS, SLOT_SIZE, MAX_IDLE);
+
+    public static void setStore(final SessionStore<User> sessionStore) {
+        store = sessionStore;
+    }
+
+    static SessionStore<User> getStore() {
+        return store;
+    }
+
+    /**
+     * 필드가 너무 길어 세션 슬롯에 담을 수 없는 User 는 로그인할 수 없으므로 가입 단계에서 막는다.
+     */
+    public static boolean canStore(final User user) {
+        return UserSessionCodec.fits(user);
+    }
+
     public static Optional<User> getUserFrom(final HttpSession session) {
-        final var user = (User) session.getAttribute(SESSION_KEY);
-        return Optional.ofNullable(user);
+        if (session.getAttribute(SESSION_KEY) == null) {
+            return Optional.empty();
+        }
+        final var user = store.get(session.getId());
+        if (user.isEmpty()) {
+            session.removeAttribute(SESSION_KEY);
+        }
+        return user;
     }
 
     public static boolean isLoggedIn(final HttpSession session) {
         return getUserFrom(session).isPresent();
     }
 
+    /**
+     * @throws com.interface21.web.session.SessionStoreFullException 세션 저장소가 가득 찼다. 기존 로그인은 유지된다.
+     * @throws IllegalArgumentException                              필드가 너무 길어 세션 슬롯에 담을 수 없다.
+     */
+    public static void login(final HttpSession session, final User user) {
+        store.put(session.getId(), user);
+        session.setAttribute(SESSION_KEY, user.getId());
+    }
+
+    public static void logout(final HttpSession session) {
+        store.remove(session.getId());
+        session.removeAttribute(SESSION_KEY);
+    }
+
+    public static void remove(final String sessionId) {
+        store.remove(sessionId);
+    }
+
     private UserSession() {}
 }
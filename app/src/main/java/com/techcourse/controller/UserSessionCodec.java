@@ -0,0 +1,62 @@
+package com.techcourse.controller;
+
+import com.interface21.web.session.SessionCodec;
+import com.techcourse.domain.User;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 문자열 필드는 길이(int)와 UTF-8 바이트로 쓰고, null 은 길이 -1 로 쓴다.
+ * 필드마다 MAXIMUM_FIELD_BYTES 까지만 받아 User 하나가 세션 슬롯 하나에 항상 들어가게 한다.
+ */
+class UserSessionCodec implements SessionCodec<User> {
+
+    static final int MAXIMUM_FIELD_BYTES = 255;
+
+    private static final int NULL_LENGTH = -1;
+
+    static boolean fits(final User user) {
+        return fits(user.getAccount()) && fits(user.getPassword()) && fits(user.getEmail());
+    }
+
+    @Override
+    public void encode(final User user, final ByteBuffer target) {
+        target.putLong(user.getId());
+        putString(target, user.getAccount());
+        putString(target, user.getPassword());
+        putString(target, user.getEmail());
+    }
+
+    @Override
+    public User decode(final ByteBuffer source) {
+        return new User(source.getLong(), getString(source), getString(source), getString(source));
+    }
+
+    private static boolean fits(final String value) {
+        return value == null || value.getBytes(StandardCharsets.UTF_8).length <= MAXIMUM_FIELD_BYTES;
+    }
+
+    private static void putString(final ByteBuffer target, final String value) {
+        if (value == null) {
+            target.putInt(NULL_LENGTH);
+            return;
+        }
+        final var bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAXIMUM_FIELD_BYTES) {
+            throw new IllegalArgumentException("session field exceeds " + MAXIMUM_FIELD_BYTES + " bytes : " + bytes.length);
+        }
+        target.putInt(bytes.length);
+        target.put(bytes);
+    }
+
+    private static String getString(final ByteBuffer source) {
+        final var length = source.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        final var value = new String(source.array(), source.arrayOffset() + source.position(), length, StandardCharsets.UTF_8);
+        source.position(source.position() + length);
+        return value;
+    }
+}
@@ -0,0 +1,71 @@
+package com.techcourse.dao;
+
+import com.interface21.cache.Cache;
+import com.interface21.cache.LruCache;
+import com.interface21.cache.TransactionAwareCache;
+import com.interface21.jdbc.core.JdbcTemplate;
+import com.techcourse.domain.User;
+
+import java.time.Duration;
+
+/**
+ * id, account 조회 결과를 캐시하는 UserDao.
+ * User 는 변경 가능한 객체이므로 캐시에는 복사본을 넣고 조회할 때마다 새 복사본을 돌려준다.
+ * insert, update 에 따른 무효화는 트랜잭션이 커밋된 뒤에 일어나고, 트랜잭션 안의 조회는 캐시를 거치지 않는다.
+ * 로그인과 사용자 조회 화면은 아직 InMemoryUserRepository 를 쓰므로 이 DAO 는 UserDao 를 쓰는 서비스가 생기면 연결한다.
+ */
+public class CachingUserDao extends UserDao {
+
+    private static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+    private final Cache<Long, User> usersById;
+    private final Cache<String, User> usersByAccount;
+
+    public CachingUserDao(final JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, DEFAULT_MAXIMUM_SIZE, DEFAULT_TTL);
+    }
+
+    public CachingUserDao(final JdbcTemplate jdbcTemplate, final int maximumSize, final Duration ttl) {
+        super(jdbcTemplate);
+        this.usersById = new TransactionAwareCache<>(new LruCache<>(maximumSize, ttl));
+        this.usersByAccount = new TransactionAwareCache<>(new LruCache<>(maximumSize, ttl));
+    }
+
+    @Override
+    public void insert(final User user) {
+        super.insert(user);
+        usersByAccount.evict(user.getAccount());
+    }
+
+    /**
+     * account 가 바뀌면 예전 account 로 캐시된 항목도 지운다. 예전 account 는 바꾸기 전에 id 로 읽어 둔다.
+     */
+    @Override
+    public void update(final User user) {
+        final var previous = findById(user.getId());
+        super.update(user);
+        usersById.evict(user.getId());
+        usersByAccount.evict(user.getAccount());
+        if (previous != null && !previous.getAccount().equals(user.getAccount())) {
+            usersByAccount.evict(previous.getAccount());
+        }
+    }
+
+    @Override
+    public User findById(final Long id) {
+        return copyOf(usersById.get(id, key -> copyOf(super.findById(key))));
+    }
+
+    @Override
+    public User findByAccount(final String account) {
+        return copyOf(usersByAccount.get(account, key -> copyOf(super.findByAccount(key))));
+    }
+
+    private static User copyOf(final User user) {
+        if (user == null) {
+            return null;
+        }
+        return new User(user.getId(), user.getAccount(), user.getPassword(), user.getEmail());
+    }
+}
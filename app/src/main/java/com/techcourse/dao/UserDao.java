@@ -2,120 +2,66 @@ package com.techcourse.dao;
 
 import com.techcourse.domain.User;
 import com.interface21.jdbc.core.JdbcTemplate;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.interface21.jdbc.core.KeysetCursor;
+import com.interface21.jdbc.core.Page;
+import com.interface21.jdbc.core.RowMapper;
+import com.interface21.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import com.interface21.jdbc.core.namedparam.MapSqlParameterSource;
+import com.interface21.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 import javax.sql.DataSource;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
 import java.util.List;
 
 public class UserDao {
 
-    private static final Logger log = LoggerFactory.getLogger(UserDao.class);
+    private static final RowMapper<User> USER_ROW_MAPPER = rs -> new User(
+            rs.getLong("id"),
+            rs.getString("account"),
+            rs.getString("password"),
+            rs.getString("email"));
 
-    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
     public UserDao(final DataSource dataSource) {
-        this.dataSource = dataSource;
+        this(new JdbcTemplate(dataSource));
     }
 
     public UserDao(final JdbcTemplate jdbcTemplate) {
-        this.dataSource = null;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
     }
 
     public void insert(final User user) {
-        final var sql = "insert into users (account, password, email) values (?, ?, ?)";
-
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        try {
-            conn = dataSource.getConnection();
-            pstmt = conn.prepareStatement(sql);
-
-            log.debug("query : {}", sql);
-
-            pstmt.setString(1, user.getAccount());
-            pstmt.setString(2, user.getPassword());
-            pstmt.setString(3, user.getEmail());
-            pstmt.executeUpdate();
-        } catch (SQLException e) {
-            log.error(e.getMessage(), e);
-            throw new RuntimeException(e);
-        } finally {
-            try {
-                if (pstmt != null) {
-                    pstmt.close();
-                }
-            } catch (SQLException ignored) {}
-
-            try {
-                if (conn != null) {
-                    conn.close();
-                }
-            } catch (SQLException ignored) {}
-        }
+        final var sql = "insert into users (account, password, email) values (:account, :password, :email)";
+        namedParameterJdbcTemplate.update(sql, new BeanPropertySqlParameterSource(user));
     }
 
     public void update(final User user) {
-        // todo
+        final var sql = "update users set account = :account, password = :password, email = :email where id = :id";
+        namedParameterJdbcTemplate.update(sql, new BeanPropertySqlParameterSource(user));
     }
 
+    /**
+     * 모든 사용자를 id 순으로 읽는다. 사용자가 많으면 findPage 로 나눠 읽는다.
+     */
     public List<User> findAll() {
-        // todo
-        return null;
+        final var sql = "select id, account, password, email from users order by id";
+        return jdbcTemplate.query(sql, USER_ROW_MAPPER);
     }
 
-    public User findById(final Long id) {
-        final var sql = "select id, account, password, email from users where id = ?";
-
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-        try {
-            conn = dataSource.getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setLong(1, id);
-            rs = pstmt.executeQuery();
-
-            log.debug("query : {}", sql);
-
-            if (rs.next()) {
-                return new User(
-                        rs.getLong(1),
-                        rs.getString(2),
-                        rs.getString(3),
-                        rs.getString(4));
-            }
-            return null;
-        } catch (SQLException e) {
-            log.error(e.getMessage(), e);
-            throw new RuntimeException(e);
-        } finally {
-            try {
-                if (rs != null) {
-                    rs.close();
-                }
-            } catch (SQLException ignored) {}
-
-            try {
-                if (pstmt != null) {
-                    pstmt.close();
-                }
-            } catch (SQLException ignored) {}
+    public Page<User> findPage(final KeysetCursor cursor, final int pageSize) {
+        final var sql = "select id, account, password, email from users where id > ? order by id limit ?";
+        return jdbcTemplate.queryForPage(sql, USER_ROW_MAPPER, User::getId, cursor, pageSize);
+    }
 
-            try {
-                if (conn != null) {
-                    conn.close();
-                }
-            } catch (SQLException ignored) {}
-        }
+    public User findById(final Long id) {
+        final var sql = "select id, account, password, email from users where id = :id";
+        return namedParameterJdbcTemplate.queryForObject(sql, new MapSqlParameterSource("id", id), USER_ROW_MAPPER);
     }
 
     public User findByAccount(final String account) {
-        // todo
-        return null;
+        final var sql = "select id, account, password, email from users where account = :account";
+        return namedParameterJdbcTemplate.queryForObject(sql, new MapSqlParameterSource("account", account), USER_ROW_MAPPER);
     }
 }
@@ -2,25 +2,113 @@ package com.techcourse.repository;
 
 import com.techcourse.domain.User;
 
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * id 와 account 두 인덱스로 조회하는 메모리 저장소.
+ * 조회는 락 없이 ConcurrentHashMap 에서 바로 읽고, 쓰기는 account 해시로 고른 락 하나만 잡아
+ * 두 인덱스를 함께 갱신한다. 저장할 수 있는 사용자 수에는 상한이 있다.
+ * 사용자마다 마지막으로 저장한 시각을 함께 기록해 HTTP 조건부 요청의 버전으로 쓴다.
+ */
 public class InMemoryUserRepository {
 
-    private static final Map<String, User> database = new ConcurrentHashMap<>();
+    private static final int MAXIMUM_SIZE = 100_000;
+    private static final int LOCK_STRIPES = 16;
+
+    private static final Map<Long, User> usersById = new ConcurrentHashMap<>();
+    private static final Map<String, User> usersByAccount = new ConcurrentHashMap<>();
+    private static final Map<String, Long> lastModifiedByAccount = new ConcurrentHashMap<>();
+    private static final AtomicLong sequence = new AtomicLong();
+    private static final AtomicLong clock = new AtomicLong();
+    private static final AtomicInteger size = new AtomicInteger();
+    private static final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
 
     static {
-        final User user = new User(1, "gugu", "password", "hkkang@woowahan.com");
-        database.put(user.getAccount(), user);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        save(new User("gugu", "password", "hkkang@woowahan.com"));
     }
 
-    public static void save(final User user) {
-        database.put(user.getAccount(), user);
+    /**
+     * 같은 account 가 이미 있으면 기존 id 를 유지한 채 덮어쓰고, 없으면 새 id 를 발급한다.
+     * 전달한 User 의 id 는 사용하지 않으며, 저장된 User 를 반환한다.
+     */
+    public static User save(final User user) {
+        final var lock = lockFor(user.getAccount());
+        lock.lock();
+        try {
+            final var existing = usersByAccount.get(user.getAccount());
+            if (existing == null && size.get() >= MAXIMUM_SIZE) {
+                throw new IllegalStateException("InMemoryUserRepository is full. maximum size : " + MAXIMUM_SIZE);
+            }
+            final var id = existing != null ? existing.getId() : sequence.incrementAndGet();
+            final var saved = new User(id, user.getAccount(), user.getPassword(), user.getEmail());
+            usersById.put(id, saved);
+            usersByAccount.put(saved.getAccount(), saved);
+            // 시각을 사용자보다 나중에 기록해야 새 시각을 본 쪽이 옛 사용자를 읽지 않는다.
+            lastModifiedByAccount.put(saved.getAccount(), nextTimestamp());
+            if (existing == null) {
+                size.incrementAndGet();
+            }
+            return saved;
+        } finally {
+            lock.unlock();
+        }
     }
 
     public static Optional<User> findByAccount(final String account) {
-        return Optional.ofNullable(database.get(account));
+        if (account == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(usersByAccount.get(account));
+    }
+
+    public static Optional<User> findById(final long id) {
+        return Optional.ofNullable(usersById.get(id));
+    }
+
+    /**
+     * 호출 시점의 스냅샷을 id 순으로 반환한다. 순회 중에도 쓰기는 막히지 않는다.
+     */
+    public static List<User> findAll() {
+        return usersById.values()
+                .stream()
+                .sorted(Comparator.comparingLong(User::getId))
+                .toList();
+    }
+
+    /**
+     * 해당 account 를 마지막으로 저장한 시각(epoch millis). 저장할 때마다 반드시 커진다. 없으면 -1.
+     */
+    public static long lastModified(final String account) {
+        if (account == null) {
+            return -1;
+        }
+        return lastModifiedByAccount.getOrDefault(account, -1L);
+    }
+
+    public static int size() {
+        return size.get();
+    }
+
+    /**
+     * 같은 밀리초에 두 번 저장해도 값이 겹치지 않도록 직전 값보다 최소 1 크게 만든다.
+     */
+    private static long nextTimestamp() {
+        return clock.updateAndGet(previous -> Math.max(previous + 1, System.currentTimeMillis()));
+    }
+
+    private static ReentrantLock lockFor(final String account) {
+        final var hash = account.hashCode();
+        return locks[(hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1)];
     }
 
     private InMemoryUserRepository() {}
@@ -12,5 +12,11 @@ public class ContextLoaderListener implements ServletContextListener {
     @Override
     public void contextInitialized(final ServletContextEvent sce) {
         DatabasePopulatorUtils.execute(DataSourceConfig.getInstance());
+        DataSourceConfig.prewarm();
+    }
+
+    @Override
+    public void contextDestroyed(final ServletContextEvent sce) {
+        DataSourceConfig.close();
     }
 }
@@ -0,0 +1,15 @@
+package com.techcourse.support.context;
+
+import com.techcourse.controller.UserSession;
+import jakarta.servlet.annotation.WebListener;
+import jakarta.servlet.http.HttpSessionEvent;
+import jakarta.servlet.http.HttpSessionListener;
+
+@WebListener
+public class UserSessionListener implements HttpSessionListener {
+
+    @Override
+    public void sessionDestroyed(final HttpSessionEvent se) {
+        UserSession.remove(se.getSession().getId());
+    }
+}
@@ -0,0 +1,109 @@
+package com.techcourse.support.jdbc.init;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 첫 줄이 컬럼명인 CSV 를 읽어 배치 insert 로 테이블에 적재한다.
+ * 따옴표로 감싼 필드 안의 쉼표와 "" 이스케이프를 지원하며, 따옴표 없는 빈 필드는 NULL 로 넣는다.
+ */
+class CsvTableLoader {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final String table;
+
+    CsvTableLoader(final String table) {
+        this.table = table;
+    }
+
+    int load(final BufferedReader reader, final Connection connection) throws IOException, SQLException {
+        final var header = reader.readLine();
+        if (header == null) {
+            return 0;
+        }
+        final var columns = parseLine(header);
+        final var sql = insertSql(columns);
+
+        final var autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (final var pstmt = connection.prepareStatement(sql)) {
+            int rows = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                final var values = parseLine(line);
+                if (values.size() != columns.size()) {
+                    throw new IOException(table + " line " + (rows + 2) + " has " + values.size()
+                            + " fields, expected " + columns.size());
+                }
+                for (int i = 0; i < values.size(); i++) {
+                    pstmt.setObject(i + 1, values.get(i));
+                }
+                pstmt.addBatch();
+                if (++rows % BATCH_SIZE == 0) {
+                    pstmt.executeBatch();
+                }
+            }
+            pstmt.executeBatch();
+            connection.commit();
+            return rows;
+        } catch (IOException | SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private String insertSql(final List<String> columns) {
+        final var placeholders = String.join(", ", Collections.nCopies(columns.size(), "?"));
+        return "insert into " + table + " (" + String.join(", ", columns) + ") values (" + placeholders + ")";
+    }
+
+    static List<String> parseLine(final String line) {
+        final var fields = new ArrayList<String>();
+        final var field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            final var ch = line.charAt(i);
+            if (quoted) {
+                if (ch == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (ch == '"') {
+                    quoted = false;
+                } else {
+                    field.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+                wasQuoted = true;
+            } else if (ch == ',') {
+                fields.add(toValue(field, wasQuoted));
+                field.setLength(0);
+                wasQuoted = false;
+            } else {
+                field.append(ch);
+            }
+        }
+        fields.add(toValue(field, wasQuoted));
+        return fields;
+    }
+
+    private static String toValue(final StringBuilder field, final boolean wasQuoted) {
+        final var value = wasQuoted ? field.toString() : field.toString().strip();
+        if (!wasQuoted && value.isEmpty()) {
+            return null;
+        }
+        return value;
+    }
+}
@@ -1,46 +1,115 @@
 package com.techcourse.support.jdbc.init;
 
+import com.interface21.dao.DataAccessException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.sql.DataSource;
-import java.io.File;
+import java.io.BufferedReader;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+/**
+ * 클래스패스의 SQL 스크립트를 문장 단위로 순서대로 실행한 뒤, CSV 데이터를 테이블별로 병렬 적재한다.
+ * CSV 파일 이름(확장자 제외)을 테이블 이름으로 사용한다. 실패하면 예외를 던진다.
+ */
 public class DatabasePopulatorUtils {
 
     private static final Logger log = LoggerFactory.getLogger(DatabasePopulatorUtils.class);
 
+    private static final String DEFAULT_SCRIPT = "schema.sql";
+    private static final int MAX_LOADER_THREADS = 4;
+
     public static void execute(final DataSource dataSource) {
-        Connection connection = null;
-        Statement statement = null;
+        execute(dataSource, DEFAULT_SCRIPT);
+    }
+
+    public static void execute(final DataSource dataSource, final String scriptResource, final String... csvResources) {
+        final var start = System.nanoTime();
+        runScript(dataSource, scriptResource);
+        loadCsv(dataSource, csvResources);
+        log.info("database populated in {} ms", elapsedMillis(start));
+    }
+
+    private static void runScript(final DataSource dataSource, final String scriptResource) {
+        try (final var reader = new SqlStatementReader(openResource(scriptResource));
+             final var connection = dataSource.getConnection();
+             final var statement = connection.createStatement()) {
+            String sql;
+            while ((sql = reader.next()) != null) {
+                final var start = System.nanoTime();
+                statement.execute(sql);
+                log.info("{} ms : {}", elapsedMillis(start), sql);
+            }
+        } catch (IOException | SQLException e) {
+            throw new DataAccessException("Failed to execute SQL script " + scriptResource, e);
+        }
+    }
+
+    private static void loadCsv(final DataSource dataSource, final String... csvResources) {
+        if (csvResources.length == 0) {
+            return;
+        }
+        final var threads = Math.min(csvResources.length, MAX_LOADER_THREADS);
+        try (final var executor = Executors.newFixedThreadPool(threads)) {
+            final var loads = new ArrayList<Future<?>>();
+            for (final var csvResource : csvResources) {
+                loads.add(executor.submit(() -> {
+                    loadCsv(dataSource, csvResource);
+                    return null;
+                }));
+            }
+            for (final var load : loads) {
+                await(load);
+            }
+        }
+    }
+
+    private static void loadCsv(final DataSource dataSource, final String csvResource) throws IOException, SQLException {
+        final var start = System.nanoTime();
+        final var table = tableName(csvResource);
+        try (final var reader = new BufferedReader(openResource(csvResource));
+             final Connection connection = dataSource.getConnection()) {
+            final var rows = new CsvTableLoader(table).load(reader, connection);
+            log.info("{} ms : loaded {} rows into {}", elapsedMillis(start), rows, table);
+        }
+    }
+
+    private static void await(final Future<?> load) {
         try {
-            final var url = DatabasePopulatorUtils.class.getClassLoader().getResource("schema.sql");
-            final var file = new File(url.getFile());
-            final var sql = Files.readString(file.toPath());
-            connection = dataSource.getConnection();
-            statement = connection.createStatement();
-            statement.execute(sql);
-        } catch (NullPointerException | IOException | SQLException e) {
-            log.error(e.getMessage(), e);
-        } finally {
-            try {
-                if (statement != null) {
-                    statement.close();
-                }
-            } catch (SQLException ignored) {}
-
-            try {
-                if (connection != null) {
-                    connection.close();
-                }
-            } catch (SQLException ignored) {}
+            load.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessException("Interrupted while loading data", e);
+        } catch (ExecutionException e) {
+            throw new DataAccessException("Failed to load data", e.getCause());
         }
     }
 
+    private static InputStreamReader openResource(final String resource) throws IOException {
+        final var inputStream = DatabasePopulatorUtils.class.getClassLoader().getResourceAsStream(resource);
+        if (inputStream == null) {
+            throw new IOException("classpath resource not found : " + resource);
+        }
+        return new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+    }
+
+    private static String tableName(final String csvResource) {
+        final var fileName = csvResource.substring(csvResource.lastIndexOf('/') + 1);
+        final var extension = fileName.lastIndexOf('.');
+        return extension < 0 ? fileName : fileName.substring(0, extension);
+    }
+
+    private static long elapsedMillis(final long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
     private DatabasePopulatorUtils() {}
 }
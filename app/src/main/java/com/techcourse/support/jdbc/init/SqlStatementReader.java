@@ -0,0 +1,118 @@
+package com.techcourse.support.jdbc.init;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * SQL 스크립트를 스트림으로 읽으며 세미콜론 단위로 문장을 하나씩 꺼낸다.
+ * 작은따옴표 문자열, 큰따옴표 식별자 안의 세미콜론은 구분자로 보지 않으며,
+ * -- 한 줄 주석과 블록 주석은 건너뛴다.
+ */
+public class SqlStatementReader implements AutoCloseable {
+
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private int lookahead = EOF;
+    private boolean peeked;
+
+    public SqlStatementReader(final Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 문장을 반환하고, 더 이상 문장이 없으면 null 을 반환한다.
+     */
+    public String next() throws IOException {
+        final var statement = new StringBuilder();
+        int ch;
+        while ((ch = read()) != EOF) {
+            if (ch == ';') {
+                if (!statement.isEmpty()) {
+                    return statement.toString().strip();
+                }
+                continue;
+            }
+            if (ch == '\'' || ch == '"') {
+                appendQuoted(statement, ch);
+                continue;
+            }
+            if (ch == '-' && peek() == '-') {
+                skipLine();
+                appendSeparator(statement);
+                continue;
+            }
+            if (ch == '/' && peek() == '*') {
+                read();
+                skipBlockComment();
+                appendSeparator(statement);
+                continue;
+            }
+            if (Character.isWhitespace(ch)) {
+                appendSeparator(statement);
+                continue;
+            }
+            statement.append((char) ch);
+        }
+        return statement.isEmpty() ? null : statement.toString().strip();
+    }
+
+    private void appendQuoted(final StringBuilder statement, final int quote) throws IOException {
+        statement.append((char) quote);
+        int ch;
+        while ((ch = read()) != EOF) {
+            statement.append((char) ch);
+            if (ch == quote) {
+                if (peek() != quote) {
+                    return;
+                }
+                statement.append((char) read());
+            }
+        }
+        throw new IOException("Unterminated quoted literal in SQL script : " + statement);
+    }
+
+    private void skipLine() throws IOException {
+        int ch;
+        while ((ch = read()) != EOF && ch != '\n') {
+        }
+    }
+
+    private void skipBlockComment() throws IOException {
+        int ch;
+        while ((ch = read()) != EOF) {
+            if (ch == '*' && peek() == '/') {
+                read();
+                return;
+            }
+        }
+        throw new IOException("Unterminated block comment in SQL script");
+    }
+
+    private void appendSeparator(final StringBuilder statement) {
+        if (!statement.isEmpty() && statement.charAt(statement.length() - 1) != ' ') {
+            statement.append(' ');
+        }
+    }
+
+    private int read() throws IOException {
+        if (peeked) {
+            peeked = false;
+            return lookahead;
+        }
+        return reader.read();
+    }
+
+    private int peek() throws IOException {
+        if (!peeked) {
+            lookahead = reader.read();
+            peeked = true;
+        }
+        return lookahead;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,193 @@
+package com.techcourse.support.web.filter;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+
+import java.io.IOException;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 응답 본문을 압축하면서 바로 내보내는 스트림. 전체 본문을 모으지 않는다.
+ * 처음 minSize 바이트만 모아 두었다가 그보다 커지면 압축을 시작하고,
+ * 그 전에 끝나면 압축 없이 Content-Length 와 함께 그대로 보낸다.
+ */
+class CompressingOutputStream extends ServletOutputStream {
+
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    private enum State { UNDECIDED, COMPRESSING, PASSTHROUGH, FINISHED }
+
+    private final CompressingResponseWrapper response;
+    private final ContentCoding coding;
+    private final DeflaterPool deflaterPool;
+    private final byte[] pending;
+    private int pendingLength;
+    private State state = State.UNDECIDED;
+
+    private ServletOutputStream target;
+    private Deflater deflater;
+    private CRC32 crc;
+    private byte[] chunk;
+
+    CompressingOutputStream(final CompressingResponseWrapper response, final ContentCoding coding,
+                            final DeflaterPool deflaterPool, final int minSize) {
+        this.response = response;
+        this.coding = coding;
+        this.deflaterPool = deflaterPool;
+        this.pending = new byte[minSize];
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        switch (state) {
+            case UNDECIDED -> {
+                if (pendingLength + len <= pending.length) {
+                    System.arraycopy(b, off, pending, pendingLength, len);
+                    pendingLength += len;
+                    return;
+                }
+                decide(response.isCompressible());
+                write(b, off, len);
+            }
+            case COMPRESSING -> deflate(b, off, len);
+            case PASSTHROUGH -> target.write(b, off, len);
+            case FINISHED -> throw new IOException("Response body already finished");
+        }
+    }
+
+    /**
+     * 압축할 수 없는 응답은 바로 내보낸다. 압축할 응답은 minSize 에 닿기 전까지의 flush 를 미룬다.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (state == State.UNDECIDED) {
+            if (response.isCompressible()) {
+                return;
+            }
+            decide(false);
+        }
+        if (state == State.COMPRESSING) {
+            int written;
+            do {
+                written = deflater.deflate(chunk, 0, chunk.length, Deflater.SYNC_FLUSH);
+                target.write(chunk, 0, written);
+            } while (written == chunk.length);
+        }
+        if (state != State.FINISHED) {
+            target.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        finish();
+    }
+
+    void finish() throws IOException {
+        if (state == State.FINISHED) {
+            return;
+        }
+        try {
+            if (state == State.UNDECIDED) {
+                response.setUncompressedLength(pendingLength);
+                decide(false);
+            }
+            if (state == State.COMPRESSING) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    final var written = deflater.deflate(chunk);
+                    target.write(chunk, 0, written);
+                }
+                if (coding == ContentCoding.GZIP) {
+                    writeGzipTrailer();
+                }
+            }
+        } finally {
+            state = State.FINISHED;
+            releaseDeflater();
+        }
+    }
+
+    void resetPending() {
+        if (state != State.UNDECIDED) {
+            throw new IllegalStateException("Response body already committed");
+        }
+        pendingLength = 0;
+    }
+
+    @Override
+    public boolean isReady() {
+        return target == null || target.isReady();
+    }
+
+    @Override
+    public void setWriteListener(final WriteListener writeListener) {
+        try {
+            response.getTargetOutputStream().setWriteListener(writeListener);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void decide(final boolean compress) throws IOException {
+        target = response.getTargetOutputStream();
+        if (compress) {
+            response.startCompression(coding);
+            deflater = deflaterPool.borrow();
+            chunk = new byte[CHUNK_SIZE];
+            state = State.COMPRESSING;
+            if (coding == ContentCoding.GZIP) {
+                crc = new CRC32();
+                target.write(GZIP_HEADER);
+            }
+            deflate(pending, 0, pendingLength);
+        } else {
+            response.skipCompression();
+            state = State.PASSTHROUGH;
+            target.write(pending, 0, pendingLength);
+        }
+        pendingLength = 0;
+    }
+
+    private void deflate(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return;
+        }
+        if (crc != null) {
+            crc.update(b, off, len);
+        }
+        deflater.setInput(b, off, len);
+        while (!deflater.needsInput()) {
+            final var written = deflater.deflate(chunk, 0, chunk.length, Deflater.NO_FLUSH);
+            target.write(chunk, 0, written);
+        }
+    }
+
+    private void writeGzipTrailer() throws IOException {
+        final var trailer = new byte[8];
+        writeIntLittleEndian(trailer, 0, (int) crc.getValue());
+        writeIntLittleEndian(trailer, 4, (int) deflater.getBytesRead());
+        target.write(trailer);
+    }
+
+    private static void writeIntLittleEndian(final byte[] buffer, final int offset, final int value) {
+        buffer[offset] = (byte) value;
+        buffer[offset + 1] = (byte) (value >>> 8);
+        buffer[offset + 2] = (byte) (value >>> 16);
+        buffer[offset + 3] = (byte) (value >>> 24);
+    }
+
+    private void releaseDeflater() {
+        if (deflater != null) {
+            deflaterPool.release(deflater);
+            deflater = null;
+        }
+    }
+}
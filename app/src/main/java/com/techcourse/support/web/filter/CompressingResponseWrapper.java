@@ -0,0 +1,200 @@
+package com.techcourse.support.web.filter;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 압축 여부가 정해질 때까지 Content-Length 를 붙잡아 두는 응답 래퍼.
+ * 압축하면 길이를 알 수 없으므로 버리고, 압축하지 않으면 그대로 전달한다.
+ */
+class CompressingResponseWrapper extends HttpServletResponseWrapper {
+
+    private static final Set<String> COMPRESSIBLE_TYPES = Set.of(
+            "application/json",
+            "application/javascript",
+            "application/xml",
+            "image/svg+xml"
+    );
+
+    private final HttpServletResponse response;
+    private final ContentCoding coding;
+    private final DeflaterPool deflaterPool;
+    private final int minSize;
+
+    private CompressingOutputStream outputStream;
+    private PrintWriter writer;
+    private long contentLength = -1;
+    private boolean encoded;
+    private boolean decided;
+
+    CompressingResponseWrapper(final HttpServletResponse response, final ContentCoding coding,
+                               final DeflaterPool deflaterPool, final int minSize) {
+        super(response);
+        this.response = response;
+        this.coding = coding;
+        this.deflaterPool = deflaterPool;
+        this.minSize = minSize;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called");
+        }
+        return outputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (outputStream != null) {
+                throw new IllegalStateException("getOutputStream() has already been called");
+            }
+            writer = new PrintWriter(new OutputStreamWriter(outputStream(), charset()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void setContentLength(final int length) {
+        setContentLengthLong(length);
+    }
+
+    @Override
+    public void setContentLengthLong(final long length) {
+        if (decided && !isCompressing()) {
+            super.setContentLengthLong(length);
+            return;
+        }
+        contentLength = length;
+    }
+
+    @Override
+    public void setHeader(final String name, final String value) {
+        if (interceptHeader(name, value)) {
+            return;
+        }
+        super.setHeader(name, value);
+    }
+
+    @Override
+    public void addHeader(final String name, final String value) {
+        if (interceptHeader(name, value)) {
+            return;
+        }
+        super.addHeader(name, value);
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        } else if (outputStream != null) {
+            outputStream.flush();
+        }
+        super.flushBuffer();
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (outputStream != null) {
+            outputStream.resetPending();
+        }
+        super.resetBuffer();
+    }
+
+    void finish() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (outputStream != null) {
+            outputStream.finish();
+        }
+    }
+
+    boolean isCompressible() {
+        if (encoded || contentLength >= 0 && contentLength < minSize) {
+            return false;
+        }
+        final var status = getStatus();
+        if (status == 204 || status == 206 || status == HttpServletResponse.SC_NOT_MODIFIED) {
+            return false;
+        }
+        return isCompressibleType(getContentType());
+    }
+
+    void startCompression(final ContentCoding coding) {
+        decided = true;
+        super.setHeader("Content-Encoding", coding.token());
+    }
+
+    void skipCompression() {
+        decided = true;
+        if (contentLength >= 0) {
+            super.setContentLengthLong(contentLength);
+        }
+    }
+
+    void setUncompressedLength(final long length) {
+        if (contentLength < 0) {
+            contentLength = length;
+        }
+    }
+
+    ServletOutputStream getTargetOutputStream() throws IOException {
+        return response.getOutputStream();
+    }
+
+    private boolean isCompressing() {
+        return encoded || response.containsHeader("Content-Encoding");
+    }
+
+    private boolean interceptHeader(final String name, final String value) {
+        if ("Content-Length".equalsIgnoreCase(name)) {
+            setContentLengthLong(Long.parseLong(value));
+            return true;
+        }
+        if ("Content-Encoding".equalsIgnoreCase(name)) {
+            encoded = true;
+        }
+        return false;
+    }
+
+    private CompressingOutputStream outputStream() {
+        if (outputStream == null) {
+            outputStream = new CompressingOutputStream(this, coding, deflaterPool, minSize);
+        }
+        return outputStream;
+    }
+
+    private Charset charset() {
+        final var encoding = getCharacterEncoding();
+        return encoding == null ? StandardCharsets.ISO_8859_1 : Charset.forName(encoding);
+    }
+
+    private static boolean isCompressibleType(final String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        final var separator = contentType.indexOf(';');
+        final var mediaType = (separator < 0 ? contentType : contentType.substring(0, separator))
+                .trim()
+                .toLowerCase(Locale.ROOT);
+        if (mediaType.equals("text/event-stream")) {
+            return false;
+        }
+        return mediaType.startsWith("text/")
+                || COMPRESSIBLE_TYPES.contains(mediaType)
+                || mediaType.endsWith("+json")
+                || mediaType.endsWith("+xml");
+    }
+}
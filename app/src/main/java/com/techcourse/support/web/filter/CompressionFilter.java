@@ -0,0 +1,90 @@
+package com.techcourse.support.web.filter;
+
+import jakarta.servlet.*;
+import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * Accept-Encoding 에 따라 응답을 gzip 또는 deflate 로 압축한다.
+ * 본문을 모두 모으지 않고 쓰는 대로 압축해 내보내며, MIN_SIZE 보다 작은 응답,
+ * 이미 압축된 형식(이미지, 바이너리 등), 204/206/304 응답은 그대로 보낸다.
+ */
+@WebFilter(value = "/*", asyncSupported = true)
+public class CompressionFilter implements Filter {
+
+    private static final int MIN_SIZE = 1024;
+    private static final int POOL_CAPACITY = 64;
+
+    private final Map<ContentCoding, DeflaterPool> deflaterPools = new EnumMap<>(ContentCoding.class);
+
+    @Override
+    public void init(final FilterConfig filterConfig) throws ServletException {
+        for (final var coding : ContentCoding.values()) {
+            deflaterPools.put(coding, new DeflaterPool(Deflater.DEFAULT_COMPRESSION, coding.nowrap(), POOL_CAPACITY));
+        }
+    }
+
+    @Override
+    public void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain)
+            throws IOException, ServletException {
+        if (!(request instanceof HttpServletRequest httpRequest) || !(response instanceof HttpServletResponse httpResponse)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        httpResponse.addHeader("Vary", "Accept-Encoding");
+        final var coding = ContentCoding.negotiate(httpRequest.getHeader("Accept-Encoding"));
+        if (coding == null || "HEAD".equals(httpRequest.getMethod())) {
+            chain.doFilter(request, response);
+            return;
+        }
+        final var wrapper = new CompressingResponseWrapper(httpResponse, coding, deflaterPools.get(coding), MIN_SIZE);
+        var async = false;
+        try {
+            chain.doFilter(request, wrapper);
+            async = request.isAsyncStarted();
+        } finally {
+            if (async) {
+                request.getAsyncContext().addListener(new FinishOnCompletion(wrapper));
+            } else {
+                wrapper.finish();
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        deflaterPools.values().forEach(DeflaterPool::close);
+        deflaterPools.clear();
+    }
+
+    /**
+     * 비동기 요청은 필터를 빠져나온 뒤에도 본문을 쓰므로 요청이 끝날 때 압축을 마무리한다.
+     */
+    private record FinishOnCompletion(CompressingResponseWrapper wrapper) implements AsyncListener {
+
+        @Override
+        public void onComplete(final AsyncEvent event) throws IOException {
+            wrapper.finish();
+        }
+
+        @Override
+        public void onTimeout(final AsyncEvent event) throws IOException {
+            wrapper.finish();
+        }
+
+        @Override
+        public void onError(final AsyncEvent event) throws IOException {
+            wrapper.finish();
+        }
+
+        @Override
+        public void onStartAsync(final AsyncEvent event) {
+        }
+    }
+}
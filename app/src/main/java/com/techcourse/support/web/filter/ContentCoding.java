@@ -0,0 +1,81 @@
+package com.techcourse.support.web.filter;
+
+/**
+ * 지원하는 Content-Encoding. gzip 은 raw deflate 에 헤더와 CRC 트레일러를 직접 붙이고,
+ * deflate 는 HTTP 규격대로 zlib 형식을 쓴다.
+ */
+enum ContentCoding {
+
+    GZIP("gzip", true),
+    DEFLATE("deflate", false);
+
+    private final String token;
+    private final boolean nowrap;
+
+    ContentCoding(final String token, final boolean nowrap) {
+        this.token = token;
+        this.nowrap = nowrap;
+    }
+
+    String token() {
+        return token;
+    }
+
+    boolean nowrap() {
+        return nowrap;
+    }
+
+    /**
+     * Accept-Encoding 에서 q 값이 가장 높은 코딩을 고른다. 같으면 gzip 을 우선한다. 받을 수 있는 코딩이 없으면 null.
+     */
+    static ContentCoding negotiate(final String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+        ContentCoding selected = null;
+        var selectedQuality = 0.0;
+        var wildcardQuality = -1.0;
+        var gzipQuality = -1.0;
+        var deflateQuality = -1.0;
+        for (final var part : acceptEncoding.split(",")) {
+            final var fields = part.trim().split(";");
+            final var coding = fields[0].trim().toLowerCase();
+            final var quality = qualityOf(fields);
+            switch (coding) {
+                case "gzip", "x-gzip" -> gzipQuality = Math.max(gzipQuality, quality);
+                case "deflate" -> deflateQuality = quality;
+                case "*" -> wildcardQuality = quality;
+                default -> {
+                }
+            }
+        }
+        if (gzipQuality < 0) {
+            gzipQuality = wildcardQuality;
+        }
+        if (deflateQuality < 0) {
+            deflateQuality = wildcardQuality;
+        }
+        if (gzipQuality > selectedQuality) {
+            selected = GZIP;
+            selectedQuality = gzipQuality;
+        }
+        if (deflateQuality > selectedQuality) {
+            selected = DEFLATE;
+        }
+        return selected;
+    }
+
+    private static double qualityOf(final String[] fields) {
+        for (int i = 1; i < fields.length; i++) {
+            final var parameter = fields[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0.0;
+                }
+            }
+        }
+        return 1.0;
+    }
+}
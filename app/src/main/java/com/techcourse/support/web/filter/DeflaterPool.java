@@ -0,0 +1,44 @@
+package com.techcourse.support.web.filter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * Deflater 는 생성할 때마다 네이티브 zlib 컨텍스트를 할당하므로 요청마다 만들지 않고 재사용한다.
+ * 풀이 비면 새로 만들고, 반납할 때 풀이 가득 차 있으면 바로 end 로 네이티브 메모리를 해제한다.
+ */
+class DeflaterPool {
+
+    private final int level;
+    private final boolean nowrap;
+    private final BlockingQueue<Deflater> idle;
+
+    DeflaterPool(final int level, final boolean nowrap, final int capacity) {
+        this.level = level;
+        this.nowrap = nowrap;
+        this.idle = new ArrayBlockingQueue<>(capacity);
+    }
+
+    Deflater borrow() {
+        final var deflater = idle.poll();
+        if (deflater != null) {
+            return deflater;
+        }
+        return new Deflater(level, nowrap);
+    }
+
+    void release(final Deflater deflater) {
+        deflater.reset();
+        if (!idle.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    void close() {
+        Deflater deflater;
+        while ((deflater = idle.poll()) != null) {
+            deflater.end();
+        }
+    }
+}
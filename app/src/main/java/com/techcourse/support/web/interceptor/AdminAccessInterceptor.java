@@ -0,0 +1,52 @@
+package com.techcourse.support.web.interceptor;
+
+import com.interface21.webmvc.servlet.mvc.HandlerInterceptor;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Authorization: Bearer 헤더가 설정한 토큰과 같을 때만 관리용 핸들러를 실행한다. 다르면 403 으로 응답한다.
+ * 토큰은 길이와 상관없이 일정한 시간에 비교한다. 토큰을 설정하지 않은 환경에서는 {@link #denyAll()} 로 모든 요청을 막는다.
+ */
+public class AdminAccessInterceptor implements HandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminAccessInterceptor.class);
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final byte[] token;
+
+    public AdminAccessInterceptor(final String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("admin token must not be blank");
+        }
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private AdminAccessInterceptor() {
+        this.token = null;
+    }
+
+    public static AdminAccessInterceptor denyAll() {
+        return new AdminAccessInterceptor();
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+        final var authorization = request.getHeader("Authorization");
+        if (token != null && authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            final var presented = authorization.substring(BEARER_PREFIX.length()).getBytes(StandardCharsets.UTF_8);
+            if (MessageDigest.isEqual(presented, token)) {
+                return true;
+            }
+        }
+        log.warn("admin access denied. Request URI : {}, remote : {}", request.getRequestURI(), request.getRemoteAddr());
+        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+        return false;
+    }
+}
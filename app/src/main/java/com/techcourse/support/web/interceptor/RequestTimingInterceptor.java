@@ -0,0 +1,47 @@
+package com.techcourse.support.web.interceptor;
+
+import com.interface21.webmvc.servlet.mvc.HandlerInterceptor;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 핸들러 실행부터 렌더링까지 걸린 시간을 기록하고, slowThreshold 를 넘긴 요청은 경고로 남긴다.
+ */
+public class RequestTimingInterceptor implements HandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestTimingInterceptor.class);
+
+    private static final String START_ATTRIBUTE = RequestTimingInterceptor.class.getName() + ".START";
+
+    private final long slowThresholdNanos;
+
+    public RequestTimingInterceptor(final Duration slowThreshold) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response, final Object handler,
+                                final Exception ex) {
+        if (!(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        final var elapsedNanos = System.nanoTime() - start;
+        final var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (elapsedNanos > slowThresholdNanos) {
+            log.warn("slow request. Method : {}, Request URI : {}, elapsed : {}ms", request.getMethod(), request.getRequestURI(), elapsedMillis);
+            return;
+        }
+        log.debug("Method : {}, Request URI : {}, elapsed : {}ms", request.getMethod(), request.getRequestURI(), elapsedMillis);
+    }
+}
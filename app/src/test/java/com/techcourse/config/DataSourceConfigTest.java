@@ -0,0 +1,108 @@
+package com.techcourse.config;
+
+import com.techcourse.config.DataSourceConfig.Settings;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DataSourceConfigTest {
+
+    private static final String URL = "jdbc:h2:mem:data-source-config;DB_CLOSE_DELAY=-1";
+
+    @Test
+    void readJdbcProperties() {
+        final var properties = new Properties();
+        properties.setProperty("jdbc.url", URL);
+        properties.setProperty("jdbc.user", "sa");
+        properties.setProperty("jdbc.password", "secret");
+        properties.setProperty("jdbc.pool.maximum-size", "20");
+        properties.setProperty("jdbc.pool.minimum-idle", " 4 ");
+
+        assertThat(Settings.from(properties)).isEqualTo(new Settings(URL, "sa", "secret", 20, 4));
+    }
+
+    @Test
+    void useDefaultsForMissingOrInvalidProperties() {
+        final var properties = new Properties();
+        properties.setProperty("jdbc.pool.maximum-size", "ten");
+
+        final var settings = Settings.from(properties);
+
+        assertThat(settings.url()).isEqualTo("jdbc:h2:mem:test;DB_CLOSE_DELAY=-1;");
+        assertThat(settings.user()).isEmpty();
+        assertThat(settings.maximumPoolSize()).isEqualTo(10);
+        assertThat(settings.minimumIdle()).isEqualTo(2);
+    }
+
+    @Test
+    void warmUpNoMoreThanMaximumPoolSize() {
+        assertThat(new Settings(URL, "", "", 10, 2).warmUpSize()).isEqualTo(2);
+        assertThat(new Settings(URL, "", "", 3, 5).warmUpSize()).isEqualTo(3);
+    }
+
+    @Test
+    void applyPoolSettings() throws SQLException {
+        final var connectionPool = DataSourceConfig.createConnectionPool(new Settings(URL, "sa", "", 3, 1));
+        try {
+            assertThat(connectionPool.getMaxConnections()).isEqualTo(3);
+            try (final var connection = connectionPool.getConnection()) {
+                assertThat(connection.isValid(1)).isTrue();
+                assertThat(connectionPool.getActiveConnections()).isEqualTo(1);
+            }
+            assertThat(connectionPool.getActiveConnections()).isZero();
+        } finally {
+            connectionPool.dispose();
+        }
+    }
+
+    @Test
+    void prewarmOpensConfiguredNumberOfConnectionsBeforeReleasing() throws Exception {
+        final var dataSource = mock(DataSource.class);
+        final var first = mock(Connection.class);
+        final var second = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(first, second);
+
+        DataSourceConfig.prewarm(dataSource, 2).get(5, TimeUnit.SECONDS);
+
+        final var inOrder = inOrder(dataSource, first, second);
+        inOrder.verify(dataSource, times(2)).getConnection();
+        inOrder.verify(first).close();
+        inOrder.verify(second).close();
+    }
+
+    @Test
+    void prewarmReleasesOpenedConnectionsWhenOneFails() throws SQLException {
+        final var dataSource = mock(DataSource.class);
+        final var first = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(first).thenThrow(new SQLException("pool exhausted"));
+
+        final var prewarm = DataSourceConfig.prewarm(dataSource, 2);
+
+        assertThatThrownBy(() -> prewarm.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseInstanceOf(SQLException.class);
+        verify(first).close();
+    }
+
+    @Test
+    void closeDisposesPool() {
+        final var connectionPool = DataSourceConfig.createConnectionPool(new Settings(URL, "sa", "", 3, 1));
+
+        DataSourceConfig.close(connectionPool);
+
+        assertThatThrownBy(connectionPool::getConnection).isInstanceOf(IllegalStateException.class);
+    }
+}
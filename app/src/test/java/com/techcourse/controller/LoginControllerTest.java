@@ -0,0 +1,79 @@
+package com.techcourse.controller;
+
+import com.interface21.web.session.OffHeapSessionStore;
+import com.interface21.web.session.SessionStore;
+import com.interface21.webmvc.servlet.view.JspView;
+import com.techcourse.domain.User;
+import com.techcourse.repository.InMemoryUserRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LoginControllerTest {
+
+    private final LoginController loginController = new LoginController();
+    private SessionStore<User> originalStore;
+
+    @BeforeEach
+    void setUp() {
+        originalStore = UserSession.getStore();
+        UserSession.setStore(new OffHeapSessionStore<>(new UserSessionCodec(), 1, 1024, Duration.ofMinutes(30)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        UserSession.setStore(originalStore);
+    }
+
+    @Test
+    void respondServiceUnavailableWhenSessionStoreIsFull() {
+        final var first = loginRequest("session-1");
+        loginController.login(first, mock(HttpServletResponse.class));
+
+        final var second = loginRequest("session-2");
+        final var response = mock(HttpServletResponse.class);
+        final var modelAndView = loginController.login(second, response);
+
+        verify(response).setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        verify(response).setHeader("Retry-After", "60");
+        verify(second.getSession(), never()).setAttribute(UserSession.SESSION_KEY, 1L);
+        assertThat(modelAndView.getView()).isInstanceOf(JspView.class);
+        assertThat(UserSession.isLoggedIn(first.getSession())).isTrue();
+    }
+
+    @Test
+    void rejectLoginWhenUserDoesNotFitSession() {
+        final var password = "p".repeat(UserSessionCodec.MAXIMUM_FIELD_BYTES + 1);
+        InMemoryUserRepository.save(new User("oversize", password, null));
+        final var request = loginRequest("session-1");
+        when(request.getParameter("account")).thenReturn("oversize");
+        when(request.getParameter("password")).thenReturn(password);
+
+        final var modelAndView = loginController.login(request, mock(HttpServletResponse.class));
+
+        assertThat(modelAndView.getView()).hasFieldOrPropertyWithValue("viewName", JspView.REDIRECT_PREFIX + "/401.jsp");
+        assertThat(UserSession.isLoggedIn(request.getSession())).isFalse();
+    }
+
+    private static HttpServletRequest loginRequest(final String sessionId) {
+        final var request = mock(HttpServletRequest.class);
+        final var session = mock(HttpSession.class);
+        when(request.getSession()).thenReturn(session);
+        when(session.getId()).thenReturn(sessionId);
+        when(session.getAttribute(UserSession.SESSION_KEY)).thenReturn(null, 1L);
+        when(request.getParameter("account")).thenReturn("gugu");
+        when(request.getParameter("password")).thenReturn("password");
+        return request;
+    }
+}
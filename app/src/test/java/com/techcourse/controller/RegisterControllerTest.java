@@ -0,0 +1,67 @@
+package com.techcourse.controller;
+
+import com.interface21.webmvc.servlet.view.JspView;
+import com.techcourse.domain.User;
+import com.techcourse.repository.InMemoryUserRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RegisterControllerTest {
+
+    private final RegisterController registerController = new RegisterController();
+
+    @Test
+    void registerUserWithoutEmail() {
+        final var request = registerRequest("no-email", "password", null);
+
+        final var modelAndView = registerController.register(request, mock(HttpServletResponse.class));
+
+        assertThat(modelAndView.getView()).hasFieldOrPropertyWithValue("viewName", JspView.REDIRECT_PREFIX + "/index.jsp");
+        assertThat(InMemoryUserRepository.findByAccount("no-email")).hasValueSatisfying(user -> assertThat(user.getEmail()).isNull());
+    }
+
+    @Test
+    void respondBadRequestWhenFieldDoesNotFitSession() {
+        final var request = registerRequest("long-email", "password", "e".repeat(UserSessionCodec.MAXIMUM_FIELD_BYTES + 1));
+        final var response = mock(HttpServletResponse.class);
+
+        final var modelAndView = registerController.register(request, response);
+
+        verify(response).setStatus(HttpServletResponse.SC_BAD_REQUEST);
+        assertThat(modelAndView.getView()).hasFieldOrPropertyWithValue("viewName", "/register.jsp");
+        assertThat(InMemoryUserRepository.findByAccount("long-email")).isEmpty();
+    }
+
+    @Test
+    void respondServiceUnavailableWhenRepositoryIsFull() {
+        final var request = registerRequest("full", "password", "full@woowahan.com");
+        final var response = mock(HttpServletResponse.class);
+
+        try (final var repository = mockStatic(InMemoryUserRepository.class)) {
+            repository.when(() -> InMemoryUserRepository.save(any(User.class)))
+                    .thenThrow(new IllegalStateException("InMemoryUserRepository is full. maximum size : 100000"));
+
+            final var modelAndView = registerController.register(request, response);
+
+            verify(response).setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            verify(response).setHeader("Retry-After", "60");
+            assertThat(modelAndView.getView()).hasFieldOrPropertyWithValue("viewName", "/503.jsp");
+        }
+    }
+
+    private static HttpServletRequest registerRequest(final String account, final String password, final String email) {
+        final var request = mock(HttpServletRequest.class);
+        when(request.getParameter("account")).thenReturn(account);
+        when(request.getParameter("password")).thenReturn(password);
+        when(request.getParameter("email")).thenReturn(email);
+        return request;
+    }
+}
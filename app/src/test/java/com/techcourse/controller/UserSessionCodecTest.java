@@ -0,0 +1,56 @@
+package com.techcourse.controller;
+
+import com.techcourse.domain.User;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserSessionCodecTest {
+
+    private final UserSessionCodec codec = new UserSessionCodec();
+
+    @Test
+    void roundTrip() {
+        final var decoded = roundTrip(new User(7L, "gugu", "password", "hkkang@woowahan.com"));
+
+        assertThat(decoded.getId()).isEqualTo(7L);
+        assertThat(decoded.getAccount()).isEqualTo("gugu");
+        assertThat(decoded.checkPassword("password")).isTrue();
+        assertThat(decoded.getEmail()).isEqualTo("hkkang@woowahan.com");
+    }
+
+    @Test
+    void keepNullField() {
+        final var decoded = roundTrip(new User(7L, "gugu", "password", null));
+
+        assertThat(decoded.getEmail()).isNull();
+        assertThat(decoded.getAccount()).isEqualTo("gugu");
+    }
+
+    @Test
+    void largestUserFitsSessionSlot() {
+        final var field = "가".repeat(UserSessionCodec.MAXIMUM_FIELD_BYTES / 3);
+        final var user = new User(7L, field, field, field);
+
+        assertThat(UserSessionCodec.fits(user)).isTrue();
+        assertThat(roundTrip(user).getEmail()).isEqualTo(field);
+    }
+
+    @Test
+    void rejectOversizeField() {
+        final var user = new User(7L, "gugu", "password", "e".repeat(UserSessionCodec.MAXIMUM_FIELD_BYTES + 1));
+
+        assertThat(UserSessionCodec.fits(user)).isFalse();
+        assertThatThrownBy(() -> codec.encode(user, ByteBuffer.allocate(1024)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private User roundTrip(final User user) {
+        final var buffer = ByteBuffer.allocate(1024 - 16);
+        codec.encode(user, buffer);
+        return codec.decode(buffer.flip());
+    }
+}
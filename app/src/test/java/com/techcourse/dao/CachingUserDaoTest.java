@@ -0,0 +1,70 @@
+package com.techcourse.dao;
+
+import com.interface21.jdbc.core.JdbcTemplate;
+import com.interface21.jdbc.datasource.DataSourceTransactionManager;
+import com.interface21.transaction.TransactionDefinition;
+import com.techcourse.config.DataSourceConfig;
+import com.techcourse.domain.User;
+import com.techcourse.support.jdbc.init.DatabasePopulatorUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingUserDaoTest {
+
+    private CachingUserDao userDao;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        DatabasePopulatorUtils.execute(DataSourceConfig.getInstance());
+        final var jdbcTemplate = new JdbcTemplate(DataSourceConfig.getInstance());
+        jdbcTemplate.update("truncate table users restart identity");
+
+        userDao = new CachingUserDao(jdbcTemplate);
+        transactionManager = new DataSourceTransactionManager(DataSourceConfig.getInstance());
+        userDao.insert(new User("gugu", "password", "hkkang@woowahan.com"));
+    }
+
+    @Test
+    void evictPreviousAccountWhenAccountChanges() {
+        final var cached = userDao.findByAccount("gugu");
+
+        userDao.update(new User(cached.getId(), "kyle", cached.getPassword(), cached.getEmail()));
+
+        assertThat(userDao.findByAccount("gugu")).isNull();
+        assertThat(userDao.findByAccount("kyle").getId()).isEqualTo(cached.getId());
+        assertThat(userDao.findById(cached.getId()).getAccount()).isEqualTo("kyle");
+    }
+
+    @Test
+    void returnCopiesOfCachedUsers() {
+        final var first = userDao.findById(1L);
+        first.changePassword("changed");
+
+        assertThat(userDao.findById(1L).getPassword()).isEqualTo("password");
+    }
+
+    @Test
+    void doNotCacheRowsReadInRolledBackTransaction() {
+        final var status = transactionManager.getTransaction(TransactionDefinition.DEFAULT);
+        userDao.insert(new User("kyle", "password", "kyle@woowahan.com"));
+        assertThat(userDao.findByAccount("kyle")).isNotNull();
+        transactionManager.rollback(status);
+
+        assertThat(userDao.findByAccount("kyle")).isNull();
+    }
+
+    @Test
+    void readOwnUpdateInsideTransaction() {
+        final var cached = userDao.findById(1L);
+        final var status = transactionManager.getTransaction(TransactionDefinition.DEFAULT);
+
+        userDao.update(new User(cached.getId(), cached.getAccount(), "changed", cached.getEmail()));
+        assertThat(userDao.findById(1L).getPassword()).isEqualTo("changed");
+        transactionManager.rollback(status);
+
+        assertThat(userDao.findById(1L).getPassword()).isEqualTo("password");
+    }
+}
@@ -1,5 +1,7 @@
 package com.techcourse.dao;
 
+import com.interface21.jdbc.core.JdbcTemplate;
+import com.interface21.jdbc.core.KeysetCursor;
 import com.techcourse.config.DataSourceConfig;
 import com.techcourse.domain.User;
 import com.techcourse.support.jdbc.init.DatabasePopulatorUtils;
@@ -15,6 +17,8 @@ class UserDaoTest {
     @BeforeEach
     void setup() {
         DatabasePopulatorUtils.execute(DataSourceConfig.getInstance());
+        // account 는 unique 가 아니므로 테스트마다 비워 findByAccount 가 한 행만 보게 한다.
+        new JdbcTemplate(DataSourceConfig.getInstance()).update("truncate table users restart identity");
 
         userDao = new UserDao(DataSourceConfig.getInstance());
         final var user = new User("gugu", "password", "hkkang@woowahan.com");
@@ -28,6 +32,19 @@ class UserDaoTest {
         assertThat(users).isNotEmpty();
     }
 
+    @Test
+    void findPage() {
+        userDao.insert(new User("kyle", "password", "kyle@woowahan.com"));
+        userDao.insert(new User("neo", "password", "neo@woowahan.com"));
+
+        final var first = userDao.findPage(KeysetCursor.first(), 2);
+        final var second = userDao.findPage(KeysetCursor.decode(first.next().encode()), 2);
+
+        assertThat(first.items()).hasSize(2);
+        assertThat(second.items()).isNotEmpty();
+        assertThat(second.items().get(0).getId()).isGreaterThan(first.items().get(1).getId());
+    }
+
     @Test
     void findById() {
         final var user = userDao.findById(1L);
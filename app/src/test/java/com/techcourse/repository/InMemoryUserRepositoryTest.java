@@ -0,0 +1,60 @@
+package com.techcourse.repository;
+
+import com.techcourse.domain.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryUserRepositoryTest {
+
+    @Test
+    void saveAssignsIdAndIndexesByAccount() {
+        final var saved = InMemoryUserRepository.save(new User("save-gugu", "password", "hkkang@woowahan.com"));
+
+        assertThat(InMemoryUserRepository.findById(saved.getId())).contains(saved);
+        assertThat(InMemoryUserRepository.findByAccount("save-gugu")).contains(saved);
+    }
+
+    @Test
+    void saveExistingAccountKeepsId() {
+        final var saved = InMemoryUserRepository.save(new User("update-gugu", "password", "hkkang@woowahan.com"));
+
+        final var updated = InMemoryUserRepository.save(new User("update-gugu", "password99", "hkkang@woowahan.com"));
+
+        assertThat(updated.getId()).isEqualTo(saved.getId());
+        assertThat(InMemoryUserRepository.findById(saved.getId()).orElseThrow().getPassword()).isEqualTo("password99");
+    }
+
+    @Test
+    void lastModifiedIncreasesOnEverySave() {
+        InMemoryUserRepository.save(new User("modified-gugu", "password", "hkkang@woowahan.com"));
+        final var first = InMemoryUserRepository.lastModified("modified-gugu");
+
+        InMemoryUserRepository.save(new User("modified-gugu", "password2", "hkkang@woowahan.com"));
+
+        assertThat(InMemoryUserRepository.lastModified("modified-gugu")).isGreaterThan(first);
+        assertThat(InMemoryUserRepository.lastModified("unknown-gugu")).isEqualTo(-1);
+    }
+
+    @Test
+    void concurrentSavesGetUniqueIds() throws InterruptedException {
+        final var ids = ConcurrentHashMap.<Long>newKeySet();
+        final var executor = Executors.newFixedThreadPool(8);
+        final var users = 200;
+
+        for (int i = 0; i < users; i++) {
+            final var account = "concurrent-gugu-" + i;
+            executor.submit(() -> ids.add(InMemoryUserRepository.save(new User(account, "password", "email")).getId()));
+        }
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        assertThat(ids).hasSize(users);
+        assertThat(Set.copyOf(InMemoryUserRepository.findAll())).hasSizeGreaterThanOrEqualTo(users);
+    }
+}
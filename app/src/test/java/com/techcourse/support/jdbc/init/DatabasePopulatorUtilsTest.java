@@ -0,0 +1,44 @@
+package com.techcourse.support.jdbc.init;
+
+import com.interface21.dao.DataAccessException;
+import com.interface21.jdbc.core.JdbcTemplate;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DatabasePopulatorUtilsTest {
+
+    private JdbcDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setUrl("jdbc:h2:mem:populator;DB_CLOSE_DELAY=-1;");
+        dataSource.setUser("");
+        dataSource.setPassword("");
+    }
+
+    @Test
+    void executeScriptAndLoadCsv() {
+        new JdbcTemplate(dataSource).update("drop all objects");
+
+        DatabasePopulatorUtils.execute(dataSource, "populator/schema.sql",
+                "populator/users.csv", "populator/user_history.csv");
+
+        assertThat(count("users")).isEqualTo(2);
+        assertThat(count("user_history")).isEqualTo(3);
+    }
+
+    @Test
+    void missingScriptFails() {
+        assertThatThrownBy(() -> DatabasePopulatorUtils.execute(dataSource, "populator/missing.sql"))
+                .isInstanceOf(DataAccessException.class);
+    }
+
+    private long count(final String table) {
+        return new JdbcTemplate(dataSource).queryForObject("select count(*) from " + table, rs -> rs.getLong(1));
+    }
+}
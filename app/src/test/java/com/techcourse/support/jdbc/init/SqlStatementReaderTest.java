@@ -0,0 +1,46 @@
+package com.techcourse.support.jdbc.init;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqlStatementReaderTest {
+
+    @Test
+    void splitStatements() throws IOException {
+        final var script = """
+                -- comment; with semicolon
+                create table t (a varchar(10));
+                /* block ; comment */ insert into t values ('x;y', 'it''s');;
+                insert into "we;ird" values (1)
+                """;
+
+        assertThat(readAll(script)).containsExactly(
+                "create table t (a varchar(10))",
+                "insert into t values ('x;y', 'it''s')",
+                "insert into \"we;ird\" values (1)");
+    }
+
+    @Test
+    void unterminatedLiteral() {
+        assertThatThrownBy(() -> readAll("insert into t values ('x);"))
+                .isInstanceOf(IOException.class);
+    }
+
+    private List<String> readAll(final String script) throws IOException {
+        final var statements = new ArrayList<String>();
+        try (final var reader = new SqlStatementReader(new StringReader(script))) {
+            String statement;
+            while ((statement = reader.next()) != null) {
+                statements.add(statement);
+            }
+        }
+        return statements;
+    }
+}
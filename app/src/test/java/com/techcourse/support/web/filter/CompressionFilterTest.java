@@ -0,0 +1,302 @@
+package com.techcourse.support.web.filter;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CompressionFilterTest {
+
+    private static final int MIN_SIZE = 1024;
+
+    private final ByteArrayOutputStream sent = new ByteArrayOutputStream();
+    private final Map<String, String> headers = new HashMap<>();
+    private HttpServletResponse response;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        response = mock(HttpServletResponse.class);
+        when(response.getStatus()).thenReturn(200);
+        when(response.getContentType()).thenReturn("application/json");
+        when(response.getOutputStream()).thenReturn(new CapturingOutputStream(sent));
+        doAnswer(invocation -> headers.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(response).setHeader(anyString(), anyString());
+        when(response.containsHeader(anyString())).thenAnswer(invocation -> headers.containsKey(invocation.getArgument(0)));
+    }
+
+    @Test
+    void gzipRoundTrip() throws IOException {
+        final var body = json(4 * 1024);
+        final var wrapper = wrapper(ContentCoding.GZIP, pool(ContentCoding.GZIP));
+
+        wrapper.getOutputStream().write(body);
+        wrapper.finish();
+
+        final var compressed = sent.toByteArray();
+        assertThat(headers).containsEntry("Content-Encoding", "gzip");
+        assertThat(Arrays.copyOf(compressed, 3)).containsExactly(0x1f, 0x8b, Deflater.DEFLATED);
+        assertThat(compressed.length).isLessThan(body.length);
+        assertThat(gunzip(compressed)).isEqualTo(body);
+        verify(response, never()).setContentLengthLong(anyLong());
+    }
+
+    @Test
+    void gzipTrailerHoldsCrcAndLength() throws IOException {
+        final var body = json(3000);
+        final var wrapper = wrapper(ContentCoding.GZIP, pool(ContentCoding.GZIP));
+
+        wrapper.getOutputStream().write(body);
+        wrapper.finish();
+
+        final var compressed = sent.toByteArray();
+        final var crc = new CRC32();
+        crc.update(body);
+        assertThat(readIntLittleEndian(compressed, compressed.length - 8)).isEqualTo((int) crc.getValue());
+        assertThat(readIntLittleEndian(compressed, compressed.length - 4)).isEqualTo(body.length);
+    }
+
+    @Test
+    void deflateRoundTrip() throws IOException {
+        final var body = json(4 * 1024);
+        final var wrapper = wrapper(ContentCoding.DEFLATE, pool(ContentCoding.DEFLATE));
+
+        wrapper.getOutputStream().write(body);
+        wrapper.finish();
+
+        assertThat(headers).containsEntry("Content-Encoding", "deflate");
+        try (final var in = new InflaterInputStream(new ByteArrayInputStream(sent.toByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(body);
+        }
+    }
+
+    @Test
+    void sendSmallResponseUncompressedWithContentLength() throws IOException {
+        final var body = json(MIN_SIZE);
+        final var wrapper = wrapper(ContentCoding.GZIP, pool(ContentCoding.GZIP));
+
+        wrapper.getOutputStream().write(body);
+        wrapper.finish();
+
+        assertThat(sent.toByteArray()).isEqualTo(body);
+        assertThat(headers).doesNotContainKey("Content-Encoding");
+        verify(response).setContentLengthLong(MIN_SIZE);
+    }
+
+    @Test
+    void compressOnceBodyExceedsMinSize() throws IOException {
+        final var body = json(MIN_SIZE + 1);
+        final var wrapper = wrapper(ContentCoding.GZIP, pool(ContentCoding.GZIP));
+
+        wrapper.getOutputStream().write(body);
+        wrapper.finish();
+
+        assertThat(headers).containsEntry("Content-Encoding", "gzip");
+        assertThat(gunzip(sent.toByteArray())).isEqualTo(body);
+        verify(response, never()).setContentLengthLong(anyLong());
+    }
+
+    @Test
+    void keepDeclaredContentLengthBelowMinSize() throws IOException {
+        final var body = json(100);
+        final var wrapper = wrapper(ContentCoding.GZIP, pool(ContentCoding.GZIP));
+
+        wrapper.setContentLength(body.length);
+        wrapper.getOutputStream().write(body);
+        wrapper.getOutputStream().flush();
+
+        assertThat(sent.toByteArray()).isEqualTo(body);
+        verify(response).setContentLengthLong(body.length);
+        wrapper.finish();
+        verify(response, times(1)).setContentLengthLong(anyLong());
+    }
+
+    @Test
+    void dropDeclaredContentLengthWhenCompressing() throws IOException {
+        final var body = json(2 * MIN_SIZE);
+        final var wrapper = wrapper(ContentCoding.GZIP, pool(ContentCoding.GZIP));
+
+        wrapper.setContentLength(body.length);
+        wrapper.getOutputStream().write(body);
+        wrapper.finish();
+
+        assertThat(gunzip(sent.toByteArray())).isEqualTo(body);
+        verify(response, never()).setContentLengthLong(anyLong());
+    }
+
+    @Test
+    void flushEmitsEverythingWrittenSoFar() throws Exception {
+        final var body = json(2 * MIN_SIZE);
+        final var wrapper = wrapper(ContentCoding.GZIP, pool(ContentCoding.GZIP));
+
+        wrapper.getOutputStream().write(body);
+        wrapper.getOutputStream().flush();
+
+        final var flushed = sent.toByteArray();
+        assertThat(Arrays.copyOfRange(flushed, flushed.length - 4, flushed.length))
+                .containsExactly(0x00, 0x00, 0xff, 0xff);
+        assertThat(inflateRaw(Arrays.copyOfRange(flushed, 10, flushed.length), body.length)).isEqualTo(body);
+
+        wrapper.finish();
+        assertThat(gunzip(sent.toByteArray())).isEqualTo(body);
+    }
+
+    @Test
+    void returnDeflaterToPool() throws IOException {
+        final var pool = spy(pool(ContentCoding.GZIP));
+        final var wrapper = wrapper(ContentCoding.GZIP, pool);
+
+        wrapper.getOutputStream().write(json(2 * MIN_SIZE));
+        wrapper.finish();
+        wrapper.finish();
+
+        final var released = ArgumentCaptor.forClass(Deflater.class);
+        verify(pool, times(1)).release(released.capture());
+        assertThat(pool.borrow()).isSameAs(released.getValue());
+    }
+
+    @Test
+    void doNotBorrowDeflaterForSmallResponse() throws IOException {
+        final var pool = spy(pool(ContentCoding.GZIP));
+        final var wrapper = wrapper(ContentCoding.GZIP, pool);
+
+        wrapper.getOutputStream().write(json(100));
+        wrapper.finish();
+
+        verify(pool, never()).borrow();
+        verify(pool, never()).release(any());
+    }
+
+    @Test
+    void rejectWriteAfterFinish() throws IOException {
+        final var wrapper = wrapper(ContentCoding.GZIP, pool(ContentCoding.GZIP));
+        final var outputStream = wrapper.getOutputStream();
+        outputStream.write(json(2 * MIN_SIZE));
+        wrapper.finish();
+
+        assertThatThrownBy(() -> outputStream.write(1)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void finishAsyncResponseOnCompletion() throws Exception {
+        final var body = json(4 * 1024);
+        final var request = mock(HttpServletRequest.class);
+        final var asyncContext = mock(AsyncContext.class);
+        when(request.getHeader("Accept-Encoding")).thenReturn("gzip");
+        when(request.getMethod()).thenReturn("GET");
+        when(request.isAsyncStarted()).thenReturn(true);
+        when(request.getAsyncContext()).thenReturn(asyncContext);
+        final var filter = new CompressionFilter();
+        filter.init(null);
+
+        filter.doFilter(request, response, (req, res) -> res.getOutputStream().write(body));
+
+        final var listener = ArgumentCaptor.forClass(AsyncListener.class);
+        verify(asyncContext).addListener(listener.capture());
+        final var beforeCompletion = sent.size();
+        listener.getValue().onComplete(null);
+
+        assertThat(sent.size()).isGreaterThan(beforeCompletion);
+        assertThat(gunzip(sent.toByteArray())).isEqualTo(body);
+        filter.destroy();
+    }
+
+    private CompressingResponseWrapper wrapper(final ContentCoding coding, final DeflaterPool pool) {
+        return new CompressingResponseWrapper(response, coding, pool, MIN_SIZE);
+    }
+
+    private static DeflaterPool pool(final ContentCoding coding) {
+        return new DeflaterPool(Deflater.DEFAULT_COMPRESSION, coding.nowrap(), 4);
+    }
+
+    private static byte[] json(final int length) {
+        final var text = new StringBuilder();
+        while (text.length() < length) {
+            text.append("{\"id\":").append(text.length()).append(",\"account\":\"gugu\"},");
+        }
+        return text.substring(0, length).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] gunzip(final byte[] compressed) throws IOException {
+        try (final var in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] inflateRaw(final byte[] compressed, final int expectedLength) throws Exception {
+        final var inflater = new Inflater(true);
+        inflater.setInput(compressed);
+        final var inflated = new byte[expectedLength];
+        var length = 0;
+        while (length < expectedLength && !inflater.needsInput()) {
+            length += inflater.inflate(inflated, length, expectedLength - length);
+        }
+        inflater.end();
+        return Arrays.copyOf(inflated, length);
+    }
+
+    private static int readIntLittleEndian(final byte[] buffer, final int offset) {
+        return (buffer[offset] & 0xff)
+                | (buffer[offset + 1] & 0xff) << 8
+                | (buffer[offset + 2] & 0xff) << 16
+                | (buffer[offset + 3] & 0xff) << 24;
+    }
+
+    private static class CapturingOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream sink;
+
+        CapturingOutputStream(final ByteArrayOutputStream sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void write(final int b) {
+            sink.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            sink.write(b, off, len);
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.techcourse.support.web.filter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentCodingTest {
+
+    @Test
+    void preferGzipOnTie() {
+        assertThat(ContentCoding.negotiate("deflate, gzip")).isEqualTo(ContentCoding.GZIP);
+        assertThat(ContentCoding.negotiate("*")).isEqualTo(ContentCoding.GZIP);
+    }
+
+    @Test
+    void chooseHighestQuality() {
+        assertThat(ContentCoding.negotiate("gzip;q=0.4, deflate;q=0.8")).isEqualTo(ContentCoding.DEFLATE);
+        assertThat(ContentCoding.negotiate("br, deflate")).isEqualTo(ContentCoding.DEFLATE);
+    }
+
+    @Test
+    void rejectZeroQuality() {
+        assertThat(ContentCoding.negotiate("gzip;q=0, deflate;q=0")).isNull();
+        assertThat(ContentCoding.negotiate("identity")).isNull();
+        assertThat(ContentCoding.negotiate(null)).isNull();
+    }
+}
@@ -0,0 +1,63 @@
+package com.techcourse.support.web.interceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdminAccessInterceptorTest {
+
+    private final AdminAccessInterceptor interceptor = new AdminAccessInterceptor("secret");
+
+    @Test
+    void allowMatchingBearerToken() {
+        final var request = requestWith("Bearer secret");
+        final var response = mock(HttpServletResponse.class);
+
+        assertThat(interceptor.preHandle(request, response, new Object())).isTrue();
+        verify(response, never()).setStatus(HttpServletResponse.SC_FORBIDDEN);
+    }
+
+    @Test
+    void rejectAnonymousRequest() {
+        final var response = mock(HttpServletResponse.class);
+
+        assertThat(interceptor.preHandle(requestWith(null), response, new Object())).isFalse();
+        verify(response).setStatus(HttpServletResponse.SC_FORBIDDEN);
+    }
+
+    @Test
+    void rejectWrongToken() {
+        final var response = mock(HttpServletResponse.class);
+
+        assertThat(interceptor.preHandle(requestWith("Bearer secret2"), response, new Object())).isFalse();
+        verify(response).setStatus(HttpServletResponse.SC_FORBIDDEN);
+    }
+
+    @Test
+    void blankTokenIsRejected() {
+        assertThatThrownBy(() -> new AdminAccessInterceptor(" "))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void denyAllRejectsEveryRequest() {
+        final var response = mock(HttpServletResponse.class);
+
+        assertThat(AdminAccessInterceptor.denyAll().preHandle(requestWith("Bearer "), response, new Object())).isFalse();
+        verify(response).setStatus(HttpServletResponse.SC_FORBIDDEN);
+    }
+
+    private static HttpServletRequest requestWith(final String authorization) {
+        final var request = mock(HttpServletRequest.class);
+        when(request.getHeader("Authorization")).thenReturn(authorization);
+        when(request.getRequestURI()).thenReturn("/admin/metrics");
+        return request;
+    }
+}
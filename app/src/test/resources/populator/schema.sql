@@ -0,0 +1,20 @@
+-- users, user_history 를 새 DB 에 만든다; 세미콜론이 들어간 주석도 건너뛴다
+create table if not exists users (
+    id bigint auto_increment,
+    account varchar(100) not null,
+    password varchar(100) not null,
+    email varchar(100) not null,
+    primary key(id)
+);
+
+/* user_history; */
+create table if not exists user_history (
+    id bigint auto_increment,
+    user_id bigint not null,
+    account varchar(100) not null,
+    password varchar(100) not null,
+    email varchar(100) not null,
+    created_at datetime not null,
+    created_by varchar(100) not null,
+    primary key(id)
+);
@@ -0,0 +1,23 @@
+package com.interface21.cache;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+public interface Cache<K, V> {
+
+    /**
+     * 캐시에 값이 없으면 loader 로 읽어 채운 뒤 반환한다.
+     * loader 가 null 을 반환하면 캐시에 저장하지 않는다.
+     */
+    V get(final K key, final Function<? super K, ? extends V> loader);
+
+    Optional<V> getIfPresent(final K key);
+
+    void put(final K key, final V value);
+
+    void evict(final K key);
+
+    void clear();
+
+    int size();
+}
@@ -0,0 +1,186 @@
+package com.interface21.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 최대 크기와 TTL 을 가진 LRU 캐시.
+ * 키 해시로 나눈 세그먼트마다 별도의 락을 두어 읽기 경합을 줄이고,
+ * 같은 키에 대한 동시 미스는 한 스레드만 loader 를 실행하고 나머지는 그 결과를 기다린다.
+ */
+public class LruCache<K, V> implements Cache<K, V> {
+
+    private static final int SEGMENT_COUNT = 16;
+    private static final int MIN_SIZE_FOR_SEGMENTS = 64;
+
+    private final Segment<K, V>[] segments;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final Map<K, CompletableFuture<V>> loadings = new ConcurrentHashMap<>();
+
+    public LruCache(final int maximumSize, final Duration ttl) {
+        this(maximumSize, ttl, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    LruCache(final int maximumSize, final Duration ttl, final LongSupplier ticker) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        final var segmentCount = maximumSize < MIN_SIZE_FOR_SEGMENTS ? 1 : SEGMENT_COUNT;
+        final var segmentCapacity = maximumSize / segmentCount;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentCapacity);
+        }
+        this.ttlNanos = ttl == null || ttl.isZero() ? 0L : ttl.toNanos();
+        this.ticker = ticker;
+    }
+
+    @Override
+    public V get(final K key, final Function<? super K, ? extends V> loader) {
+        final var segment = segmentFor(key);
+        final var cached = segment.get(key, ticker.getAsLong());
+        if (cached != null) {
+            return cached;
+        }
+
+        final var loading = new CompletableFuture<V>();
+        final var inFlight = loadings.putIfAbsent(key, loading);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        try {
+            final V value = loader.apply(key);
+            if (value != null) {
+                segment.putIf(key, value, expiresAt(), () -> loadings.get(key) == loading);
+            }
+            loading.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadings.remove(key, loading);
+        }
+    }
+
+    private V await(final CompletableFuture<V> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<V> getIfPresent(final K key) {
+        return Optional.ofNullable(segmentFor(key).get(key, ticker.getAsLong()));
+    }
+
+    @Override
+    public void put(final K key, final V value) {
+        Objects.requireNonNull(value, "value");
+        segmentFor(key).putIf(key, value, expiresAt(), () -> true);
+    }
+
+    /**
+     * 진행 중인 로딩이 있다면 그 결과도 캐시에 저장되지 않도록 함께 끊는다.
+     */
+    @Override
+    public void evict(final K key) {
+        loadings.remove(key);
+        segmentFor(key).remove(key);
+    }
+
+    @Override
+    public void clear() {
+        loadings.clear();
+        for (final var segment : segments) {
+            segment.clear();
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (final var segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private long expiresAt() {
+        return ttlNanos == 0L ? Long.MAX_VALUE : ticker.getAsLong() + ttlNanos;
+    }
+
+    private Segment<K, V> segmentFor(final K key) {
+        final var hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private interface Condition {
+        boolean test();
+    }
+
+    private static final class Segment<K, V> {
+
+        private final LinkedHashMap<K, Entry<V>> entries;
+
+        Segment(final int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<K, Entry<V>> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        synchronized V get(final K key, final long now) {
+            final var entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() - now <= 0) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+
+        synchronized void putIf(final K key, final V value, final long expiresAt, final Condition condition) {
+            if (condition.test()) {
+                entries.put(key, new Entry<>(value, expiresAt));
+            }
+        }
+
+        synchronized void remove(final K key) {
+            entries.remove(key);
+        }
+
+        synchronized void clear() {
+            entries.clear();
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.interface21.cache;
+
+import com.interface21.transaction.support.TransactionSynchronization;
+import com.interface21.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 트랜잭션 안에서 호출된 evict, clear 를 커밋 이후로 미루는 캐시 데코레이터.
+ * 롤백되면 무효화도 일어나지 않으며, 트랜잭션 밖에서는 즉시 반영한다.
+ * 한 트랜잭션 안의 무효화는 모아 두었다가 커밋 후 콜백 하나에서 한꺼번에 처리한다.
+ * <p>
+ * 트랜잭션 안에서는 캐시를 읽지도 채우지도 않는다. 그 안에서 읽은 값은 커밋되지 않은 변경을 담고 있을 수 있어
+ * 롤백되면 캐시에 없던 일이 남고, 캐시된 값은 같은 트랜잭션이 방금 바꾼 내용을 모르기 때문이다.
+ */
+public class TransactionAwareCache<K, V> implements Cache<K, V> {
+
+    private final Cache<K, V> target;
+    private final ThreadLocal<PendingInvalidation> pending = new ThreadLocal<>();
+
+    public TransactionAwareCache(final Cache<K, V> target) {
+        this.target = target;
+    }
+
+    @Override
+    public V get(final K key, final Function<? super K, ? extends V> loader) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            return loader.apply(key);
+        }
+        return target.get(key, loader);
+    }
+
+    @Override
+    public Optional<V> getIfPresent(final K key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            return Optional.empty();
+        }
+        return target.getIfPresent(key);
+    }
+
+    /**
+     * 트랜잭션 안에서는 값을 넣지 않고 커밋 후에 그 키를 무효화한다. 다음 조회가 커밋된 값을 읽어 채운다.
+     */
+    @Override
+    public void put(final K key, final V value) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingInvalidation().keys.add(key);
+            return;
+        }
+        target.put(key, value);
+    }
+
+    @Override
+    public void evict(final K key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            target.evict(key);
+            return;
+        }
+        pendingInvalidation().keys.add(key);
+    }
+
+    @Override
+    public void clear() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            target.clear();
+            return;
+        }
+        pendingInvalidation().clearAll = true;
+    }
+
+    @Override
+    public int size() {
+        return target.size();
+    }
+
+    private PendingInvalidation pendingInvalidation() {
+        final var epoch = TransactionSynchronizationManager.getSynchronizationEpoch();
+        var invalidation = pending.get();
+        if (invalidation == null || invalidation.epoch != epoch) {
+            invalidation = new PendingInvalidation(epoch);
+            pending.set(invalidation);
+            TransactionSynchronizationManager.registerSynchronization(invalidation);
+        }
+        return invalidation;
+    }
+
+    private class PendingInvalidation implements TransactionSynchronization {
+
+        private final long epoch;
+        private final Set<K> keys = new HashSet<>();
+        private boolean clearAll;
+
+        private PendingInvalidation(final long epoch) {
+            this.epoch = epoch;
+        }
+
+        @Override
+        public void afterCommit() {
+            if (clearAll) {
+                target.clear();
+                return;
+            }
+            keys.forEach(target::evict);
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            if (pending.get() == this) {
+                pending.remove();
+            }
+        }
+    }
+}
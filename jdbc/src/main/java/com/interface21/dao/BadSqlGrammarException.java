@@ -0,0 +1,13 @@
+package com.interface21.dao;
+
+/**
+ * SQL 문법 오류나 존재하지 않는 테이블, 컬럼을 참조했다.
+ */
+public class BadSqlGrammarException extends DataAccessException {
+
+    private static final long serialVersionUID = 1L;
+
+    public BadSqlGrammarException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
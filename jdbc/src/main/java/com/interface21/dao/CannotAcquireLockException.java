@@ -0,0 +1,13 @@
+package com.interface21.dao;
+
+/**
+ * 락 대기 시간을 초과했다.
+ */
+public class CannotAcquireLockException extends TransientDataAccessException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CannotAcquireLockException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
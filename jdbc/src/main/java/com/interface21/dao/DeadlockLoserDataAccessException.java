@@ -0,0 +1,13 @@
+package com.interface21.dao;
+
+/**
+ * 데드락이나 직렬화 실패로 트랜잭션이 희생되었다.
+ */
+public class DeadlockLoserDataAccessException extends TransientDataAccessException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DeadlockLoserDataAccessException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
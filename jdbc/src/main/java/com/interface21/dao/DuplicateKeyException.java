@@ -0,0 +1,13 @@
+package com.interface21.dao;
+
+/**
+ * unique 제약 조건을 위반했다. 재시도해도 성공하지 않는다.
+ */
+public class DuplicateKeyException extends DataAccessException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DuplicateKeyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
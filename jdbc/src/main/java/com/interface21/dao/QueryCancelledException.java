@@ -0,0 +1,17 @@
+package com.interface21.dao;
+
+/**
+ * QueryCancellation 으로 취소된 요청에서 쿼리를 실행하려 했거나, 실행 중인 쿼리가 취소되었다.
+ */
+public class QueryCancelledException extends DataAccessException {
+
+    private static final long serialVersionUID = 1L;
+
+    public QueryCancelledException(String message) {
+        super(message);
+    }
+
+    public QueryCancelledException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,13 @@
+package com.interface21.dao;
+
+/**
+ * 커넥션이 끊기거나 얻지 못했다.
+ */
+public class TransientConnectionException extends TransientDataAccessException {
+
+    private static final long serialVersionUID = 1L;
+
+    public TransientConnectionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,14 @@
+package com.interface21.dao;
+
+/**
+ * 같은 작업을 다시 시도하면 성공할 수 있는 오류.
+ * 재시도 경로에서 자주 만들어지므로 스택 트레이스를 채우지 않는다. 원인은 cause 의 스택 트레이스로 확인한다.
+ */
+public abstract class TransientDataAccessException extends DataAccessException {
+
+    private static final long serialVersionUID = 1L;
+
+    protected TransientDataAccessException(String message, Throwable cause) {
+        super(message, cause, true, false);
+    }
+}
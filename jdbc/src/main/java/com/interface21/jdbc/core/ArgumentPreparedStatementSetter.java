@@ -0,0 +1,23 @@
+package com.interface21.jdbc.core;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+public class ArgumentPreparedStatementSetter implements PreparedStatementSetter {
+
+    private final Object[] args;
+
+    public ArgumentPreparedStatementSetter(final Object... args) {
+        this.args = args;
+    }
+
+    @Override
+    public void setParameters(final PreparedStatement pstmt) throws SQLException {
+        if (args == null) {
+            return;
+        }
+        for (int i = 0; i < args.length; i++) {
+            pstmt.setObject(i + 1, args[i]);
+        }
+    }
+}
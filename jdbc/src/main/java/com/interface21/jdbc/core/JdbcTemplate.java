@@ -1,17 +1,195 @@
 package com.interface21.jdbc.core;
 
+import com.interface21.dao.DataAccessException;
+import com.interface21.dao.QueryCancelledException;
+import com.interface21.jdbc.datasource.DataSourceUtils;
+import com.interface21.jdbc.core.column.ColumnType;
+import com.interface21.jdbc.core.column.ColumnarResult;
+import com.interface21.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
+import com.interface21.jdbc.support.SQLExceptionTranslator;
+import com.interface21.transaction.TransactionTimedOutException;
+import com.interface21.transaction.support.TransactionSynchronizationManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
 
 public class JdbcTemplate {
 
     private static final Logger log = LoggerFactory.getLogger(JdbcTemplate.class);
 
     private final DataSource dataSource;
+    private final SQLExceptionTranslator exceptionTranslator;
+    private final Duration queryTimeout;
 
     public JdbcTemplate(final DataSource dataSource) {
+        this(dataSource, Duration.ZERO);
+    }
+
+    /**
+     * @param queryTimeout 이 템플릿으로 실행하는 모든 쿼리의 기본 제한 시간. 0 이면 제한하지 않는다.
+     */
+    public JdbcTemplate(final DataSource dataSource, final Duration queryTimeout) {
+        this(dataSource, new SQLErrorCodeSQLExceptionTranslator(dataSource), queryTimeout);
+    }
+
+    private JdbcTemplate(final DataSource dataSource, final SQLExceptionTranslator exceptionTranslator,
+                         final Duration queryTimeout) {
+        if (queryTimeout.isNegative()) {
+            throw new IllegalArgumentException("queryTimeout must not be negative : " + queryTimeout);
+        }
         this.dataSource = dataSource;
+        this.exceptionTranslator = exceptionTranslator;
+        this.queryTimeout = queryTimeout;
+    }
+
+    /**
+     * 쿼리 제한 시간만 바꾼 템플릿을 반환한다. 특정 호출에만 다른 제한 시간을 줄 때 사용한다.
+     * <pre>{@code jdbcTemplate.withQueryTimeout(Duration.ofSeconds(30)).query(...)}</pre>
+     */
+    public JdbcTemplate withQueryTimeout(final Duration queryTimeout) {
+        return new JdbcTemplate(dataSource, exceptionTranslator, queryTimeout);
+    }
+
+    public int update(final String sql, final PreparedStatementSetter pss) {
+        return execute(sql, pss, PreparedStatement::executeUpdate);
+    }
+
+    public int update(final String sql, final Object... parameters) {
+        return update(sql, new ArgumentPreparedStatementSetter(parameters));
+    }
+
+    public <T> List<T> query(final String sql, final RowMapper<T> rowMapper, final PreparedStatementSetter pss) {
+        return execute(sql, pss, pstmt -> {
+            try (final var rs = pstmt.executeQuery()) {
+                return mapRows(rs, rowMapper);
+            }
+        });
+    }
+
+    public <T> List<T> query(final String sql, final RowMapper<T> rowMapper, final Object... parameters) {
+        return query(sql, rowMapper, new ArgumentPreparedStatementSetter(parameters));
+    }
+
+    public <T> T queryForObject(final String sql, final RowMapper<T> rowMapper, final Object... parameters) {
+        final var results = query(sql, rowMapper, parameters);
+        if (results.isEmpty()) {
+            return null;
+        }
+        if (results.size() > 1) {
+            throw new DataAccessException("Incorrect result size: expected 1, actual " + results.size());
+        }
+        return results.get(0);
+    }
+
+    /**
+     * OFFSET 대신 마지막으로 읽은 키 다음부터 읽는 keyset 페이지네이션.
+     * sql 은 {@code ... where id > ? order by id limit ?} 처럼 키 조건과 limit 을 마지막 두 파라미터로 두어야 한다.
+     * 두 값은 커서와 pageSize 로 채우며, 다음 페이지 유무를 알기 위해 한 행을 더 읽는다.
+     * 인덱스를 탄 범위 조회이므로 몇 번째 페이지든 비용이 같다.
+     *
+     * @param keyExtractor 행에서 정렬 키를 꺼낸다. 다음 커서를 만들 때 사용한다.
+     */
+    public <T> Page<T> queryForPage(final String sql, final RowMapper<T> rowMapper, final ToLongFunction<T> keyExtractor,
+                                    final KeysetCursor cursor, final int pageSize, final Object... parameters) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be positive : " + pageSize);
+        }
+        final var arguments = Arrays.copyOf(parameters, parameters.length + 2);
+        arguments[parameters.length] = cursor.lastKey();
+        arguments[parameters.length + 1] = pageSize + 1;
+
+        final var rows = query(sql, rowMapper, arguments);
+        if (rows.size() <= pageSize) {
+            return new Page<>(rows, null);
+        }
+        rows.remove(pageSize);
+        return new Page<>(rows, KeysetCursor.after(keyExtractor.applyAsLong(rows.get(pageSize - 1))));
+    }
+
+    /**
+     * 결과를 행 객체 목록 대신 컬럼별 primitive 배열로 읽는다.
+     * 대량의 id, 시각 컬럼을 읽을 때 행마다 박싱된 객체와 RowMapper 결과를 만들지 않는다.
+     */
+    public ColumnarResult queryForColumns(final String sql, final ColumnType[] columnTypes, final PreparedStatementSetter pss) {
+        return execute(sql, pss, pstmt -> {
+            try (final var rs = pstmt.executeQuery()) {
+                return ColumnarResult.extract(rs, columnTypes);
+            }
+        });
+    }
+
+    public ColumnarResult queryForColumns(final String sql, final ColumnType[] columnTypes, final Object... parameters) {
+        return queryForColumns(sql, columnTypes, new ArgumentPreparedStatementSetter(parameters));
+    }
+
+    private <T> T execute(final String sql, final PreparedStatementSetter pss, final PreparedStatementCallback<T> action) {
+        log.debug("query : {}", sql);
+        final var timeoutSeconds = resolveTimeoutSeconds();
+        final var cancellation = QueryCancellation.current();
+        final SQLException failure;
+        final var conn = DataSourceUtils.getConnection(dataSource);
+        try (final var pstmt = conn.prepareStatement(sql)) {
+            if (timeoutSeconds > 0) {
+                pstmt.setQueryTimeout(timeoutSeconds);
+            }
+            pss.setParameters(pstmt);
+            if (cancellation == null) {
+                return action.doInPreparedStatement(pstmt);
+            }
+            cancellation.register(pstmt);
+            try {
+                return action.doInPreparedStatement(pstmt);
+            } finally {
+                cancellation.unregister();
+            }
+        } catch (SQLException e) {
+            failure = e;
+        } finally {
+            DataSourceUtils.releaseConnection(conn, dataSource);
+        }
+        if (cancellation != null && cancellation.isCancelled()) {
+            throw new QueryCancelledException("Query cancelled : " + sql, failure);
+        }
+        log.debug("SQL failed. SQL : {}, {}", sql, failure.getMessage());
+        // 번역기가 데이터베이스 종류를 조회할 때 커넥션을 하나 더 잡지 않도록 반납한 뒤에 변환한다.
+        throw exceptionTranslator.translate("execute", sql, failure);
+    }
+
+    /**
+     * 템플릿의 제한 시간과 트랜잭션의 남은 시간 중 짧은 쪽을 초 단위로 올림해 반환한다. 0 이면 제한하지 않는다.
+     */
+    private int resolveTimeoutSeconds() {
+        var timeoutNanos = queryTimeout.toNanos();
+        final var deadline = TransactionSynchronizationManager.getDeadline();
+        if (deadline != null) {
+            final var remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TransactionTimedOutException("Transaction timed out " + TimeUnit.NANOSECONDS.toMillis(-remaining) + "ms ago");
+            }
+            timeoutNanos = timeoutNanos == 0 ? remaining : Math.min(timeoutNanos, remaining);
+        }
+        if (timeoutNanos == 0) {
+            return 0;
+        }
+        final var seconds = (timeoutNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+        return (int) Math.min(Integer.MAX_VALUE, seconds);
+    }
+
+    private <T> List<T> mapRows(final ResultSet rs, final RowMapper<T> rowMapper) throws SQLException {
+        final var results = new ArrayList<T>();
+        while (rs.next()) {
+            results.add(rowMapper.mapRow(rs));
+        }
+        return results;
     }
 }
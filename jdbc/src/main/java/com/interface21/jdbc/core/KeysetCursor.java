@@ -0,0 +1,55 @@
+package com.interface21.jdbc.core;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * keyset 페이지네이션에서 다음 페이지의 시작 위치. 마지막으로 읽은 행의 키를 담는다.
+ * API 응답에는 encode 한 토큰을 내려주고, 다음 요청에서 decode 로 되돌린다.
+ */
+public record KeysetCursor(long lastKey) {
+
+    private static final byte VERSION = 1;
+    private static final int TOKEN_BYTES = Byte.BYTES + Long.BYTES;
+
+    private static final KeysetCursor FIRST = new KeysetCursor(Long.MIN_VALUE);
+
+    /**
+     * 첫 페이지를 가리키는 커서. 모든 키가 Long.MIN_VALUE 보다 크다고 가정한다.
+     */
+    public static KeysetCursor first() {
+        return FIRST;
+    }
+
+    public static KeysetCursor after(final long lastKey) {
+        return new KeysetCursor(lastKey);
+    }
+
+    public String encode() {
+        final var buffer = ByteBuffer.allocate(TOKEN_BYTES)
+                .put(VERSION)
+                .putLong(lastKey);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * 토큰이 null 이거나 비어 있으면 첫 페이지 커서를 반환한다.
+     *
+     * @throws IllegalArgumentException 형식이 맞지 않는 토큰
+     */
+    public static KeysetCursor decode(final String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        final byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor token : " + token, e);
+        }
+        if (bytes.length != TOKEN_BYTES || bytes[0] != VERSION) {
+            throw new IllegalArgumentException("Malformed cursor token : " + token);
+        }
+        return new KeysetCursor(ByteBuffer.wrap(bytes, 1, Long.BYTES).getLong());
+    }
+}
@@ -0,0 +1,45 @@
+package com.interface21.jdbc.core;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * keyset 페이지를 필요할 때마다 하나씩 읽어 행 단위로 순회한다.
+ * 메모리에는 한 페이지만 올라가고, 페이지마다 커넥션을 잡았다 바로 반납하므로
+ * 느린 클라이언트에게 오래 스트리밍해도 커넥션이나 커서를 붙잡고 있지 않는다.
+ * <pre>{@code new KeysetIterator<>(cursor -> userDao.findPage(cursor, 500))}</pre>
+ */
+public class KeysetIterator<T> implements Iterator<T> {
+
+    private final Function<KeysetCursor, Page<T>> pageLoader;
+    private Iterator<T> items;
+    private KeysetCursor next;
+
+    public KeysetIterator(final Function<KeysetCursor, Page<T>> pageLoader) {
+        this(pageLoader, KeysetCursor.first());
+    }
+
+    public KeysetIterator(final Function<KeysetCursor, Page<T>> pageLoader, final KeysetCursor start) {
+        this.pageLoader = pageLoader;
+        this.next = start;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while ((items == null || !items.hasNext()) && next != null) {
+            final var page = pageLoader.apply(next);
+            items = page.items().iterator();
+            next = page.next();
+        }
+        return items != null && items.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return items.next();
+    }
+}
@@ -0,0 +1,13 @@
+package com.interface21.jdbc.core;
+
+import java.util.List;
+
+/**
+ * 한 페이지의 결과와 다음 페이지 커서. 마지막 페이지면 next 는 null 이다.
+ */
+public record Page<T>(List<T> items, KeysetCursor next) {
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.interface21.jdbc.core;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+@FunctionalInterface
+public interface PreparedStatementCallback<T> {
+    T doInPreparedStatement(final PreparedStatement pstmt) throws SQLException;
+}
@@ -0,0 +1,79 @@
+package com.interface21.jdbc.core;
+
+import com.interface21.dao.QueryCancelledException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 현재 스레드에서 실행하는 쿼리를 다른 스레드에서 취소할 수 있게 하는 핸들.
+ * 요청을 처리하는 스레드가 open 으로 핸들을 바인딩하고, 클라이언트 연결이 끊기거나 요청 시간이 지나면
+ * 감시하는 쪽이 cancel 을 호출한다. 취소된 뒤에는 실행 중인 쿼리가 중단되고 이후 쿼리도 실행되지 않는다.
+ */
+public final class QueryCancellation implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCancellation.class);
+
+    private static final ThreadLocal<QueryCancellation> current = new ThreadLocal<>();
+
+    private Statement statement;
+    private boolean cancelled;
+
+    private QueryCancellation() {}
+
+    public static QueryCancellation open() {
+        if (current.get() != null) {
+            throw new IllegalStateException("QueryCancellation is already open on this thread");
+        }
+        final var cancellation = new QueryCancellation();
+        current.set(cancellation);
+        return cancellation;
+    }
+
+    static QueryCancellation current() {
+        return current.get();
+    }
+
+    public void cancel() {
+        final Statement running;
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            running = statement;
+        }
+        if (running == null) {
+            return;
+        }
+        try {
+            running.cancel();
+        } catch (SQLException e) {
+            log.warn("could not cancel statement : {}", e.getMessage());
+        }
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    synchronized void register(final Statement statement) {
+        if (cancelled) {
+            throw new QueryCancelledException("Request has been cancelled");
+        }
+        this.statement = statement;
+    }
+
+    synchronized void unregister() {
+        this.statement = null;
+    }
+
+    @Override
+    public void close() {
+        if (current.get() == this) {
+            current.remove();
+        }
+    }
+}
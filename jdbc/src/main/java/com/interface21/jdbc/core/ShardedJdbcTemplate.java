@@ -0,0 +1,79 @@
+package com.interface21.jdbc.core;
+
+import com.interface21.jdbc.core.fanout.FailurePolicy;
+import com.interface21.jdbc.core.fanout.FanOutJdbcTemplate;
+import com.interface21.jdbc.core.fanout.FanOutResult;
+import com.interface21.jdbc.datasource.ShardedDataSource;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 샤드 키가 있는 쿼리는 그 키의 샤드 하나로 보내고, 키가 없는 조회는 모든 샤드에 동시에 보내 결과를 합친다.
+ * 같은 사용자의 데이터가 한 샤드에 모이도록 users 는 id, user_history 는 user_id 를 샤드 키로 쓴다.
+ */
+public class ShardedJdbcTemplate {
+
+    private static final Duration DEFAULT_SCATTER_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ShardedDataSource shardedDataSource;
+    private final List<JdbcTemplate> jdbcTemplates;
+    private final FanOutJdbcTemplate fanOutJdbcTemplate;
+
+    public ShardedJdbcTemplate(final ShardedDataSource shardedDataSource) {
+        this(shardedDataSource, DEFAULT_SCATTER_TIMEOUT, FailurePolicy.FAIL_FAST);
+    }
+
+    public ShardedJdbcTemplate(final ShardedDataSource shardedDataSource, final Duration scatterTimeout,
+                               final FailurePolicy failurePolicy) {
+        this.shardedDataSource = shardedDataSource;
+        this.jdbcTemplates = shardedDataSource.getShards()
+                .stream()
+                .map(JdbcTemplate::new)
+                .toList();
+        this.fanOutJdbcTemplate = new FanOutJdbcTemplate(shardedDataSource.getShards(), scatterTimeout, failurePolicy);
+    }
+
+    public JdbcTemplate forShardKey(final long shardKey) {
+        return jdbcTemplates.get(shardedDataSource.shardIndexFor(shardKey));
+    }
+
+    public int update(final long shardKey, final String sql, final Object... parameters) {
+        return forShardKey(shardKey).update(sql, parameters);
+    }
+
+    public <T> List<T> query(final long shardKey, final String sql, final RowMapper<T> rowMapper, final Object... parameters) {
+        return forShardKey(shardKey).query(sql, rowMapper, parameters);
+    }
+
+    public <T> T queryForObject(final long shardKey, final String sql, final RowMapper<T> rowMapper, final Object... parameters) {
+        return forShardKey(shardKey).queryForObject(sql, rowMapper, parameters);
+    }
+
+    /**
+     * 샤드 키 없이 모든 샤드를 조회한다. 결과는 샤드 순서대로 이어진다.
+     */
+    public <T> FanOutResult<T> queryAll(final String sql, final RowMapper<T> rowMapper, final Object... parameters) {
+        return fanOutJdbcTemplate.query(sql, rowMapper, parameters);
+    }
+
+    /**
+     * 샤드 키 없이 모든 샤드를 조회하고, 샤드별로 정렬된 결과를 order 기준으로 병합한다.
+     */
+    public <T> FanOutResult<T> queryAll(final String sql, final RowMapper<T> rowMapper, final Comparator<? super T> order,
+                                        final Object... parameters) {
+        return fanOutJdbcTemplate.query(sql, rowMapper, order, parameters);
+    }
+
+    /**
+     * 스키마 변경처럼 모든 샤드에 같은 문장을 실행한다. 샤드 사이의 원자성은 보장하지 않는다.
+     */
+    public int updateAll(final String sql, final Object... parameters) {
+        var updated = 0;
+        for (final var jdbcTemplate : jdbcTemplates) {
+            updated += jdbcTemplate.update(sql, parameters);
+        }
+        return updated;
+    }
+}
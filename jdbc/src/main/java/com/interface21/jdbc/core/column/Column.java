@@ -0,0 +1,52 @@
+package com.interface21.jdbc.core.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.BitSet;
+
+/**
+ * 하나의 컬럼 값을 primitive 배열에 행 순서대로 담는 버퍼.
+ * 값이 NULL 인 행은 별도의 비트셋으로 표시하며, 비트셋은 첫 NULL 이 나올 때 만들어진다.
+ */
+public abstract class Column {
+
+    static final int DEFAULT_CAPACITY = 256;
+
+    protected int size;
+    private BitSet nulls;
+
+    abstract void read(final ResultSet rs, final int columnIndex) throws SQLException;
+
+    final void readNullable(final ResultSet rs, final int columnIndex) throws SQLException {
+        read(rs, columnIndex);
+        if (rs.wasNull()) {
+            markNull(size - 1);
+        }
+    }
+
+    private void markNull(final int row) {
+        if (nulls == null) {
+            nulls = new BitSet();
+        }
+        nulls.set(row);
+    }
+
+    public boolean isNull(final int row) {
+        checkRow(row);
+        return nulls != null && nulls.get(row);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    protected void checkRow(final int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("row " + row + " out of bounds for size " + size);
+        }
+    }
+
+    protected static int grow(final int capacity) {
+        return Math.max(DEFAULT_CAPACITY, capacity + (capacity >> 1));
+    }
+}
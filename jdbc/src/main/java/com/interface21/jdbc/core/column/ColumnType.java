@@ -0,0 +1,22 @@
+package com.interface21.jdbc.core.column;
+
+import java.util.function.IntFunction;
+
+public enum ColumnType {
+    LONG(LongColumn::new),
+    INT(IntColumn::new),
+    DOUBLE(DoubleColumn::new),
+    TIMESTAMP(TimestampColumn::new),
+    STRING(StringColumn::new),
+    ;
+
+    private final IntFunction<Column> columnFactory;
+
+    ColumnType(final IntFunction<Column> columnFactory) {
+        this.columnFactory = columnFactory;
+    }
+
+    Column newColumn(final int initialCapacity) {
+        return columnFactory.apply(initialCapacity);
+    }
+}
@@ -0,0 +1,75 @@
+package com.interface21.jdbc.core.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * ResultSet 을 행 단위 객체가 아닌 컬럼 단위 primitive 배열로 읽어들인 결과.
+ * 컬럼 인덱스는 JDBC 와 동일하게 1부터 시작한다.
+ */
+public class ColumnarResult {
+
+    private final Column[] columns;
+    private final int rowCount;
+
+    private ColumnarResult(final Column[] columns, final int rowCount) {
+        this.columns = columns;
+        this.rowCount = rowCount;
+    }
+
+    public static ColumnarResult extract(final ResultSet rs, final ColumnType... columnTypes) throws SQLException {
+        final var columns = new Column[columnTypes.length];
+        for (int i = 0; i < columnTypes.length; i++) {
+            columns[i] = columnTypes[i].newColumn(Column.DEFAULT_CAPACITY);
+        }
+
+        int rowCount = 0;
+        while (rs.next()) {
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].readNullable(rs, i + 1);
+            }
+            rowCount++;
+        }
+        return new ColumnarResult(columns, rowCount);
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    public LongColumn getLongColumn(final int columnIndex) {
+        return getColumn(columnIndex, LongColumn.class);
+    }
+
+    public IntColumn getIntColumn(final int columnIndex) {
+        return getColumn(columnIndex, IntColumn.class);
+    }
+
+    public DoubleColumn getDoubleColumn(final int columnIndex) {
+        return getColumn(columnIndex, DoubleColumn.class);
+    }
+
+    public TimestampColumn getTimestampColumn(final int columnIndex) {
+        return getColumn(columnIndex, TimestampColumn.class);
+    }
+
+    public StringColumn getStringColumn(final int columnIndex) {
+        return getColumn(columnIndex, StringColumn.class);
+    }
+
+    private <T extends Column> T getColumn(final int columnIndex, final Class<T> type) {
+        if (columnIndex < 1 || columnIndex > columns.length) {
+            throw new IndexOutOfBoundsException("column index " + columnIndex + " out of range 1.." + columns.length);
+        }
+        final var column = columns[columnIndex - 1];
+        if (!type.isInstance(column)) {
+            throw new IllegalArgumentException("column " + columnIndex + " is " + column.getClass().getSimpleName()
+                    + ", not " + type.getSimpleName());
+        }
+        return type.cast(column);
+    }
+}
@@ -0,0 +1,31 @@
+package com.interface21.jdbc.core.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+public class DoubleColumn extends Column {
+
+    private double[] values;
+
+    DoubleColumn(final int initialCapacity) {
+        this.values = new double[initialCapacity];
+    }
+
+    @Override
+    void read(final ResultSet rs, final int columnIndex) throws SQLException {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, grow(values.length));
+        }
+        values[size++] = rs.getDouble(columnIndex);
+    }
+
+    public double get(final int row) {
+        checkRow(row);
+        return values[row];
+    }
+
+    public double[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
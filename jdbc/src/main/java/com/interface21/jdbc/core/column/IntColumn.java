@@ -0,0 +1,31 @@
+package com.interface21.jdbc.core.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+public class IntColumn extends Column {
+
+    private int[] values;
+
+    IntColumn(final int initialCapacity) {
+        this.values = new int[initialCapacity];
+    }
+
+    @Override
+    void read(final ResultSet rs, final int columnIndex) throws SQLException {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, grow(values.length));
+        }
+        values[size++] = rs.getInt(columnIndex);
+    }
+
+    public int get(final int row) {
+        checkRow(row);
+        return values[row];
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
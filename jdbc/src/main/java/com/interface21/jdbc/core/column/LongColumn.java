@@ -0,0 +1,35 @@
+package com.interface21.jdbc.core.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+public class LongColumn extends Column {
+
+    private long[] values;
+
+    LongColumn(final int initialCapacity) {
+        this.values = new long[initialCapacity];
+    }
+
+    @Override
+    void read(final ResultSet rs, final int columnIndex) throws SQLException {
+        add(rs.getLong(columnIndex));
+    }
+
+    final void add(final long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, grow(values.length));
+        }
+        values[size++] = value;
+    }
+
+    public long get(final int row) {
+        checkRow(row);
+        return values[row];
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
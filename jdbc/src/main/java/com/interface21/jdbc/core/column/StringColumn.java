@@ -0,0 +1,73 @@
+package com.interface21.jdbc.core.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 문자열 컬럼을 사전(dictionary) 인코딩으로 담는다.
+ * 행마다 사전 코드(int)만 저장하고, 서로 다른 문자열은 한 번씩만 보관한다.
+ */
+public class StringColumn extends Column {
+
+    private static final int NULL_CODE = -1;
+
+    private int[] codes;
+    private String[] dictionary;
+    private final Map<String, Integer> codesByValue;
+
+    StringColumn(final int initialCapacity) {
+        this.codes = new int[initialCapacity];
+        this.dictionary = new String[16];
+        this.codesByValue = new HashMap<>();
+    }
+
+    @Override
+    void read(final ResultSet rs, final int columnIndex) throws SQLException {
+        if (size == codes.length) {
+            codes = Arrays.copyOf(codes, grow(codes.length));
+        }
+        codes[size++] = encode(rs.getString(columnIndex));
+    }
+
+    private int encode(final String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        final var code = codesByValue.get(value);
+        if (code != null) {
+            return code;
+        }
+        final var newCode = codesByValue.size();
+        if (newCode == dictionary.length) {
+            dictionary = Arrays.copyOf(dictionary, dictionary.length << 1);
+        }
+        dictionary[newCode] = value;
+        codesByValue.put(value, newCode);
+        return newCode;
+    }
+
+    public String get(final int row) {
+        final var code = getCode(row);
+        return code == NULL_CODE ? null : dictionary[code];
+    }
+
+    public int getCode(final int row) {
+        checkRow(row);
+        return codes[row];
+    }
+
+    public String decode(final int code) {
+        return dictionary[code];
+    }
+
+    public int dictionarySize() {
+        return codesByValue.size();
+    }
+
+    public int[] codes() {
+        return Arrays.copyOf(codes, size);
+    }
+}
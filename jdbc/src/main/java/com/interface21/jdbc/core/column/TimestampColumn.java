@@ -0,0 +1,21 @@
+package com.interface21.jdbc.core.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * TIMESTAMP/DATETIME 컬럼을 epoch millis 로 담는다.
+ * 시간대가 없는 값은 JDBC 드라이버와 마찬가지로 JVM 기본 시간대를 기준으로 변환된다.
+ */
+public class TimestampColumn extends LongColumn {
+
+    TimestampColumn(final int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    @Override
+    void read(final ResultSet rs, final int columnIndex) throws SQLException {
+        final var timestamp = rs.getTimestamp(columnIndex);
+        add(timestamp == null ? 0L : timestamp.getTime());
+    }
+}
@@ -0,0 +1,17 @@
+package com.interface21.jdbc.core.fanout;
+
+/**
+ * 일부 DataSource 에서 쿼리가 실패하거나 제한 시간을 넘겼을 때의 처리 방법.
+ */
+public enum FailurePolicy {
+
+    /**
+     * 하나라도 실패하면 나머지 쿼리를 취소하고 예외를 던진다.
+     */
+    FAIL_FAST,
+
+    /**
+     * 실패한 DataSource 를 건너뛰고 성공한 결과만 돌려준다. 실패 내역은 FanOutResult 에 남는다.
+     */
+    ALLOW_PARTIAL
+}
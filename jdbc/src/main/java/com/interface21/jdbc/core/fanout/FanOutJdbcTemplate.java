@@ -0,0 +1,200 @@
+package com.interface21.jdbc.core.fanout;
+
+import com.interface21.dao.DataAccessException;
+import com.interface21.dao.QueryCancelledException;
+import com.interface21.jdbc.core.JdbcTemplate;
+import com.interface21.jdbc.core.QueryCancellation;
+import com.interface21.jdbc.core.RowMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 같은 쿼리를 여러 DataSource 에 동시에 보내고 결과를 하나의 스트림으로 합친다.
+ * 전체 지연 시간이 DataSource 별 지연의 합이 아니라 가장 느린 하나로 줄어든다.
+ * <p>
+ * 제한 시간은 모든 쿼리에 같이 적용되며, 넘기면 실행 중인 Statement 를 cancel 한다.
+ * 순서가 필요하면 각 쿼리가 같은 기준으로 정렬해 돌려주어야 하고, 그 기준의 Comparator 로 병합한다.
+ */
+public class FanOutJdbcTemplate {
+
+    private static final Logger log = LoggerFactory.getLogger(FanOutJdbcTemplate.class);
+
+    private final List<JdbcTemplate> jdbcTemplates;
+    private final Executor executor;
+    private final Duration timeout;
+    private final FailurePolicy failurePolicy;
+
+    /**
+     * 가상 스레드로 실행한다. 동시에 여는 커넥션 수는 DataSource 수를 넘지 않는다.
+     */
+    public FanOutJdbcTemplate(final List<DataSource> dataSources, final Duration timeout, final FailurePolicy failurePolicy) {
+        this(dataSources, Executors.newVirtualThreadPerTaskExecutor(), timeout, failurePolicy);
+    }
+
+    public FanOutJdbcTemplate(final List<DataSource> dataSources, final Executor executor,
+                              final Duration timeout, final FailurePolicy failurePolicy) {
+        if (dataSources.isEmpty()) {
+            throw new IllegalArgumentException("dataSources must not be empty");
+        }
+        this.jdbcTemplates = dataSources.stream()
+                .map(dataSource -> new JdbcTemplate(dataSource, timeout))
+                .toList();
+        this.executor = executor;
+        this.timeout = timeout;
+        this.failurePolicy = failurePolicy;
+    }
+
+    /**
+     * 결과를 DataSource 순서대로 이어 붙인다.
+     */
+    public <T> FanOutResult<T> query(final String sql, final RowMapper<T> rowMapper, final Object... parameters) {
+        final var outcome = execute(sql, rowMapper, parameters);
+        final var rows = outcome.results.stream().flatMap(List::stream);
+        return new FanOutResult<>(rows, outcome.failures);
+    }
+
+    /**
+     * 각 DataSource 의 결과가 order 기준으로 정렬되어 있다고 보고 k-way 병합한다.
+     */
+    public <T> FanOutResult<T> query(final String sql, final RowMapper<T> rowMapper, final Comparator<? super T> order,
+                                     final Object... parameters) {
+        final var outcome = execute(sql, rowMapper, parameters);
+        final var iterator = new MergingIterator<>(outcome.results, order);
+        final var rows = StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+        return new FanOutResult<>(rows, outcome.failures);
+    }
+
+    private <T> Outcome<T> execute(final String sql, final RowMapper<T> rowMapper, final Object[] parameters) {
+        final var size = jdbcTemplates.size();
+        final var completionService = new ExecutorCompletionService<Integer>(executor);
+        final var results = new ArrayList<List<T>>(size);
+        final var cancellations = new ArrayList<AtomicReference<QueryCancellation>>(size);
+        final var futures = new ArrayList<Future<Integer>>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(List.of());
+            cancellations.add(new AtomicReference<>());
+        }
+        for (int i = 0; i < size; i++) {
+            final var index = i;
+            futures.add(completionService.submit(() -> {
+                try (final var cancellation = QueryCancellation.open()) {
+                    cancellations.get(index).set(cancellation);
+                    results.set(index, jdbcTemplates.get(index).query(sql, rowMapper, parameters));
+                    return index;
+                }
+            }));
+        }
+
+        final var failures = new HashMap<Integer, Throwable>();
+        final var consumed = new boolean[size];
+        final var deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            for (int completed = 0; completed < size; completed++) {
+                final var future = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (future == null) {
+                    break;
+                }
+                final var index = futures.indexOf(future);
+                consumed[index] = true;
+                recordFailure(index, failureOf(future), failures, futures, cancellations);
+            }
+            // 제한 시간과 거의 동시에 끝난 쿼리는 poll 로 꺼내지 못했어도 결과나 실패가 이미 정해져 있다.
+            for (int i = 0; i < size; i++) {
+                if (consumed[i]) {
+                    continue;
+                }
+                final var future = futures.get(i);
+                if (future.isDone()) {
+                    recordFailure(i, failureOf(future), failures, futures, cancellations);
+                    continue;
+                }
+                cancel(future, cancellations.get(i));
+                failures.put(i, new TimeoutException("No result within " + timeout.toMillis() + "ms"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelAll(futures, cancellations);
+            throw new QueryCancelledException("Interrupted while waiting for fan-out query", e);
+        }
+
+        if (!failures.isEmpty()) {
+            if (failurePolicy == FailurePolicy.FAIL_FAST) {
+                final var entry = failures.entrySet().iterator().next();
+                throw new DataAccessException("Fan-out query failed on data source " + entry.getKey(), entry.getValue());
+            }
+            log.warn("fan-out query returned partial results. failed data sources : {}", failures.keySet());
+        }
+        // 성공한 쪽의 결과는 Future 완료로 가시성이 보장된다. 취소된 쿼리가 늦게 쓴 결과는 쓰지 않는다.
+        final var succeeded = new ArrayList<List<T>>(size);
+        for (int i = 0; i < size; i++) {
+            succeeded.add(failures.containsKey(i) ? List.of() : results.get(i));
+        }
+        return new Outcome<>(succeeded, Map.copyOf(failures));
+    }
+
+    private void recordFailure(final int index, final Throwable failure, final Map<Integer, Throwable> failures,
+                               final List<Future<Integer>> futures,
+                               final List<AtomicReference<QueryCancellation>> cancellations) {
+        if (failure == null) {
+            return;
+        }
+        failures.put(index, failure);
+        if (failurePolicy == FailurePolicy.FAIL_FAST) {
+            cancelAll(futures, cancellations);
+            throw new DataAccessException("Fan-out query failed on data source " + index, failure);
+        }
+    }
+
+    private static Throwable failureOf(final Future<Integer> future) throws InterruptedException {
+        try {
+            future.get();
+            return null;
+        } catch (ExecutionException e) {
+            return e.getCause();
+        } catch (CancellationException e) {
+            return e;
+        }
+    }
+
+    private static void cancelAll(final List<Future<Integer>> futures, final List<AtomicReference<QueryCancellation>> cancellations) {
+        for (int i = 0; i < futures.size(); i++) {
+            cancel(futures.get(i), cancellations.get(i));
+        }
+    }
+
+    private static void cancel(final Future<Integer> future, final AtomicReference<QueryCancellation> cancellation) {
+        if (future.isDone()) {
+            return;
+        }
+        final var running = cancellation.get();
+        if (running != null) {
+            running.cancel();
+        }
+        future.cancel(true);
+    }
+
+    private record Outcome<T>(List<List<T>> results, Map<Integer, Throwable> failures) {
+    }
+}
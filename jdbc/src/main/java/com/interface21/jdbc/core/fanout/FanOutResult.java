@@ -0,0 +1,31 @@
+package com.interface21.jdbc.core.fanout;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 여러 DataSource 에 보낸 쿼리의 합쳐진 결과.
+ * failures 는 실패한 DataSource 의 순번과 원인이며, 비어 있지 않으면 일부 결과가 빠져 있다.
+ */
+public final class FanOutResult<T> {
+
+    private final Stream<T> rows;
+    private final Map<Integer, Throwable> failures;
+
+    FanOutResult(final Stream<T> rows, final Map<Integer, Throwable> failures) {
+        this.rows = rows;
+        this.failures = failures;
+    }
+
+    public Stream<T> stream() {
+        return rows;
+    }
+
+    public Map<Integer, Throwable> failures() {
+        return failures;
+    }
+
+    public boolean isPartial() {
+        return !failures.isEmpty();
+    }
+}
@@ -0,0 +1,64 @@
+package com.interface21.jdbc.core.fanout;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * 이미 정렬된 목록들을 k-way 병합한다. 목록 수가 k, 전체 행 수가 n 이면 O(n log k) 이며
+ * 합친 목록을 따로 만들지 않고 꺼낼 때마다 한 행씩 비교한다.
+ */
+class MergingIterator<T> implements Iterator<T> {
+
+    private final PriorityQueue<Cursor<T>> heads;
+
+    MergingIterator(final List<List<T>> sortedLists, final Comparator<? super T> order) {
+        this.heads = new PriorityQueue<>(Math.max(1, sortedLists.size()),
+                (left, right) -> order.compare(left.current, right.current));
+        for (final var list : sortedLists) {
+            final var iterator = list.iterator();
+            if (iterator.hasNext()) {
+                heads.add(new Cursor<>(iterator));
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !heads.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        final var head = heads.poll();
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+        final var value = head.current;
+        if (head.advance()) {
+            heads.add(head);
+        }
+        return value;
+    }
+
+    private static final class Cursor<T> {
+
+        private final Iterator<T> iterator;
+        private T current;
+
+        private Cursor(final Iterator<T> iterator) {
+            this.iterator = iterator;
+            this.current = iterator.next();
+        }
+
+        private boolean advance() {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            current = iterator.next();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.interface21.jdbc.core.namedparam;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 객체의 getter 로 파라미터 값을 읽는다. {@code :account} 는 getAccount(), isAccount() 순으로 찾는다.
+ * 클래스별 getter 목록은 처음 한 번만 리플렉션으로 구해 둔다.
+ */
+public class BeanPropertySqlParameterSource implements SqlParameterSource {
+
+    private static final ClassValue<Map<String, Method>> GETTERS = new ClassValue<>() {
+        @Override
+        protected Map<String, Method> computeValue(final Class<?> type) {
+            return findGetters(type);
+        }
+    };
+
+    private final Object bean;
+    private final Map<String, Method> getters;
+
+    public BeanPropertySqlParameterSource(final Object bean) {
+        this.bean = bean;
+        this.getters = GETTERS.get(bean.getClass());
+    }
+
+    @Override
+    public boolean hasValue(final String name) {
+        return getters.containsKey(name);
+    }
+
+    @Override
+    public Object getValue(final String name) {
+        final var getter = getters.get(name);
+        if (getter == null) {
+            throw new IllegalArgumentException("No readable property '" + name + "' on " + bean.getClass().getName());
+        }
+        try {
+            return getter.invoke(bean);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot read property '" + name + "'", e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Failed to read property '" + name + "'", e.getTargetException());
+        }
+    }
+
+    private static Map<String, Method> findGetters(final Class<?> type) {
+        final var getters = new HashMap<String, Method>();
+        for (final var method : type.getMethods()) {
+            if (method.getParameterCount() != 0 || Modifier.isStatic(method.getModifiers())
+                    || method.getDeclaringClass() == Object.class) {
+                continue;
+            }
+            final var name = method.getName();
+            if (name.startsWith("get") && name.length() > 3) {
+                getters.put(decapitalize(name.substring(3)), method);
+            } else if (name.startsWith("is") && name.length() > 2 && method.getReturnType() == boolean.class) {
+                getters.putIfAbsent(decapitalize(name.substring(2)), method);
+            }
+        }
+        return Map.copyOf(getters);
+    }
+
+    private static String decapitalize(final String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+}
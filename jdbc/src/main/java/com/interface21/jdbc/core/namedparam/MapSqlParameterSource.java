@@ -0,0 +1,40 @@
+package com.interface21.jdbc.core.namedparam;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class MapSqlParameterSource implements SqlParameterSource {
+
+    private final Map<String, Object> values;
+
+    public MapSqlParameterSource() {
+        this.values = new HashMap<>();
+    }
+
+    public MapSqlParameterSource(final String name, final Object value) {
+        this();
+        addValue(name, value);
+    }
+
+    public MapSqlParameterSource(final Map<String, ?> values) {
+        this.values = new HashMap<>(values);
+    }
+
+    public MapSqlParameterSource addValue(final String name, final Object value) {
+        values.put(name, value);
+        return this;
+    }
+
+    @Override
+    public boolean hasValue(final String name) {
+        return values.containsKey(name);
+    }
+
+    @Override
+    public Object getValue(final String name) {
+        if (!values.containsKey(name)) {
+            throw new IllegalArgumentException("No value registered for parameter '" + name + "'");
+        }
+        return values.get(name);
+    }
+}
@@ -0,0 +1,73 @@
+package com.interface21.jdbc.core.namedparam;
+
+import com.interface21.cache.Cache;
+import com.interface21.cache.LruCache;
+import com.interface21.jdbc.core.JdbcTemplate;
+import com.interface21.jdbc.core.RowMapper;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code :account} 같은 이름 있는 파라미터를 쓰는 JdbcTemplate.
+ * 파싱 결과는 SQL 문자열을 키로 크기가 제한된 캐시에 두어 같은 쿼리를 매번 다시 파싱하지 않는다.
+ * 컬렉션이나 배열 값은 IN 목록으로 펼치며, 목록 길이를 몇 가지 크기로 맞춰 SQL 종류가 늘어나지 않게 한다.
+ */
+public class NamedParameterJdbcTemplate {
+
+    private static final int DEFAULT_CACHE_LIMIT = 256;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, ParsedSql> parsedSqlCache;
+
+    public NamedParameterJdbcTemplate(final DataSource dataSource) {
+        this(new JdbcTemplate(dataSource));
+    }
+
+    public NamedParameterJdbcTemplate(final JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, DEFAULT_CACHE_LIMIT);
+    }
+
+    public NamedParameterJdbcTemplate(final JdbcTemplate jdbcTemplate, final int cacheLimit) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.parsedSqlCache = new LruCache<>(cacheLimit, Duration.ZERO);
+    }
+
+    public JdbcTemplate getJdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    public int update(final String sql, final SqlParameterSource parameters) {
+        final var prepared = prepare(sql, parameters);
+        return jdbcTemplate.update(prepared.sql(), prepared.arguments());
+    }
+
+    public int update(final String sql, final Map<String, ?> parameters) {
+        return update(sql, new MapSqlParameterSource(parameters));
+    }
+
+    public <T> List<T> query(final String sql, final SqlParameterSource parameters, final RowMapper<T> rowMapper) {
+        final var prepared = prepare(sql, parameters);
+        return jdbcTemplate.query(prepared.sql(), rowMapper, prepared.arguments());
+    }
+
+    public <T> List<T> query(final String sql, final Map<String, ?> parameters, final RowMapper<T> rowMapper) {
+        return query(sql, new MapSqlParameterSource(parameters), rowMapper);
+    }
+
+    public <T> T queryForObject(final String sql, final SqlParameterSource parameters, final RowMapper<T> rowMapper) {
+        final var prepared = prepare(sql, parameters);
+        return jdbcTemplate.queryForObject(prepared.sql(), rowMapper, prepared.arguments());
+    }
+
+    public <T> T queryForObject(final String sql, final Map<String, ?> parameters, final RowMapper<T> rowMapper) {
+        return queryForObject(sql, new MapSqlParameterSource(parameters), rowMapper);
+    }
+
+    private NamedParameterUtils.PreparedSql prepare(final String sql, final SqlParameterSource parameters) {
+        final var parsedSql = parsedSqlCache.get(sql, NamedParameterUtils::parse);
+        return NamedParameterUtils.prepare(parsedSql, parameters);
+    }
+}
@@ -0,0 +1,152 @@
+package com.interface21.jdbc.core.namedparam;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@code :name} 형식의 파라미터를 {@code ?} 로 바꾼다.
+ * 문자열 리터럴, 따옴표 식별자, 주석 안의 콜론과 PostgreSQL 의 {@code ::} 캐스트는 파라미터로 보지 않는다.
+ */
+final class NamedParameterUtils {
+
+    /**
+     * IN 절 컬렉션의 크기를 이 값들 중 크거나 같은 가장 작은 값으로 맞춘다.
+     * 같은 쿼리가 만드는 SQL 문자열 종류를 몇 개로 묶어 드라이버와 DB 의 statement 캐시가 재사용되게 한다.
+     */
+    private static final int[] IN_LIST_BUCKETS = {1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1024};
+
+    static ParsedSql parse(final String sql) {
+        final var fragments = new ArrayList<String>();
+        final var names = new ArrayList<String>();
+        final var substituted = new StringBuilder(sql.length());
+        var fragmentStart = 0;
+        var i = 0;
+        while (i < sql.length()) {
+            final var c = sql.charAt(i);
+            if (c == '\'' || c == '"') {
+                i = skipQuoted(sql, i, c);
+            } else if (c == '-' && next(sql, i) == '-') {
+                i = skipUntil(sql, i + 2, "\n");
+            } else if (c == '/' && next(sql, i) == '*') {
+                i = skipUntil(sql, i + 2, "*/");
+            } else if (c == ':' && next(sql, i) == ':') {
+                i += 2;
+            } else if (c == ':' && Character.isJavaIdentifierStart(next(sql, i))) {
+                var end = i + 1;
+                while (end < sql.length() && Character.isJavaIdentifierPart(sql.charAt(end))) {
+                    end++;
+                }
+                final var fragment = sql.substring(fragmentStart, i);
+                fragments.add(fragment);
+                substituted.append(fragment).append('?');
+                names.add(sql.substring(i + 1, end));
+                fragmentStart = end;
+                i = end;
+            } else {
+                i++;
+            }
+        }
+        final var tail = sql.substring(fragmentStart);
+        fragments.add(tail);
+        substituted.append(tail);
+        return new ParsedSql(sql, List.copyOf(fragments), List.copyOf(names), substituted.toString());
+    }
+
+    /**
+     * 파라미터 값을 순서대로 꺼내고, 컬렉션 값이 있으면 {@code ?, ?, ...} 로 펼친 SQL 을 만든다.
+     *
+     * @throws IllegalArgumentException 빈 컬렉션이나 배열이 있을 때
+     */
+    static PreparedSql prepare(final ParsedSql parsedSql, final SqlParameterSource source) {
+        final var names = parsedSql.parameterNames();
+        final var values = new Object[names.size()];
+        var hasCollection = false;
+        for (int i = 0; i < names.size(); i++) {
+            values[i] = source.getValue(names.get(i));
+            hasCollection |= values[i] instanceof Collection<?> || values[i] instanceof Object[];
+        }
+        if (!hasCollection) {
+            return new PreparedSql(parsedSql.substitutedSql(), values);
+        }
+        return expand(parsedSql, values);
+    }
+
+    private static PreparedSql expand(final ParsedSql parsedSql, final Object[] values) {
+        final var fragments = parsedSql.fragments();
+        final var sql = new StringBuilder(parsedSql.originalSql().length() + 16);
+        final var arguments = new ArrayList<>(values.length);
+        for (int i = 0; i < values.length; i++) {
+            sql.append(fragments.get(i));
+            final var elements = elementsOf(values[i]);
+            if (elements == null) {
+                sql.append('?');
+                arguments.add(values[i]);
+                continue;
+            }
+            if (elements.isEmpty()) {
+                // NULL 로 대신하면 IN 은 아무 행과도 맞지 않지만 NOT IN 은 모든 행을 걸러 버리므로, 호출한 쪽이 처리하게 한다.
+                throw new IllegalArgumentException("Empty collection for IN list parameter '" + parsedSql.parameterNames().get(i) + "'");
+            }
+            final var size = bucketOf(elements.size());
+            final var last = elements.get(elements.size() - 1);
+            for (int j = 0; j < size; j++) {
+                sql.append(j == 0 ? "?" : ", ?");
+                arguments.add(j < elements.size() ? elements.get(j) : last);
+            }
+        }
+        sql.append(fragments.get(values.length));
+        return new PreparedSql(sql.toString(), arguments.toArray());
+    }
+
+    private static List<?> elementsOf(final Object value) {
+        if (value instanceof List<?> list) {
+            return list;
+        }
+        if (value instanceof Collection<?> collection) {
+            return new ArrayList<>(collection);
+        }
+        if (value instanceof Object[] array) {
+            return Arrays.asList(array);
+        }
+        return null;
+    }
+
+    static int bucketOf(final int size) {
+        for (final var bucket : IN_LIST_BUCKETS) {
+            if (size <= bucket) {
+                return bucket;
+            }
+        }
+        return size;
+    }
+
+    private static int skipQuoted(final String sql, final int start, final char quote) {
+        var i = start + 1;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == quote) {
+                if (next(sql, i) != quote) {
+                    return i + 1;
+                }
+                i++;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipUntil(final String sql, final int start, final String terminator) {
+        final var end = sql.indexOf(terminator, start);
+        return end < 0 ? sql.length() : end + terminator.length();
+    }
+
+    private static char next(final String sql, final int index) {
+        return index + 1 < sql.length() ? sql.charAt(index + 1) : '\0';
+    }
+
+    private NamedParameterUtils() {}
+
+    record PreparedSql(String sql, Object[] arguments) {
+    }
+}
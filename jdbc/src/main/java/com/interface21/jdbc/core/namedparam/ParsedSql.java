@@ -0,0 +1,11 @@
+package com.interface21.jdbc.core.namedparam;
+
+import java.util.List;
+
+/**
+ * 이름 있는 파라미터를 파싱한 결과.
+ * fragments 는 파라미터 사이의 SQL 조각이며 항상 parameterNames 보다 하나 많다.
+ * 컬렉션 파라미터가 없으면 미리 만들어 둔 substitutedSql 을 그대로 쓴다.
+ */
+record ParsedSql(String originalSql, List<String> fragments, List<String> parameterNames, String substitutedSql) {
+}
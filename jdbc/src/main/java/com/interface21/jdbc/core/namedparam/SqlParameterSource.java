@@ -0,0 +1,11 @@
+package com.interface21.jdbc.core.namedparam;
+
+public interface SqlParameterSource {
+
+    boolean hasValue(String name);
+
+    /**
+     * @throws IllegalArgumentException 이름에 해당하는 값이 없을 때
+     */
+    Object getValue(String name);
+}
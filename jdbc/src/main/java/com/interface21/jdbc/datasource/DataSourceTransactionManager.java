@@ -0,0 +1,296 @@
+package com.interface21.jdbc.datasource;
+
+import com.interface21.dao.DataAccessException;
+import com.interface21.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
+import com.interface21.jdbc.support.SQLExceptionTranslator;
+import com.interface21.transaction.IllegalTransactionStateException;
+import com.interface21.transaction.PlatformTransactionManager;
+import com.interface21.transaction.TransactionDefinition;
+import com.interface21.transaction.TransactionStatus;
+import com.interface21.transaction.UnexpectedRollbackException;
+import com.interface21.transaction.annotation.Isolation;
+import com.interface21.transaction.support.SuspendedResources;
+import com.interface21.transaction.support.TransactionSynchronization;
+import com.interface21.transaction.support.TransactionSynchronizationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하나의 DataSource 에 대해 커넥션 단위 트랜잭션을 관리한다.
+ * <ul>
+ *     <li>REQUIRED, SUPPORTS, MANDATORY : 진행 중인 트랜잭션이 있으면 참여한다.</li>
+ *     <li>REQUIRES_NEW : 바깥 트랜잭션을 보류하고 새 커넥션으로 시작한 뒤, 끝나면 바깥 트랜잭션을 되돌린다.</li>
+ *     <li>NESTED : 같은 커넥션에 세이브포인트를 만들어 그 지점까지만 롤백할 수 있게 한다.</li>
+ *     <li>NOT_SUPPORTED : 바깥 트랜잭션을 보류하고 트랜잭션 없이 실행한다.</li>
+ *     <li>NEVER : 진행 중인 트랜잭션이 있으면 예외가 발생한다.</li>
+ * </ul>
+ */
+public class DataSourceTransactionManager implements PlatformTransactionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourceTransactionManager.class);
+
+    private final DataSource dataSource;
+    private final SQLExceptionTranslator exceptionTranslator;
+
+    public DataSourceTransactionManager(final DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.exceptionTranslator = new SQLErrorCodeSQLExceptionTranslator(dataSource);
+    }
+
+    @Override
+    public TransactionStatus getTransaction(final TransactionDefinition definition) {
+        final var existing = TransactionSynchronizationManager.getResource(dataSource);
+        if (existing != null) {
+            return handleExistingTransaction(existing, definition);
+        }
+
+        return switch (definition.propagation()) {
+            case MANDATORY -> throw new IllegalTransactionStateException(
+                    "No existing transaction found for transaction marked with propagation 'mandatory'");
+            case REQUIRED, REQUIRES_NEW, NESTED -> begin(definition, null);
+            case SUPPORTS, NOT_SUPPORTED, NEVER -> TransactionStatus.withoutTransaction(null);
+        };
+    }
+
+    private TransactionStatus handleExistingTransaction(final Connection existing, final TransactionDefinition definition) {
+        return switch (definition.propagation()) {
+            case NEVER -> throw new IllegalTransactionStateException(
+                    "Existing transaction found for transaction marked with propagation 'never'");
+            case NOT_SUPPORTED -> TransactionStatus.withoutTransaction(TransactionSynchronizationManager.suspend(dataSource));
+            case REQUIRES_NEW -> beginSuspending(definition);
+            case NESTED -> TransactionStatus.nested(
+                    existing, createSavepoint(existing), TransactionSynchronizationManager.isRollbackOnly());
+            case REQUIRED, SUPPORTS, MANDATORY -> TransactionStatus.participating(existing);
+        };
+    }
+
+    private TransactionStatus beginSuspending(final TransactionDefinition definition) {
+        final var suspended = TransactionSynchronizationManager.suspend(dataSource);
+        try {
+            return begin(definition, suspended);
+        } catch (RuntimeException e) {
+            TransactionSynchronizationManager.resume(dataSource, suspended);
+            throw e;
+        }
+    }
+
+    private Savepoint createSavepoint(final Connection connection) {
+        try {
+            return connection.setSavepoint();
+        } catch (SQLException e) {
+            throw new DataAccessException("Could not create JDBC savepoint", e);
+        }
+    }
+
+    private TransactionStatus begin(final TransactionDefinition definition, final SuspendedResources suspended) {
+        final var connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            Integer previousIsolationLevel = null;
+            if (definition.isolation() != Isolation.DEFAULT) {
+                final var current = connection.getTransactionIsolation();
+                if (current != definition.isolation().value()) {
+                    previousIsolationLevel = current;
+                    connection.setTransactionIsolation(definition.isolation().value());
+                }
+            }
+            if (definition.readOnly()) {
+                connection.setReadOnly(true);
+            }
+            final var previousAutoCommit = connection.getAutoCommit();
+            if (previousAutoCommit) {
+                connection.setAutoCommit(false);
+            }
+
+            final var newSynchronization = !TransactionSynchronizationManager.isSynchronizationActive();
+            TransactionSynchronizationManager.bindResource(dataSource, connection);
+            if (newSynchronization) {
+                TransactionSynchronizationManager.initSynchronization();
+                if (definition.hasTimeout()) {
+                    TransactionSynchronizationManager.setDeadline(
+                            System.nanoTime() + TimeUnit.SECONDS.toNanos(definition.timeout()));
+                }
+            }
+            log.debug("begin transaction : {}", definition);
+            return TransactionStatus.newTransaction(
+                    connection, newSynchronization, previousAutoCommit, previousIsolationLevel, suspended);
+        } catch (SQLException e) {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+            throw new DataAccessException("Could not begin transaction", e);
+        }
+    }
+
+    @Override
+    public void commit(final TransactionStatus status) {
+        if (status.hasSavepoint()) {
+            releaseSavepoint(status);
+            return;
+        }
+        if (!status.isNewTransaction()) {
+            resumeIfSuspended(status);
+            return;
+        }
+        if (TransactionSynchronizationManager.isRollbackOnly()) {
+            rollback(status);
+            throw new UnexpectedRollbackException("Transaction rolled back because it has been marked as rollback-only");
+        }
+
+        try {
+            triggerBeforeCommit(status);
+        } catch (RuntimeException e) {
+            rollbackOnCommitFailure(status, e);
+            throw e;
+        }
+        try {
+            status.getConnection().commit();
+        } catch (SQLException e) {
+            final var exception = exceptionTranslator.translate("commit", "COMMIT", e);
+            rollbackOnCommitFailure(status, exception);
+            throw exception;
+        }
+        final var synchronizations = synchronizationsOf(status);
+        cleanup(status);
+        try {
+            invokeAfterCommit(synchronizations);
+            invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            resumeIfSuspended(status);
+        }
+    }
+
+    @Override
+    public void rollback(final TransactionStatus status) {
+        if (status.hasSavepoint()) {
+            rollbackToSavepoint(status);
+            return;
+        }
+        if (!status.isNewTransaction()) {
+            if (status.hasTransaction()) {
+                TransactionSynchronizationManager.setRollbackOnly();
+            }
+            resumeIfSuspended(status);
+            return;
+        }
+        final var synchronizations = synchronizationsOf(status);
+        try {
+            status.getConnection().rollback();
+        } catch (SQLException e) {
+            throw new DataAccessException("Could not roll back transaction", e);
+        } finally {
+            cleanup(status);
+            try {
+                invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_ROLLED_BACK);
+            } finally {
+                resumeIfSuspended(status);
+            }
+        }
+    }
+
+    private void releaseSavepoint(final TransactionStatus status) {
+        try {
+            status.getConnection().releaseSavepoint(status.getSavepoint());
+        } catch (SQLException e) {
+            log.debug("could not release savepoint : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 세이브포인트 안에서 실패한 참여자가 남긴 rollback-only 표시는 롤백과 함께 지워 바깥 트랜잭션이 커밋할 수 있게 한다.
+     * 세이브포인트를 만들기 전부터 표시되어 있었다면 그대로 둔다.
+     */
+    private void rollbackToSavepoint(final TransactionStatus status) {
+        try {
+            status.getConnection().rollback(status.getSavepoint());
+        } catch (SQLException e) {
+            throw new DataAccessException("Could not roll back to savepoint", e);
+        }
+        if (!status.isRollbackOnlyBeforeSavepoint()) {
+            TransactionSynchronizationManager.resetRollbackOnly();
+        }
+        releaseSavepoint(status);
+    }
+
+    private void triggerBeforeCommit(final TransactionStatus status) {
+        if (!status.isNewSynchronization()) {
+            return;
+        }
+        for (final var synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.beforeCommit();
+        }
+    }
+
+    private List<TransactionSynchronization> synchronizationsOf(final TransactionStatus status) {
+        if (!status.isNewSynchronization()) {
+            return List.of();
+        }
+        return TransactionSynchronizationManager.getSynchronizations();
+    }
+
+    private void rollbackOnCommitFailure(final TransactionStatus status, final RuntimeException cause) {
+        final var synchronizations = synchronizationsOf(status);
+        try {
+            status.getConnection().rollback();
+        } catch (SQLException e) {
+            log.error("rollback after commit failure failed : {}", e.getMessage(), e);
+            cause.addSuppressed(e);
+        }
+        cleanup(status);
+        try {
+            invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            resumeIfSuspended(status);
+        }
+    }
+
+    private void invokeAfterCompletion(final List<TransactionSynchronization> synchronizations, final int completionStatus) {
+        for (final var synchronization : synchronizations) {
+            try {
+                synchronization.afterCompletion(completionStatus);
+            } catch (RuntimeException e) {
+                log.error("afterCompletion callback failed : {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void invokeAfterCommit(final List<TransactionSynchronization> synchronizations) {
+        for (final var synchronization : synchronizations) {
+            try {
+                synchronization.afterCommit();
+            } catch (RuntimeException e) {
+                log.error("afterCommit callback failed : {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void resumeIfSuspended(final TransactionStatus status) {
+        if (status.getSuspendedResources() != null) {
+            TransactionSynchronizationManager.resume(dataSource, status.getSuspendedResources());
+        }
+    }
+
+    private void cleanup(final TransactionStatus status) {
+        if (status.isNewSynchronization()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        final var connection = TransactionSynchronizationManager.unbindResource(dataSource);
+        try {
+            connection.setAutoCommit(status.isPreviousAutoCommit());
+            if (status.getPreviousIsolationLevel() != null) {
+                connection.setTransactionIsolation(status.getPreviousIsolationLevel());
+            }
+            if (connection.isReadOnly()) {
+                connection.setReadOnly(false);
+            }
+        } catch (SQLException e) {
+            log.warn("could not reset connection after transaction : {}", e.getMessage());
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.interface21.jdbc.datasource;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 샤드 키(예: users.id, user_history.user_id)로 여러 DataSource 중 하나를 고른다.
+ * 샤드마다 가상 노드를 링 위에 흩어 두는 consistent hashing 을 쓰므로, 샤드를 뒤에 추가해도
+ * 대부분의 키는 원래 샤드에 남고 새 샤드 몫(약 1/n)만 옮겨진다.
+ * 링은 정렬된 배열 두 개로 두고 이진 탐색하므로 조회에 락이나 객체 할당이 없다.
+ */
+public class ShardedDataSource {
+
+    private static final int DEFAULT_VIRTUAL_NODES = 160;
+
+    private final List<DataSource> shards;
+    private final long[] points;
+    private final int[] owners;
+
+    public ShardedDataSource(final List<DataSource> shards) {
+        this(shards, DEFAULT_VIRTUAL_NODES);
+    }
+
+    public ShardedDataSource(final List<DataSource> shards, final int virtualNodes) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("shards must not be empty");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes must be positive : " + virtualNodes);
+        }
+        this.shards = List.copyOf(shards);
+
+        final var size = shards.size() * virtualNodes;
+        final var ring = new long[size][];
+        for (int shard = 0; shard < shards.size(); shard++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                ring[shard * virtualNodes + node] = new long[]{hash(((long) shard << 32) | node), shard};
+            }
+        }
+        Arrays.sort(ring, (left, right) -> Long.compare(left[0], right[0]));
+        this.points = new long[size];
+        this.owners = new int[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = ring[i][0];
+            owners[i] = (int) ring[i][1];
+        }
+    }
+
+    public int shardIndexFor(final long shardKey) {
+        final var hash = hash(shardKey);
+        var index = Arrays.binarySearch(points, hash);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    public DataSource shardFor(final long shardKey) {
+        return shards.get(shardIndexFor(shardKey));
+    }
+
+    public List<DataSource> getShards() {
+        return shards;
+    }
+
+    public int size() {
+        return shards.size();
+    }
+
+    /**
+     * 연속된 id 도 링 위에 고르게 흩어지도록 섞는다. (SplitMix64 finalizer)
+     */
+    private static long hash(final long value) {
+        var z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,103 @@
+package com.interface21.jdbc.support;
+
+import com.interface21.dao.BadSqlGrammarException;
+import com.interface21.dao.CannotAcquireLockException;
+import com.interface21.dao.DataAccessException;
+import com.interface21.dao.DeadlockLoserDataAccessException;
+import com.interface21.dao.DuplicateKeyException;
+import com.interface21.dao.TransientConnectionException;
+import com.interface21.jdbc.datasource.DataSourceUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * 벤더 에러 코드를 먼저 보고, 표에 없으면 SQLState 로 SQLException 을 DataAccessException 하위 타입으로 바꾼다.
+ * 데이터베이스 종류는 처음 변환할 때 한 번만 조회해 둔다.
+ */
+public class SQLErrorCodeSQLExceptionTranslator implements SQLExceptionTranslator {
+
+    private static final Logger log = LoggerFactory.getLogger(SQLErrorCodeSQLExceptionTranslator.class);
+
+    private final DataSource dataSource;
+    private volatile SqlDialect dialect;
+
+    public SQLErrorCodeSQLExceptionTranslator(final DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public DataAccessException translate(final String task, final String sql, final SQLException e) {
+        final var message = task + "; SQL [" + sql + "]; " + e.getMessage();
+        final var category = categorize(e);
+        if (category == null) {
+            return new DataAccessException(message, e);
+        }
+        return switch (category) {
+            case DUPLICATE_KEY -> new DuplicateKeyException(message, e);
+            case DEADLOCK -> new DeadlockLoserDataAccessException(message, e);
+            case LOCK_TIMEOUT -> new CannotAcquireLockException(message, e);
+            case TRANSIENT_CONNECTION -> new TransientConnectionException(message, e);
+            case BAD_GRAMMAR -> new BadSqlGrammarException(message, e);
+        };
+    }
+
+    private SqlErrorCategory categorize(final SQLException e) {
+        final var byCode = e.getErrorCode() != 0 ? resolveDialect(e).categoryOf(e.getErrorCode()) : null;
+        if (byCode != null) {
+            return byCode;
+        }
+        if (e instanceof SQLTransientConnectionException) {
+            return SqlErrorCategory.TRANSIENT_CONNECTION;
+        }
+        return categorize(e.getSQLState());
+    }
+
+    private static SqlErrorCategory categorize(final String sqlState) {
+        if (sqlState == null || sqlState.length() < 2) {
+            return null;
+        }
+        return switch (sqlState) {
+            case "23505" -> SqlErrorCategory.DUPLICATE_KEY;
+            case "40001", "40P01" -> SqlErrorCategory.DEADLOCK;
+            case "55P03", "HYT00" -> SqlErrorCategory.LOCK_TIMEOUT;
+            default -> switch (sqlState.substring(0, 2)) {
+                case "08" -> SqlErrorCategory.TRANSIENT_CONNECTION;
+                case "42" -> SqlErrorCategory.BAD_GRAMMAR;
+                default -> null;
+            };
+        };
+    }
+
+    private SqlDialect resolveDialect(final SQLException cause) {
+        var resolved = dialect;
+        if (resolved != null) {
+            return resolved;
+        }
+        if (isConnectionFailure(cause)) {
+            return SqlDialect.GENERIC;
+        }
+        Connection connection = null;
+        try {
+            connection = DataSourceUtils.getConnection(dataSource);
+            final var metaData = connection.getMetaData();
+            resolved = SqlDialect.fromProductName(metaData == null ? null : metaData.getDatabaseProductName());
+            dialect = resolved;
+            return resolved;
+        } catch (SQLException | RuntimeException e) {
+            log.debug("could not resolve database product name : {}", e.getMessage());
+            return SqlDialect.GENERIC;
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private static boolean isConnectionFailure(final SQLException e) {
+        final var sqlState = e.getSQLState();
+        return e instanceof SQLTransientConnectionException || (sqlState != null && sqlState.startsWith("08"));
+    }
+}
@@ -0,0 +1,11 @@
+package com.interface21.jdbc.support;
+
+import com.interface21.dao.DataAccessException;
+
+import java.sql.SQLException;
+
+@FunctionalInterface
+public interface SQLExceptionTranslator {
+
+    DataAccessException translate(String task, String sql, SQLException e);
+}
@@ -0,0 +1,54 @@
+package com.interface21.jdbc.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 샤드마다 따로 쓰는 auto_increment 대신 쓰는 전역 id 생성기.
+ * 41비트 밀리초 타임스탬프, 10비트 노드 id, 12비트 순번으로 구성해 노드끼리 조율하지 않아도 겹치지 않고 시간순으로 증가한다.
+ * 같은 밀리초에 순번을 다 쓰면 다음 밀리초를 미리 빌려 쓰며, 시계가 뒤로 가도 id 는 줄어들지 않는다.
+ */
+public class ShardIdGenerator {
+
+    private static final long EPOCH_MILLIS = 1_704_067_200_000L; // 2024-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    private final AtomicLong state = new AtomicLong();
+
+    public ShardIdGenerator(final long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    ShardIdGenerator(final long nodeId, final LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID + " : " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public long nextId() {
+        while (true) {
+            final var now = clock.getAsLong() - EPOCH_MILLIS;
+            final var previous = state.get();
+            final var previousTimestamp = previous >>> SEQUENCE_BITS;
+            final long next;
+            if (now > previousTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else if ((previous & SEQUENCE_MASK) == SEQUENCE_MASK) {
+                next = (previousTimestamp + 1) << SEQUENCE_BITS;
+            } else {
+                next = previous + 1;
+            }
+            if (state.compareAndSet(previous, next)) {
+                final var timestamp = next >>> SEQUENCE_BITS;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.interface21.jdbc.support;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 데이터베이스별 벤더 에러 코드 표. 표는 클래스가 로드될 때 한 번만 만든다.
+ * 코드가 표에 없으면 SQLState 로 분류한다.
+ */
+enum SqlDialect {
+
+    H2(Map.of(
+            SqlErrorCategory.DUPLICATE_KEY, new int[]{23505},
+            SqlErrorCategory.DEADLOCK, new int[]{40001},
+            SqlErrorCategory.LOCK_TIMEOUT, new int[]{50200},
+            SqlErrorCategory.TRANSIENT_CONNECTION, new int[]{90067, 90098},
+            SqlErrorCategory.BAD_GRAMMAR, new int[]{42000, 42001, 42101, 42102, 42122})),
+    MYSQL(Map.of(
+            SqlErrorCategory.DUPLICATE_KEY, new int[]{1062},
+            SqlErrorCategory.DEADLOCK, new int[]{1213},
+            SqlErrorCategory.LOCK_TIMEOUT, new int[]{1205},
+            SqlErrorCategory.TRANSIENT_CONNECTION, new int[]{1040, 2006, 2013},
+            SqlErrorCategory.BAD_GRAMMAR, new int[]{1054, 1064, 1146})),
+    ORACLE(Map.of(
+            SqlErrorCategory.DUPLICATE_KEY, new int[]{1},
+            SqlErrorCategory.DEADLOCK, new int[]{60, 8177},
+            SqlErrorCategory.LOCK_TIMEOUT, new int[]{54, 30006},
+            SqlErrorCategory.TRANSIENT_CONNECTION, new int[]{17002, 17008},
+            SqlErrorCategory.BAD_GRAMMAR, new int[]{900, 903, 904, 942})),
+    POSTGRESQL(Map.of()),
+    GENERIC(Map.of());
+
+    private final Map<Integer, SqlErrorCategory> categoriesByCode;
+
+    SqlDialect(final Map<SqlErrorCategory, int[]> codes) {
+        final var categories = new HashMap<Integer, SqlErrorCategory>();
+        codes.forEach((category, errorCodes) -> {
+            for (final var errorCode : errorCodes) {
+                categories.put(errorCode, category);
+            }
+        });
+        this.categoriesByCode = Map.copyOf(categories);
+    }
+
+    SqlErrorCategory categoryOf(final int errorCode) {
+        return categoriesByCode.get(errorCode);
+    }
+
+    static SqlDialect fromProductName(final String productName) {
+        if (productName == null) {
+            return GENERIC;
+        }
+        final var name = productName.toLowerCase();
+        if (name.startsWith("h2")) {
+            return H2;
+        }
+        if (name.contains("mysql") || name.contains("mariadb")) {
+            return MYSQL;
+        }
+        if (name.contains("oracle")) {
+            return ORACLE;
+        }
+        if (name.contains("postgres")) {
+            return POSTGRESQL;
+        }
+        return GENERIC;
+    }
+}
@@ -0,0 +1,9 @@
+package com.interface21.jdbc.support;
+
+enum SqlErrorCategory {
+    DUPLICATE_KEY,
+    DEADLOCK,
+    LOCK_TIMEOUT,
+    TRANSIENT_CONNECTION,
+    BAD_GRAMMAR
+}
@@ -0,0 +1,90 @@
+package com.interface21.jdbc.support;
+
+import com.interface21.dao.CannotAcquireLockException;
+import com.interface21.dao.DeadlockLoserDataAccessException;
+import com.interface21.dao.QueryCancelledException;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransactionRollbackException;
+import java.util.Set;
+
+/**
+ * 트랜잭션을 처음부터 다시 실행하면 성공할 수 있는 SQL 오류인지 판단한다.
+ * 데드락, 직렬화 실패, 락 대기 시간 초과만 재시도 대상이다.
+ * JdbcTemplate 이 데이터베이스 종류에 맞게 번역한 예외는 타입으로 판단하고,
+ * 번역되지 않은 SQLException 은 translator 가 있으면 그것으로, 없으면 표준 SQLState 로 판단한다.
+ * 취소되었거나 제한 시간을 넘긴 쿼리는 누군가 일부러 멈춘 것이므로 cause 어디에 있든 재시도하지 않는다.
+ * 단 H2 는 락 대기 시간 초과(에러 코드 50200, SQLState HYT00)도 SQLTimeoutException 으로 보고하므로,
+ * 벤더 코드나 SQLState 로 락 대기 시간 초과인지 먼저 확인해 그 경우는 재시도한다.
+ * H2 의 쿼리 취소와 제한 시간 초과는 57014 로 보고되어 재시도하지 않는다.
+ */
+public final class TransientSqlErrors {
+
+    /**
+     * 40001 : serialization failure, 40P01 : PostgreSQL deadlock
+     */
+    private static final Set<String> RETRYABLE_SQL_STATES = Set.of("40001", "40P01");
+
+    /**
+     * 55P03 : PostgreSQL lock not available, HYT00 : H2 lock timeout
+     */
+    private static final Set<String> LOCK_TIMEOUT_SQL_STATES = Set.of("55P03", "HYT00");
+
+    public static boolean isRetryable(final Throwable throwable) {
+        return isRetryable(throwable, null);
+    }
+
+    /**
+     * @param translator 번역되지 않은 SQLException 을 벤더 에러 코드로 분류할 때 쓴다. null 이면 SQLState 만 본다.
+     */
+    public static boolean isRetryable(final Throwable throwable, final SQLExceptionTranslator translator) {
+        var retryable = false;
+        for (var cause = throwable; cause != null; cause = cause.getCause()) {
+            if (isStopped(cause, translator)) {
+                return false;
+            }
+            if (!retryable) {
+                retryable = cause instanceof DeadlockLoserDataAccessException
+                        || cause instanceof CannotAcquireLockException
+                        || (cause instanceof SQLException sqlException && isRetryable(sqlException, translator));
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return retryable;
+    }
+
+    private static boolean isStopped(final Throwable cause, final SQLExceptionTranslator translator) {
+        if (cause instanceof QueryCancelledException) {
+            return true;
+        }
+        return cause instanceof SQLTimeoutException timeout && !isLockTimeout(timeout, translator);
+    }
+
+    /**
+     * translator 가 있으면 벤더 에러 코드로, 없으면 SQLState 로 판단한다.
+     */
+    private static boolean isLockTimeout(final SQLException e, final SQLExceptionTranslator translator) {
+        if (translator != null) {
+            return translator.translate("retry", null, e) instanceof CannotAcquireLockException;
+        }
+        final var sqlState = e.getSQLState();
+        return sqlState != null && LOCK_TIMEOUT_SQL_STATES.contains(sqlState);
+    }
+
+    private static boolean isRetryable(final SQLException e, final SQLExceptionTranslator translator) {
+        if (e instanceof SQLTransactionRollbackException) {
+            return true;
+        }
+        if (translator != null) {
+            final var translated = translator.translate("retry", null, e);
+            return translated instanceof DeadlockLoserDataAccessException || translated instanceof CannotAcquireLockException;
+        }
+        final var sqlState = e.getSQLState();
+        return sqlState != null && (RETRYABLE_SQL_STATES.contains(sqlState) || LOCK_TIMEOUT_SQL_STATES.contains(sqlState));
+    }
+
+    private TransientSqlErrors() {}
+}
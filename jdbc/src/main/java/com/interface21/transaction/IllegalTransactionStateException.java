@@ -0,0 +1,8 @@
+package com.interface21.transaction;
+
+public class IllegalTransactionStateException extends TransactionException {
+
+    public IllegalTransactionStateException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.interface21.transaction;
+
+public interface PlatformTransactionManager {
+
+    TransactionStatus getTransaction(final TransactionDefinition definition);
+
+    void commit(final TransactionStatus status);
+
+    void rollback(final TransactionStatus status);
+}
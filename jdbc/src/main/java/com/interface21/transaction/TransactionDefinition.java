@@ -0,0 +1,26 @@
+package com.interface21.transaction;
+
+import com.interface21.transaction.annotation.Isolation;
+import com.interface21.transaction.annotation.Propagation;
+import com.interface21.transaction.annotation.Transactional;
+
+public record TransactionDefinition(Propagation propagation, Isolation isolation, boolean readOnly, int timeout) {
+
+    public static final int TIMEOUT_DEFAULT = -1;
+
+    public static final TransactionDefinition DEFAULT =
+            new TransactionDefinition(Propagation.REQUIRED, Isolation.DEFAULT, false, TIMEOUT_DEFAULT);
+
+    public static TransactionDefinition from(final Transactional transactional) {
+        return new TransactionDefinition(transactional.propagation(), transactional.isolation(),
+                transactional.readOnly(), transactional.timeout());
+    }
+
+    public static TransactionDefinition withPropagation(final Propagation propagation) {
+        return new TransactionDefinition(propagation, Isolation.DEFAULT, false, TIMEOUT_DEFAULT);
+    }
+
+    public boolean hasTimeout() {
+        return timeout >= 0;
+    }
+}
@@ -0,0 +1,12 @@
+package com.interface21.transaction;
+
+public class TransactionException extends RuntimeException {
+
+    public TransactionException(final String message) {
+        super(message);
+    }
+
+    public TransactionException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,95 @@
+package com.interface21.transaction;
+
+import com.interface21.transaction.support.SuspendedResources;
+
+import java.sql.Connection;
+import java.sql.Savepoint;
+
+public class TransactionStatus {
+
+    private final Connection connection;
+    private final boolean newTransaction;
+    private final boolean newSynchronization;
+    private final boolean previousAutoCommit;
+    private final Integer previousIsolationLevel;
+    private final Savepoint savepoint;
+    private final boolean rollbackOnlyBeforeSavepoint;
+    private final SuspendedResources suspendedResources;
+
+    private TransactionStatus(final Connection connection, final boolean newTransaction, final boolean newSynchronization,
+                              final boolean previousAutoCommit, final Integer previousIsolationLevel,
+                              final Savepoint savepoint, final boolean rollbackOnlyBeforeSavepoint,
+                              final SuspendedResources suspendedResources) {
+        this.connection = connection;
+        this.newTransaction = newTransaction;
+        this.newSynchronization = newSynchronization;
+        this.previousAutoCommit = previousAutoCommit;
+        this.previousIsolationLevel = previousIsolationLevel;
+        this.savepoint = savepoint;
+        this.rollbackOnlyBeforeSavepoint = rollbackOnlyBeforeSavepoint;
+        this.suspendedResources = suspendedResources;
+    }
+
+    public static TransactionStatus newTransaction(final Connection connection, final boolean newSynchronization,
+                                                   final boolean previousAutoCommit, final Integer previousIsolationLevel,
+                                                   final SuspendedResources suspendedResources) {
+        return new TransactionStatus(connection, true, newSynchronization, previousAutoCommit, previousIsolationLevel,
+                null, false, suspendedResources);
+    }
+
+    public static TransactionStatus participating(final Connection connection) {
+        return new TransactionStatus(connection, false, false, false, null, null, false, null);
+    }
+
+    /**
+     * @param rollbackOnlyBeforeSavepoint 세이브포인트를 만들 때 바깥 트랜잭션이 이미 rollback-only 였는지
+     */
+    public static TransactionStatus nested(final Connection connection, final Savepoint savepoint,
+                                           final boolean rollbackOnlyBeforeSavepoint) {
+        return new TransactionStatus(connection, false, false, false, null, savepoint, rollbackOnlyBeforeSavepoint, null);
+    }
+
+    public static TransactionStatus withoutTransaction(final SuspendedResources suspendedResources) {
+        return new TransactionStatus(null, false, false, false, null, null, false, suspendedResources);
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    public boolean hasTransaction() {
+        return connection != null;
+    }
+
+    public boolean isNewTransaction() {
+        return newTransaction;
+    }
+
+    public boolean isNewSynchronization() {
+        return newSynchronization;
+    }
+
+    public boolean isPreviousAutoCommit() {
+        return previousAutoCommit;
+    }
+
+    public Integer getPreviousIsolationLevel() {
+        return previousIsolationLevel;
+    }
+
+    public boolean hasSavepoint() {
+        return savepoint != null;
+    }
+
+    public Savepoint getSavepoint() {
+        return savepoint;
+    }
+
+    public boolean isRollbackOnlyBeforeSavepoint() {
+        return rollbackOnlyBeforeSavepoint;
+    }
+
+    public SuspendedResources getSuspendedResources() {
+        return suspendedResources;
+    }
+}
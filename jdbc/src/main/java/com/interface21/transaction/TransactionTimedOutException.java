@@ -0,0 +1,8 @@
+package com.interface21.transaction;
+
+public class TransactionTimedOutException extends TransactionException {
+
+    public TransactionTimedOutException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.interface21.transaction;
+
+public class UnexpectedRollbackException extends TransactionException {
+
+    public UnexpectedRollbackException(final String message) {
+        super(message);
+    }
+}
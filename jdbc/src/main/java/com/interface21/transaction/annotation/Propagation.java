@@ -0,0 +1,11 @@
+package com.interface21.transaction.annotation;
+
+public enum Propagation {
+    REQUIRED,
+    SUPPORTS,
+    MANDATORY,
+    REQUIRES_NEW,
+    NOT_SUPPORTED,
+    NEVER,
+    NESTED,
+}
@@ -0,0 +1,27 @@
+package com.interface21.transaction.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+public @interface Transactional {
+
+    Propagation propagation() default Propagation.REQUIRED;
+
+    Isolation isolation() default Isolation.DEFAULT;
+
+    boolean readOnly() default false;
+
+    /**
+     * 트랜잭션 제한 시간(초). 음수면 제한하지 않는다.
+     * 트랜잭션 안에서 실행하는 쿼리에는 남은 시간만큼만 쿼리 타임아웃이 걸린다.
+     */
+    int timeout() default -1;
+}
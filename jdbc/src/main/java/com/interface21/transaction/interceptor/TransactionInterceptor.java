@@ -0,0 +1,71 @@
+package com.interface21.transaction.interceptor;
+
+import com.interface21.transaction.PlatformTransactionManager;
+import com.interface21.transaction.TransactionDefinition;
+import com.interface21.transaction.TransactionStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+/**
+ * 프록시 생성 시점에 미리 구해 둔 메서드별 트랜잭션 속성으로 호출을 감싼다.
+ * RuntimeException, Error 는 롤백하고 체크 예외는 커밋한다.
+ */
+class TransactionInterceptor implements InvocationHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionInterceptor.class);
+
+    private final Object target;
+    private final PlatformTransactionManager transactionManager;
+    private final Map<Method, TransactionDefinition> definitions;
+
+    TransactionInterceptor(final Object target, final PlatformTransactionManager transactionManager,
+                           final Map<Method, TransactionDefinition> definitions) {
+        this.target = target;
+        this.transactionManager = transactionManager;
+        this.definitions = definitions;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        final var definition = definitions.get(method);
+        if (definition == null) {
+            return invokeTarget(method, args);
+        }
+
+        final var status = transactionManager.getTransaction(definition);
+        final Object result;
+        try {
+            result = invokeTarget(method, args);
+        } catch (RuntimeException | Error e) {
+            rollbackOnException(status, e);
+            throw e;
+        } catch (Throwable e) {
+            transactionManager.commit(status);
+            throw e;
+        }
+        transactionManager.commit(status);
+        return result;
+    }
+
+    private Object invokeTarget(final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private void rollbackOnException(final TransactionStatus status, final Throwable cause) {
+        try {
+            transactionManager.rollback(status);
+        } catch (RuntimeException e) {
+            log.error("rollback failed : {}", e.getMessage(), e);
+            cause.addSuppressed(e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.interface21.transaction.interceptor;
+
+import com.interface21.transaction.PlatformTransactionManager;
+import com.interface21.transaction.TransactionDefinition;
+import com.interface21.transaction.annotation.Transactional;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 인터페이스의 구현체를 감싸 @Transactional 이 붙은 메서드를 트랜잭션 안에서 실행하는 JDK 프록시를 만든다.
+ * 어노테이션은 프록시를 만들 때 메서드마다 한 번만 읽는다.
+ * 구현 메서드, 구현 클래스, 인터페이스 메서드, 인터페이스 순으로 먼저 찾은 @Transactional 을 사용한다.
+ */
+public class TransactionProxyFactory {
+
+    private final PlatformTransactionManager transactionManager;
+
+    public TransactionProxyFactory(final PlatformTransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
+    }
+
+    public <T> T createProxy(final Class<T> interfaceType, final T target) {
+        if (!interfaceType.isInterface()) {
+            throw new IllegalArgumentException(interfaceType.getName() + " is not an interface");
+        }
+        final var definitions = resolveDefinitions(interfaceType, target.getClass());
+        final var interceptor = new TransactionInterceptor(target, transactionManager, definitions);
+        return interfaceType.cast(Proxy.newProxyInstance(
+                interfaceType.getClassLoader(), new Class<?>[]{interfaceType}, interceptor));
+    }
+
+    private Map<Method, TransactionDefinition> resolveDefinitions(final Class<?> interfaceType, final Class<?> targetClass) {
+        final var definitions = new HashMap<Method, TransactionDefinition>();
+        for (final var method : interfaceType.getMethods()) {
+            final var transactional = findTransactional(method, interfaceType, targetClass);
+            if (transactional != null) {
+                definitions.put(method, TransactionDefinition.from(transactional));
+            }
+        }
+        return Map.copyOf(definitions);
+    }
+
+    private Transactional findTransactional(final Method method, final Class<?> interfaceType, final Class<?> targetClass) {
+        try {
+            final var targetMethod = targetClass.getMethod(method.getName(), method.getParameterTypes());
+            if (targetMethod.isAnnotationPresent(Transactional.class)) {
+                return targetMethod.getAnnotation(Transactional.class);
+            }
+        } catch (NoSuchMethodException ignored) {
+        }
+        if (targetClass.isAnnotationPresent(Transactional.class)) {
+            return targetClass.getAnnotation(Transactional.class);
+        }
+        if (method.isAnnotationPresent(Transactional.class)) {
+            return method.getAnnotation(Transactional.class);
+        }
+        return interfaceType.getAnnotation(Transactional.class);
+    }
+}
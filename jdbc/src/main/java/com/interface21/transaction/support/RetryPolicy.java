@@ -0,0 +1,32 @@
+package com.interface21.transaction.support;
+
+import java.time.Duration;
+
+/**
+ * 재시도 횟수, 대기 시간, 전체 예산.
+ * n 번째 재시도 전에는 0 부터 min(maxBackoff, initialBackoff * 2^(n-1)) 사이에서 무작위로 기다린다.
+ * 첫 시도부터 누적한 시간에 다음 대기를 더한 값이 budget 을 넘으면 더 이상 재시도하지 않는다.
+ */
+public record RetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff, Duration budget) {
+
+    public static final RetryPolicy DEFAULT =
+            new RetryPolicy(3, Duration.ofMillis(10), Duration.ofMillis(200), Duration.ofSeconds(1));
+
+    public RetryPolicy {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be positive : " + maxAttempts);
+        }
+        if (initialBackoff.isNegative() || maxBackoff.isNegative() || budget.isNegative()) {
+            throw new IllegalArgumentException("durations must not be negative");
+        }
+    }
+
+    long backoffCapNanos(final int retry) {
+        final var shift = Math.min(retry - 1, 30);
+        final var exponential = initialBackoff.toNanos() << shift;
+        if (exponential < 0) {
+            return maxBackoff.toNanos();
+        }
+        return Math.min(maxBackoff.toNanos(), exponential);
+    }
+}
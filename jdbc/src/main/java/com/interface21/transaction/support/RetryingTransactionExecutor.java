@@ -0,0 +1,136 @@
+package com.interface21.transaction.support;
+
+import com.interface21.jdbc.support.SQLExceptionTranslator;
+import com.interface21.jdbc.support.TransientSqlErrors;
+import com.interface21.transaction.PlatformTransactionManager;
+import com.interface21.transaction.TransactionDefinition;
+import com.interface21.transaction.TransactionStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 데드락, 직렬화 실패처럼 다시 실행하면 성공할 수 있는 오류가 나면 콜백을 새 트랜잭션에서 다시 실행한다.
+ * 이미 진행 중인 트랜잭션에 참여한 경우에는 바깥 트랜잭션이 이미 실패했으므로 재시도하지 않는다.
+ * 콜백은 여러 번 실행될 수 있으므로 트랜잭션 밖의 상태를 바꾸지 않아야 한다.
+ */
+public class RetryingTransactionExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(RetryingTransactionExecutor.class);
+
+    private final PlatformTransactionManager transactionManager;
+    private final RetryPolicy retryPolicy;
+    private final SQLExceptionTranslator exceptionTranslator;
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    public RetryingTransactionExecutor(final PlatformTransactionManager transactionManager) {
+        this(transactionManager, RetryPolicy.DEFAULT);
+    }
+
+    public RetryingTransactionExecutor(final PlatformTransactionManager transactionManager, final RetryPolicy retryPolicy) {
+        this(transactionManager, retryPolicy, null);
+    }
+
+    /**
+     * @param exceptionTranslator 콜백이 번역되지 않은 SQLException 을 던질 때 벤더 에러 코드로 재시도 여부를 가린다.
+     *                            SQLErrorCodeSQLExceptionTranslator 를 넘기면 데이터베이스 종류에 맞는 표를 쓴다.
+     */
+    public RetryingTransactionExecutor(final PlatformTransactionManager transactionManager, final RetryPolicy retryPolicy,
+                                       final SQLExceptionTranslator exceptionTranslator) {
+        this.transactionManager = transactionManager;
+        this.retryPolicy = retryPolicy;
+        this.exceptionTranslator = exceptionTranslator;
+    }
+
+    public <T> T execute(final TransactionDefinition definition, final TransactionCallback<T> callback) {
+        executions.increment();
+        final var startedAt = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            final var status = transactionManager.getTransaction(definition);
+            try {
+                return executeOnce(status, callback);
+            } catch (RuntimeException e) {
+                if (!status.isNewTransaction() || !TransientSqlErrors.isRetryable(e, exceptionTranslator)) {
+                    throw e;
+                }
+                final var backoffNanos = backoffNanos(attempt);
+                if (attempt >= retryPolicy.maxAttempts()
+                        || System.nanoTime() - startedAt + backoffNanos > retryPolicy.budget().toNanos()) {
+                    exhausted.increment();
+                    throw e;
+                }
+                retries.increment();
+                log.debug("retrying transaction after transient failure. attempt : {}, cause : {}", attempt, e.getMessage());
+                sleep(backoffNanos, e);
+            }
+        }
+    }
+
+    private <T> T executeOnce(final TransactionStatus status, final TransactionCallback<T> callback) {
+        final T result;
+        try {
+            result = callback.doInTransaction(status);
+        } catch (RuntimeException | Error e) {
+            rollbackOnException(status, e);
+            throw e;
+        }
+        transactionManager.commit(status);
+        return result;
+    }
+
+    private void rollbackOnException(final TransactionStatus status, final Throwable cause) {
+        try {
+            transactionManager.rollback(status);
+        } catch (RuntimeException e) {
+            log.error("rollback failed : {}", e.getMessage(), e);
+            cause.addSuppressed(e);
+        }
+    }
+
+    private long backoffNanos(final int retry) {
+        final var cap = retryPolicy.backoffCapNanos(retry);
+        if (cap <= 0) {
+            return 0;
+        }
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    private void sleep(final long nanos, final RuntimeException cause) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    /**
+     * execute 가 호출된 횟수
+     */
+    public long getExecutionCount() {
+        return executions.sum();
+    }
+
+    /**
+     * 일시적 오류로 다시 실행한 횟수
+     */
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    /**
+     * 재시도 횟수나 예산을 다 쓰고 실패한 횟수
+     */
+    public long getExhaustedCount() {
+        return exhausted.sum();
+    }
+}
@@ -0,0 +1,11 @@
+package com.interface21.transaction.support;
+
+import java.sql.Connection;
+import java.util.List;
+
+/**
+ * REQUIRES_NEW, NOT_SUPPORTED 로 잠시 내려놓은 바깥 트랜잭션의 상태.
+ */
+public record SuspendedResources(Connection connection, List<TransactionSynchronization> synchronizations,
+                                 boolean rollbackOnly, Long deadlineNanos) {
+}
@@ -0,0 +1,63 @@
+package com.interface21.transaction.support;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 스레드마다 하나씩 두고 트랜잭션이 바뀌어도 재사용하는 콜백 목록.
+ * 트랜잭션마다 리스트를 새로 만들지 않고 배열을 비워 다시 쓴다. 크게 늘어난 배열은 정리할 때 버린다.
+ */
+class SynchronizationRegistry {
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int RETAINED_CAPACITY = 64;
+
+    private TransactionSynchronization[] items = new TransactionSynchronization[INITIAL_CAPACITY];
+    private int size;
+    private boolean active;
+    private long epoch;
+
+    boolean isActive() {
+        return active;
+    }
+
+    void activate() {
+        if (active) {
+            throw new IllegalStateException("Cannot activate transaction synchronization - already active");
+        }
+        active = true;
+        epoch++;
+    }
+
+    long epoch() {
+        return epoch;
+    }
+
+    void add(final TransactionSynchronization synchronization) {
+        if (!active) {
+            throw new IllegalStateException("Transaction synchronization is not active");
+        }
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
+        }
+        items[size++] = synchronization;
+    }
+
+    List<TransactionSynchronization> snapshot() {
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(items, size)));
+    }
+
+    void clear() {
+        if (items.length > RETAINED_CAPACITY) {
+            items = new TransactionSynchronization[INITIAL_CAPACITY];
+        } else {
+            Arrays.fill(items, 0, size, null);
+        }
+        size = 0;
+        active = false;
+    }
+}
@@ -0,0 +1,9 @@
+package com.interface21.transaction.support;
+
+import com.interface21.transaction.TransactionStatus;
+
+@FunctionalInterface
+public interface TransactionCallback<T> {
+
+    T doInTransaction(TransactionStatus status);
+}
@@ -0,0 +1,28 @@
+package com.interface21.transaction.support;
+
+/**
+ * 트랜잭션 경계에서 실행할 콜백. 트랜잭션을 시작한 쪽이 커밋 또는 롤백할 때 한 번씩 호출된다.
+ */
+public interface TransactionSynchronization {
+
+    int STATUS_COMMITTED = 0;
+    int STATUS_ROLLED_BACK = 1;
+
+    /**
+     * 커밋 직전, 아직 커넥션이 바인딩된 상태에서 호출된다. 예외가 발생하면 트랜잭션은 롤백된다.
+     */
+    default void beforeCommit() {
+    }
+
+    /**
+     * 커밋이 끝나고 커넥션이 반납된 뒤 호출된다. 예외는 로그만 남긴다.
+     */
+    default void afterCommit() {
+    }
+
+    /**
+     * 커밋 또는 롤백이 끝난 뒤 항상 호출된다. 예외는 로그만 남긴다.
+     */
+    default void afterCompletion(final int status) {
+    }
+}
@@ -2,22 +2,140 @@ package com.interface21.transaction.support;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public abstract class TransactionSynchronizationManager {
 
     private static final ThreadLocal<Map<DataSource, Connection>> resources = new ThreadLocal<>();
+    private static final ThreadLocal<SynchronizationRegistry> synchronizations =
+            ThreadLocal.withInitial(SynchronizationRegistry::new);
+    private static final ThreadLocal<Boolean> rollbackOnly = new ThreadLocal<>();
+    private static final ThreadLocal<Long> deadline = new ThreadLocal<>();
 
     private TransactionSynchronizationManager() {}
 
     public static Connection getResource(DataSource key) {
-        return null;
+        final var bound = resources.get();
+        if (bound == null) {
+            return null;
+        }
+        return bound.get(key);
     }
 
     public static void bindResource(DataSource key, Connection value) {
+        var bound = resources.get();
+        if (bound == null) {
+            bound = new HashMap<>();
+            resources.set(bound);
+        }
+        if (bound.putIfAbsent(key, value) != null) {
+            throw new IllegalStateException("Already bound a connection for " + key);
+        }
     }
 
     public static Connection unbindResource(DataSource key) {
-        return null;
+        final var bound = resources.get();
+        if (bound == null || !bound.containsKey(key)) {
+            throw new IllegalStateException("No connection bound for " + key);
+        }
+        final var connection = bound.remove(key);
+        if (bound.isEmpty()) {
+            resources.remove();
+        }
+        return connection;
+    }
+
+    public static boolean isSynchronizationActive() {
+        return synchronizations.get().isActive();
+    }
+
+    public static void initSynchronization() {
+        synchronizations.get().activate();
+    }
+
+    public static void registerSynchronization(TransactionSynchronization synchronization) {
+        synchronizations.get().add(synchronization);
+    }
+
+    /**
+     * 등록된 콜백의 복사본을 반환한다. 등록된 것이 없으면 새 리스트를 만들지 않는다.
+     */
+    public static List<TransactionSynchronization> getSynchronizations() {
+        return synchronizations.get().snapshot();
+    }
+
+    /**
+     * 동기화가 활성화될 때마다 바뀌는 값. 콜백을 트랜잭션당 한 번만 등록하려는 쪽이
+     * 이미 등록한 콜백이 지금 트랜잭션의 것인지 확인할 때 쓴다.
+     */
+    public static long getSynchronizationEpoch() {
+        return synchronizations.get().epoch();
+    }
+
+    public static void clearSynchronization() {
+        synchronizations.get().clear();
+        rollbackOnly.remove();
+        deadline.remove();
+    }
+
+    /**
+     * 참여 중인 트랜잭션이 롤백되었음을 표시한다. 트랜잭션을 시작한 쪽은 커밋 대신 롤백해야 한다.
+     */
+    public static void setRollbackOnly() {
+        rollbackOnly.set(Boolean.TRUE);
+    }
+
+    /**
+     * 세이브포인트까지 롤백해 참여자가 남긴 변경을 되돌렸을 때, 그 참여자가 남긴 rollback-only 표시도 지운다.
+     */
+    public static void resetRollbackOnly() {
+        rollbackOnly.remove();
+    }
+
+    public static boolean isRollbackOnly() {
+        return rollbackOnly.get() != null;
+    }
+
+    /**
+     * 트랜잭션이 끝나야 하는 시각(System.nanoTime 기준). 동기화를 정리할 때 함께 지워진다.
+     */
+    public static void setDeadline(long deadlineNanos) {
+        deadline.set(deadlineNanos);
+    }
+
+    /**
+     * 제한 시간이 없는 트랜잭션이거나 트랜잭션 밖이면 null 을 반환한다.
+     */
+    public static Long getDeadline() {
+        return deadline.get();
+    }
+
+    /**
+     * 현재 스레드의 커넥션, 동기화 콜백, rollback-only 상태를 떼어내 반환한다.
+     * 반환된 상태는 resume 으로 다시 바인딩한다.
+     */
+    public static SuspendedResources suspend(DataSource key) {
+        final var connection = unbindResource(key);
+        final var suspendedSynchronizations = isSynchronizationActive() ? getSynchronizations() : null;
+        final var suspended = new SuspendedResources(
+                connection, suspendedSynchronizations, isRollbackOnly(), getDeadline());
+        clearSynchronization();
+        return suspended;
+    }
+
+    public static void resume(DataSource key, SuspendedResources suspended) {
+        bindResource(key, suspended.connection());
+        if (suspended.synchronizations() != null) {
+            initSynchronization();
+            suspended.synchronizations().forEach(TransactionSynchronizationManager::registerSynchronization);
+        }
+        if (suspended.rollbackOnly()) {
+            setRollbackOnly();
+        }
+        if (suspended.deadlineNanos() != null) {
+            setDeadline(suspended.deadlineNanos());
+        }
     }
 }
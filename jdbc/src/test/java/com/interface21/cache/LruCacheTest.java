@@ -0,0 +1,174 @@
+package com.interface21.cache;
+
+import com.interface21.transaction.support.TransactionSynchronization;
+import com.interface21.transaction.support.TransactionSynchronizationManager;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LruCacheTest {
+
+    @Test
+    void readThrough() {
+        final var cache = new LruCache<Long, String>(10, Duration.ZERO);
+        final var loads = new AtomicInteger();
+
+        cache.get(1L, key -> "gugu" + loads.incrementAndGet());
+        final var actual = cache.get(1L, key -> "gugu" + loads.incrementAndGet());
+
+        assertThat(actual).isEqualTo("gugu1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void nullIsNotCached() {
+        final var cache = new LruCache<Long, String>(10, Duration.ZERO);
+
+        cache.get(1L, key -> null);
+
+        assertThat(cache.getIfPresent(1L)).isEmpty();
+    }
+
+    @Test
+    void expireAfterTtl() {
+        final var now = new AtomicLong();
+        final var cache = new LruCache<Long, String>(10, Duration.ofSeconds(1), now::get);
+        cache.put(1L, "gugu");
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        assertThat(cache.getIfPresent(1L)).isEmpty();
+    }
+
+    @Test
+    void evictLeastRecentlyUsed() {
+        final var cache = new LruCache<Long, String>(2, Duration.ZERO);
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+        cache.getIfPresent(1L);
+
+        cache.put(3L, "c");
+
+        assertThat(cache.getIfPresent(1L)).contains("a");
+        assertThat(cache.getIfPresent(2L)).isEmpty();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void evictDuringLoadDiscardsLoadedValue() {
+        final var cache = new LruCache<Long, String>(10, Duration.ZERO);
+
+        final var loaded = cache.get(1L, key -> {
+            cache.evict(key);
+            return "stale";
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(cache.getIfPresent(1L)).isEmpty();
+    }
+
+    @Test
+    void concurrentMissesLoadOnce() throws InterruptedException {
+        final var cache = new LruCache<Long, String>(10, Duration.ZERO);
+        final var loads = new AtomicInteger();
+        final var threads = 8;
+        final var start = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(threads);
+
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                return cache.get(1L, key -> {
+                    loads.incrementAndGet();
+                    sleep(100);
+                    return "gugu";
+                });
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void transactionAwareEvictWaitsForCommit() {
+        final var target = new LruCache<Long, String>(10, Duration.ZERO);
+        final var cache = new TransactionAwareCache<>(target);
+        cache.put(1L, "gugu");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict(1L);
+            assertThat(target.getIfPresent(1L)).contains("gugu");
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCommit());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.getIfPresent(1L)).isEmpty();
+    }
+
+    @Test
+    void transactionAwareEvictionsAreBatched() {
+        final var cache = new TransactionAwareCache<>(new LruCache<Long, String>(10, Duration.ZERO));
+        cache.put(1L, "gugu");
+        cache.put(2L, "gugu2");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict(1L);
+            cache.evict(2L);
+
+            final var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            assertThat(synchronizations).hasSize(1);
+            synchronizations.forEach(synchronization -> synchronization.afterCommit());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void transactionAwareCacheIsBypassedInsideTransaction() {
+        final var target = new LruCache<Long, String>(10, Duration.ZERO);
+        final var cache = new TransactionAwareCache<>(target);
+        cache.put(1L, "committed");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(cache.get(1L, key -> "uncommitted")).isEqualTo("uncommitted");
+            assertThat(cache.get(2L, key -> "uncommitted")).isEqualTo("uncommitted");
+            assertThat(cache.getIfPresent(1L)).isEmpty();
+            cache.put(2L, "uncommitted");
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.getIfPresent(1L)).contains("committed");
+        assertThat(cache.getIfPresent(2L)).isEmpty();
+        assertThat(target.size()).isEqualTo(1);
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,5 +1,166 @@
 package com.interface21.jdbc.core;
 
+import com.interface21.dao.DataAccessException;
+import com.interface21.dao.QueryCancelledException;
+import com.interface21.jdbc.core.column.ColumnType;
+import com.interface21.transaction.TransactionTimedOutException;
+import com.interface21.transaction.support.TransactionSynchronizationManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
 class JdbcTemplateTest {
 
+    private DataSource dataSource;
+    private Connection connection;
+    private PreparedStatement preparedStatement;
+    private ResultSet resultSet;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = mock(DataSource.class);
+        connection = mock(Connection.class);
+        preparedStatement = mock(PreparedStatement.class);
+        resultSet = mock(ResultSet.class);
+
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void queryForColumns() throws SQLException {
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getLong(1)).thenReturn(1L, 2L, 1L);
+        when(resultSet.getTimestamp(2)).thenReturn(new Timestamp(1000L), new Timestamp(2000L), new Timestamp(3000L));
+        when(resultSet.getString(3)).thenReturn("gugu", "kyle", "gugu");
+
+        final var result = jdbcTemplate.queryForColumns(
+                "select user_id, created_at, account from user_history where id > ?",
+                new ColumnType[]{ColumnType.LONG, ColumnType.TIMESTAMP, ColumnType.STRING},
+                0L);
+
+        assertThat(result.getRowCount()).isEqualTo(3);
+        assertThat(result.getLongColumn(1).toArray()).containsExactly(1L, 2L, 1L);
+        assertThat(result.getTimestampColumn(2).toArray()).containsExactly(1000L, 2000L, 3000L);
+
+        final var accounts = result.getStringColumn(3);
+        assertThat(accounts.get(2)).isEqualTo("gugu");
+        assertThat(accounts.dictionarySize()).isEqualTo(2);
+        assertThat(accounts.codes()).containsExactly(0, 1, 0);
+
+        verify(preparedStatement).setObject(1, 0L);
+        verify(resultSet).close();
+        verify(preparedStatement).close();
+        verify(connection).close();
+    }
+
+    @Test
+    void queryForColumnsMarksNulls() throws SQLException {
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getInt(1)).thenReturn(7, 0);
+        when(resultSet.wasNull()).thenReturn(false, true);
+
+        final var result = jdbcTemplate.queryForColumns("select age from users", new ColumnType[]{ColumnType.INT});
+
+        final var ages = result.getIntColumn(1);
+        assertThat(ages.size()).isEqualTo(2);
+        assertThat(ages.isNull(0)).isFalse();
+        assertThat(ages.isNull(1)).isTrue();
+    }
+
+    @Test
+    void queryForColumnsGrowsBuffers() throws SQLException {
+        final var rows = 1_000;
+        final var next = new Boolean[rows];
+        Arrays.fill(next, true);
+        next[rows - 1] = false;
+        when(resultSet.next()).thenReturn(true, next);
+        when(resultSet.getDouble(1)).thenReturn(1.5);
+
+        final var result = jdbcTemplate.queryForColumns("select score from users", new ColumnType[]{ColumnType.DOUBLE});
+
+        assertThat(result.getRowCount()).isEqualTo(rows);
+        assertThat(result.getDoubleColumn(1).get(rows - 1)).isEqualTo(1.5);
+    }
+
+    @Test
+    void applyTemplateQueryTimeout() throws SQLException {
+        when(preparedStatement.executeUpdate()).thenReturn(1);
+
+        jdbcTemplate.withQueryTimeout(Duration.ofMillis(1500)).update("delete from user_history");
+
+        verify(preparedStatement).setQueryTimeout(2);
+    }
+
+    @Test
+    void applyRemainingTransactionTime() throws SQLException {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            TransactionSynchronizationManager.setDeadline(System.nanoTime() + Duration.ofSeconds(3).toNanos());
+
+            jdbcTemplate.withQueryTimeout(Duration.ofSeconds(10)).update("delete from user_history");
+
+            verify(preparedStatement).setQueryTimeout(3);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void failFastAfterTransactionDeadline() throws SQLException {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            TransactionSynchronizationManager.setDeadline(System.nanoTime() - 1);
+
+            assertThatThrownBy(() -> jdbcTemplate.update("delete from user_history"))
+                    .isInstanceOf(TransactionTimedOutException.class);
+            verify(dataSource, never()).getConnection();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void cancelledRequestDoesNotRunQuery() throws SQLException {
+        try (final var cancellation = QueryCancellation.open()) {
+            cancellation.cancel();
+
+            assertThatThrownBy(() -> jdbcTemplate.update("delete from user_history"))
+                    .isInstanceOf(QueryCancelledException.class);
+        }
+
+        verify(preparedStatement, never()).executeUpdate();
+        verify(connection).close();
+    }
+
+    @Test
+    void queryForObjectRejectsMoreThanOneRow() throws SQLException {
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getString(1)).thenReturn("gugu", "gugu");
+
+        assertThatThrownBy(() -> jdbcTemplate.queryForObject("select account from users where account = ?",
+                rs -> rs.getString(1), "gugu"))
+                .isInstanceOf(DataAccessException.class)
+                .hasMessageContaining("Incorrect result size");
+    }
 }
@@ -0,0 +1,54 @@
+package com.interface21.jdbc.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetIteratorTest {
+
+    private static final List<Long> ROWS = LongStream.rangeClosed(1, 7).boxed().toList();
+
+    @Test
+    void loadPagesLazily() {
+        final var loadedCursors = new ArrayList<KeysetCursor>();
+        final var iterator = new KeysetIterator<Long>(cursor -> {
+            loadedCursors.add(cursor);
+            return pageAfter(cursor.lastKey(), 3);
+        });
+
+        assertThat(iterator.next()).isEqualTo(1L);
+        assertThat(loadedCursors).hasSize(1);
+
+        final var rest = new ArrayList<Long>();
+        iterator.forEachRemaining(rest::add);
+
+        assertThat(rest).containsExactly(2L, 3L, 4L, 5L, 6L, 7L);
+        assertThat(loadedCursors).containsExactly(KeysetCursor.first(), KeysetCursor.after(3), KeysetCursor.after(6));
+        assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void emptySource() {
+        final var iterator = new KeysetIterator<Long>(cursor -> new Page<>(List.of(), null));
+
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    private static Page<Long> pageAfter(final long lastKey, final int pageSize) {
+        final var items = ROWS.stream()
+                .filter(row -> row > lastKey)
+                .limit(pageSize + 1)
+                .toList();
+        if (items.size() <= pageSize) {
+            return new Page<>(items, null);
+        }
+        final var page = items.subList(0, pageSize);
+        return new Page<>(page, KeysetCursor.after(page.get(pageSize - 1)));
+    }
+}
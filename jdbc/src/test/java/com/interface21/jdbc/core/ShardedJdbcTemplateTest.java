@@ -0,0 +1,77 @@
+package com.interface21.jdbc.core;
+
+import com.interface21.jdbc.datasource.ShardedDataSource;
+import com.interface21.jdbc.support.ShardIdGenerator;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShardedJdbcTemplateTest {
+
+    private static final int SHARDS = 3;
+    private static final int USERS = 50;
+
+    private ShardedJdbcTemplate shardedJdbcTemplate;
+    private ShardIdGenerator idGenerator;
+
+    @BeforeEach
+    void setUp() {
+        final var shards = IntStream.range(0, SHARDS)
+                .mapToObj(ShardedJdbcTemplateTest::h2)
+                .toList();
+        shardedJdbcTemplate = new ShardedJdbcTemplate(new ShardedDataSource(shards));
+        idGenerator = new ShardIdGenerator(1);
+
+        shardedJdbcTemplate.updateAll("drop table if exists users");
+        shardedJdbcTemplate.updateAll("create table users (id bigint primary key, account varchar(100) not null)");
+    }
+
+    @Test
+    void routeByShardKey() {
+        final var ids = insertUsers();
+
+        for (final var id : ids) {
+            final var account = shardedJdbcTemplate.queryForObject(id, "select account from users where id = ?",
+                    rs -> rs.getString(1), id);
+            assertThat(account).isEqualTo("user" + id);
+        }
+        for (int shard = 0; shard < SHARDS; shard++) {
+            final var count = new JdbcTemplate(h2(shard)).queryForObject("select count(*) from users", rs -> rs.getLong(1));
+            assertThat(count).isPositive();
+        }
+    }
+
+    @Test
+    void scatterGatherWithoutShardKey() {
+        final var ids = insertUsers();
+
+        final var result = shardedJdbcTemplate.queryAll("select id from users order by id",
+                rs -> rs.getLong(1), Comparator.naturalOrder());
+
+        assertThat(result.stream()).containsExactlyElementsOf(ids);
+    }
+
+    private List<Long> insertUsers() {
+        final var ids = new ArrayList<Long>();
+        for (int i = 0; i < USERS; i++) {
+            final var id = idGenerator.nextId();
+            shardedJdbcTemplate.update(id, "insert into users (id, account) values (?, ?)", id, "user" + id);
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private static DataSource h2(final int shard) {
+        final var dataSource = new JdbcDataSource();
+        dataSource.setUrl("jdbc:h2:mem:shard" + shard + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+}
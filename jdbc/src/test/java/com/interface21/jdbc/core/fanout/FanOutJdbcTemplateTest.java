@@ -0,0 +1,132 @@
+package com.interface21.jdbc.core.fanout;
+
+import com.interface21.dao.DataAccessException;
+import com.interface21.jdbc.core.RowMapper;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FanOutJdbcTemplateTest {
+
+    private static final RowMapper<Long> ID_MAPPER = rs -> rs.getLong(1);
+
+    @Test
+    void mergeSortedResults() throws SQLException {
+        final var template = new FanOutJdbcTemplate(
+                List.of(dataSource(1L, 4L, 7L), dataSource(2L, 5L), dataSource(3L, 6L, 8L)),
+                Duration.ofSeconds(1), FailurePolicy.FAIL_FAST);
+
+        final var result = template.query("select id from users order by id", ID_MAPPER, Comparator.naturalOrder());
+
+        assertThat(result.stream()).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L);
+        assertThat(result.isPartial()).isFalse();
+    }
+
+    @Test
+    void allowPartialSkipsFailedSource() throws SQLException {
+        final var template = new FanOutJdbcTemplate(
+                List.of(dataSource(1L, 2L), failingDataSource()),
+                Duration.ofSeconds(1), FailurePolicy.ALLOW_PARTIAL);
+
+        final var result = template.query("select id from users", ID_MAPPER);
+
+        assertThat(result.stream()).containsExactly(1L, 2L);
+        assertThat(result.failures()).containsOnlyKeys(1);
+    }
+
+    @Test
+    void failFastThrows() throws SQLException {
+        final var template = new FanOutJdbcTemplate(
+                List.of(dataSource(1L), failingDataSource()),
+                Duration.ofSeconds(1), FailurePolicy.FAIL_FAST);
+
+        assertThatThrownBy(() -> template.query("select id from users", ID_MAPPER))
+                .isInstanceOf(DataAccessException.class);
+    }
+
+    /**
+     * 느린 쪽을 취소하는 순간 다른 쪽이 실패하도록 맞춰, poll 로 꺼내지 못한 채 끝난 Future 를 만든다.
+     */
+    @Test
+    void failureRightAtDeadlineIsNotTreatedAsSuccess() throws SQLException {
+        final var threads = new CopyOnWriteArrayList<Thread>();
+        final var failingMayProceed = new CountDownLatch(1);
+        final var slowMayProceed = new CountDownLatch(1);
+
+        final var slow = mock(DataSource.class);
+        final var connection = mock(Connection.class);
+        final var preparedStatement = mock(PreparedStatement.class);
+        when(slow.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenAnswer(invocation -> {
+            slowMayProceed.await();
+            throw new SQLException("cancelled", "57014");
+        });
+        doAnswer(invocation -> {
+            failingMayProceed.countDown();
+            threads.get(1).join();
+            slowMayProceed.countDown();
+            return null;
+        }).when(preparedStatement).cancel();
+
+        final var failing = mock(DataSource.class);
+        when(failing.getConnection()).thenAnswer(invocation -> {
+            failingMayProceed.await();
+            throw new SQLException("connection refused", "08001");
+        });
+
+        final var template = new FanOutJdbcTemplate(List.of(slow, failing), runnable -> {
+            final var thread = new Thread(runnable);
+            threads.add(thread);
+            thread.start();
+        }, Duration.ofMillis(100), FailurePolicy.ALLOW_PARTIAL);
+
+        final var result = template.query("select id from users", ID_MAPPER);
+
+        assertThat(result.stream()).isEmpty();
+        assertThat(result.failures()).containsOnlyKeys(0, 1);
+        assertThat(result.failures().get(0)).isInstanceOf(TimeoutException.class);
+        assertThat(result.failures().get(1)).isNotInstanceOf(TimeoutException.class);
+    }
+
+    private static DataSource dataSource(final Long... ids) throws SQLException {
+        final var dataSource = mock(DataSource.class);
+        final var connection = mock(Connection.class);
+        final var preparedStatement = mock(PreparedStatement.class);
+        final var resultSet = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+
+        final var next = new Boolean[ids.length];
+        Arrays.fill(next, true);
+        next[ids.length - 1] = false;
+        when(resultSet.next()).thenReturn(true, next);
+        when(resultSet.getLong(1)).thenReturn(ids[0], Arrays.copyOfRange(ids, 1, ids.length));
+        return dataSource;
+    }
+
+    private static DataSource failingDataSource() throws SQLException {
+        final var dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenThrow(new SQLException("connection refused", "08001"));
+        return dataSource;
+    }
+}
@@ -0,0 +1,86 @@
+package com.interface21.jdbc.core.namedparam;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NamedParameterUtilsTest {
+
+    @Test
+    void parseNamedParameters() {
+        final var parsed = NamedParameterUtils.parse("update users set password = :password where account = :account");
+
+        assertThat(parsed.parameterNames()).containsExactly("password", "account");
+        assertThat(parsed.substitutedSql()).isEqualTo("update users set password = ? where account = ?");
+    }
+
+    @Test
+    void ignoreColonsInLiteralsCommentsAndCasts() {
+        final var parsed = NamedParameterUtils.parse(
+                "select ':no', \"a:b\", id::text from users -- :comment\n where id = :id /* :block */");
+
+        assertThat(parsed.parameterNames()).containsExactly("id");
+    }
+
+    @Test
+    void prepareWithoutCollectionReusesSubstitutedSql() {
+        final var parsed = NamedParameterUtils.parse("select * from users where id = :id and account = :id");
+
+        final var prepared = NamedParameterUtils.prepare(parsed, new MapSqlParameterSource("id", 1L));
+
+        assertThat(prepared.sql()).isSameAs(parsed.substitutedSql());
+        assertThat(prepared.arguments()).containsExactly(1L, 1L);
+    }
+
+    @Test
+    void expandInListToBucketSize() {
+        final var parsed = NamedParameterUtils.parse("select * from users where id in (:ids)");
+
+        final var prepared = NamedParameterUtils.prepare(parsed, new MapSqlParameterSource("ids", List.of(1L, 2L, 3L)));
+
+        assertThat(prepared.sql()).isEqualTo("select * from users where id in (?, ?, ?, ?)");
+        assertThat(prepared.arguments()).containsExactly(1L, 2L, 3L, 3L);
+    }
+
+    @Test
+    void rejectEmptyInList() {
+        final var parsed = NamedParameterUtils.parse("select * from users where id not in (:ids)");
+
+        assertThatThrownBy(() -> NamedParameterUtils.prepare(parsed, new MapSqlParameterSource("ids", List.of())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ids");
+        assertThatThrownBy(() -> NamedParameterUtils.prepare(parsed, new MapSqlParameterSource("ids", new Long[0])))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void readBeanProperties() {
+        final var source = new BeanPropertySqlParameterSource(new Sample("gugu", true));
+
+        assertThat(source.getValue("account")).isEqualTo("gugu");
+        assertThat(source.getValue("active")).isEqualTo(true);
+        assertThatThrownBy(() -> source.getValue("password")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    public static class Sample {
+
+        private final String account;
+        private final boolean active;
+
+        Sample(final String account, final boolean active) {
+            this.account = account;
+            this.active = active;
+        }
+
+        public String getAccount() {
+            return account;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+    }
+}
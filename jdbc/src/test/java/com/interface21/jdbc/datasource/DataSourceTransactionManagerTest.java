@@ -0,0 +1,201 @@
+package com.interface21.jdbc.datasource;
+
+import com.interface21.transaction.IllegalTransactionStateException;
+import com.interface21.transaction.TransactionDefinition;
+import com.interface21.transaction.UnexpectedRollbackException;
+import com.interface21.transaction.annotation.Propagation;
+import com.interface21.transaction.support.TransactionSynchronization;
+import com.interface21.transaction.support.TransactionSynchronizationManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DataSourceTransactionManagerTest {
+
+    private DataSource dataSource;
+    private Connection outer;
+    private Connection inner;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = mock(DataSource.class);
+        outer = mock(Connection.class);
+        inner = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(outer, inner);
+        when(outer.getAutoCommit()).thenReturn(true);
+        when(inner.getAutoCommit()).thenReturn(true);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.getResource(dataSource) != null) {
+            TransactionSynchronizationManager.unbindResource(dataSource);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void requiresNewSuspendsOuterTransaction() throws SQLException {
+        final var outerStatus = transactionManager.getTransaction(TransactionDefinition.DEFAULT);
+        final var innerStatus = transactionManager.getTransaction(requires(Propagation.REQUIRES_NEW));
+
+        assertThat(TransactionSynchronizationManager.getResource(dataSource)).isSameAs(inner);
+        transactionManager.commit(innerStatus);
+
+        verify(inner).commit();
+        verify(inner).close();
+        assertThat(TransactionSynchronizationManager.getResource(dataSource)).isSameAs(outer);
+
+        transactionManager.commit(outerStatus);
+        verify(outer).commit();
+    }
+
+    @Test
+    void nestedRollsBackToSavepoint() throws SQLException {
+        final var savepoint = mock(Savepoint.class);
+        when(outer.setSavepoint()).thenReturn(savepoint);
+        final var outerStatus = transactionManager.getTransaction(TransactionDefinition.DEFAULT);
+
+        final var nestedStatus = transactionManager.getTransaction(requires(Propagation.NESTED));
+        transactionManager.rollback(nestedStatus);
+        transactionManager.commit(outerStatus);
+
+        verify(outer).rollback(savepoint);
+        verify(outer, never()).rollback();
+        verify(outer).commit();
+    }
+
+    @Test
+    void failedParticipantInsideNestedDoesNotDoomOuter() throws SQLException {
+        final var savepoint = mock(Savepoint.class);
+        when(outer.setSavepoint()).thenReturn(savepoint);
+        final var outerStatus = transactionManager.getTransaction(TransactionDefinition.DEFAULT);
+        final var nestedStatus = transactionManager.getTransaction(requires(Propagation.NESTED));
+        final var participantStatus = transactionManager.getTransaction(TransactionDefinition.DEFAULT);
+
+        transactionManager.rollback(participantStatus);
+        assertThat(TransactionSynchronizationManager.isRollbackOnly()).isTrue();
+        transactionManager.rollback(nestedStatus);
+        transactionManager.commit(outerStatus);
+
+        verify(outer).rollback(savepoint);
+        verify(outer, never()).rollback();
+        verify(outer).commit();
+    }
+
+    @Test
+    void nestedRollbackKeepsRollbackOnlyMarkedBeforeSavepoint() throws SQLException {
+        when(outer.setSavepoint()).thenReturn(mock(Savepoint.class));
+        final var outerStatus = transactionManager.getTransaction(TransactionDefinition.DEFAULT);
+        transactionManager.rollback(transactionManager.getTransaction(TransactionDefinition.DEFAULT));
+        final var nestedStatus = transactionManager.getTransaction(requires(Propagation.NESTED));
+
+        transactionManager.rollback(nestedStatus);
+
+        assertThatThrownBy(() -> transactionManager.commit(outerStatus))
+                .isInstanceOf(UnexpectedRollbackException.class);
+        verify(outer, never()).commit();
+    }
+
+    @Test
+    void mandatoryWithoutTransaction() {
+        assertThatThrownBy(() -> transactionManager.getTransaction(requires(Propagation.MANDATORY)))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    @Test
+    void neverWithinTransaction() throws SQLException {
+        final var outerStatus = transactionManager.getTransaction(TransactionDefinition.DEFAULT);
+
+        assertThatThrownBy(() -> transactionManager.getTransaction(requires(Propagation.NEVER)))
+                .isInstanceOf(IllegalTransactionStateException.class);
+
+        transactionManager.rollback(outerStatus);
+        verify(outer).rollback();
+    }
+
+    @Test
+    void participatingRollbackMarksOuterRollbackOnly() throws SQLException {
+        final var outerStatus = transactionManager.getTransaction(TransactionDefinition.DEFAULT);
+        final var innerStatus = transactionManager.getTransaction(TransactionDefinition.DEFAULT);
+
+        transactionManager.rollback(innerStatus);
+
+        assertThatThrownBy(() -> transactionManager.commit(outerStatus))
+                .isInstanceOf(UnexpectedRollbackException.class);
+        verify(outer).rollback();
+        verify(outer, never()).commit();
+        assertThat(TransactionSynchronizationManager.isRollbackOnly()).isFalse();
+    }
+
+    @Test
+    void synchronizationCallbacksRunAroundCommit() throws SQLException {
+        final var events = new ArrayList<String>();
+        final var status = transactionManager.getTransaction(TransactionDefinition.DEFAULT);
+        TransactionSynchronizationManager.registerSynchronization(recording(events));
+
+        transactionManager.commit(status);
+
+        assertThat(events).containsExactly("beforeCommit", "afterCommit", "afterCompletion:0");
+        verify(outer).commit();
+    }
+
+    @Test
+    void beforeCommitFailureRollsBack() throws SQLException {
+        final var events = new ArrayList<String>();
+        final var status = transactionManager.getTransaction(TransactionDefinition.DEFAULT);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit() {
+                throw new IllegalStateException();
+            }
+        });
+        TransactionSynchronizationManager.registerSynchronization(recording(events));
+
+        assertThatThrownBy(() -> transactionManager.commit(status)).isInstanceOf(IllegalStateException.class);
+
+        verify(outer).rollback();
+        verify(outer, never()).commit();
+        assertThat(events).containsExactly("afterCompletion:1");
+        assertThat(TransactionSynchronizationManager.isSynchronizationActive()).isFalse();
+    }
+
+    private static TransactionSynchronization recording(final List<String> events) {
+        return new TransactionSynchronization() {
+            @Override
+            public void beforeCommit() {
+                events.add("beforeCommit");
+            }
+
+            @Override
+            public void afterCommit() {
+                events.add("afterCommit");
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                events.add("afterCompletion:" + status);
+            }
+        };
+    }
+
+    private static TransactionDefinition requires(final Propagation propagation) {
+        return TransactionDefinition.withPropagation(propagation);
+    }
+}
@@ -0,0 +1,49 @@
+package com.interface21.jdbc.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ShardedDataSourceTest {
+
+    private static final int KEYS = 10_000;
+
+    @Test
+    void distributeKeysEvenly() {
+        final var sharded = new ShardedDataSource(List.of(mock(DataSource.class), mock(DataSource.class), mock(DataSource.class)));
+        final var counts = new int[sharded.size()];
+
+        for (long id = 1; id <= KEYS; id++) {
+            counts[sharded.shardIndexFor(id)]++;
+        }
+
+        for (final var count : counts) {
+            assertThat(count).isBetween(KEYS / 3 * 8 / 10, KEYS / 3 * 12 / 10);
+        }
+    }
+
+    @Test
+    void addingShardMovesKeysOnlyToNewShard() {
+        final var shards = new ArrayList<DataSource>(List.of(mock(DataSource.class), mock(DataSource.class), mock(DataSource.class)));
+        final var before = new ShardedDataSource(shards);
+        shards.add(mock(DataSource.class));
+        final var after = new ShardedDataSource(shards);
+
+        var moved = 0;
+        for (long id = 1; id <= KEYS; id++) {
+            final var previous = before.shardIndexFor(id);
+            final var current = after.shardIndexFor(id);
+            if (previous != current) {
+                assertThat(current).isEqualTo(3);
+                moved++;
+            }
+        }
+
+        assertThat(moved).isBetween(KEYS / 4 * 7 / 10, KEYS / 4 * 13 / 10);
+    }
+}
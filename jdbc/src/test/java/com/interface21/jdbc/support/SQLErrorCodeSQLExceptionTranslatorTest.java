@@ -0,0 +1,75 @@
+package com.interface21.jdbc.support;
+
+import com.interface21.dao.BadSqlGrammarException;
+import com.interface21.dao.CannotAcquireLockException;
+import com.interface21.dao.DataAccessException;
+import com.interface21.dao.DeadlockLoserDataAccessException;
+import com.interface21.dao.DuplicateKeyException;
+import com.interface21.dao.TransientConnectionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SQLErrorCodeSQLExceptionTranslatorTest {
+
+    private DataSource dataSource;
+    private SQLErrorCodeSQLExceptionTranslator translator;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = mock(DataSource.class);
+        final var connection = mock(Connection.class);
+        final var metaData = mock(DatabaseMetaData.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn("MySQL");
+        translator = new SQLErrorCodeSQLExceptionTranslator(dataSource);
+    }
+
+    @Test
+    void translateVendorErrorCodes() throws SQLException {
+        assertThat(translate(new SQLException("duplicate", "23000", 1062))).isInstanceOf(DuplicateKeyException.class);
+        assertThat(translate(new SQLException("deadlock", "40001", 1213))).isInstanceOf(DeadlockLoserDataAccessException.class);
+        assertThat(translate(new SQLException("lock wait", "HY000", 1205))).isInstanceOf(CannotAcquireLockException.class);
+        assertThat(translate(new SQLException("no table", "42S02", 1146))).isInstanceOf(BadSqlGrammarException.class);
+
+        verify(dataSource, times(1)).getConnection();
+    }
+
+    @Test
+    void fallBackToSqlState() {
+        assertThat(translate(new SQLException("duplicate", "23505"))).isInstanceOf(DuplicateKeyException.class);
+        assertThat(translate(new SQLException("deadlock", "40P01"))).isInstanceOf(DeadlockLoserDataAccessException.class);
+        assertThat(translate(new SQLException("broken", "08006"))).isInstanceOf(TransientConnectionException.class);
+        assertThat(translate(new SQLException("syntax", "42601"))).isInstanceOf(BadSqlGrammarException.class);
+    }
+
+    @Test
+    void unknownErrorIsPlainDataAccessException() {
+        final var translated = translate(new SQLException("unknown", "HY000", 9999));
+
+        assertThat(translated.getClass()).isEqualTo(DataAccessException.class);
+        assertThat(translated).hasCauseInstanceOf(SQLException.class);
+    }
+
+    @Test
+    void transientExceptionHasNoStackTrace() {
+        final var translated = translate(new SQLException("deadlock", "40001", 1213));
+
+        assertThat(translated.getStackTrace()).isEmpty();
+    }
+
+    private DataAccessException translate(final SQLException e) {
+        return translator.translate("test", "select 1", e);
+    }
+}
@@ -0,0 +1,104 @@
+package com.interface21.transaction.interceptor;
+
+import com.interface21.jdbc.datasource.DataSourceTransactionManager;
+import com.interface21.transaction.annotation.Transactional;
+import com.interface21.transaction.support.TransactionSynchronizationManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TransactionProxyFactoryTest {
+
+    private DataSource dataSource;
+    private Connection connection;
+    private TransactionProxyFactory transactionProxyFactory;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = mock(DataSource.class);
+        connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+        transactionProxyFactory = new TransactionProxyFactory(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    void commitTransactionalMethod() throws SQLException {
+        final var service = transactionProxyFactory.createProxy(SampleService.class, new SampleServiceImpl(dataSource));
+
+        final var boundConnection = service.save();
+
+        assertThat(boundConnection).isSameAs(connection);
+        verify(connection).setAutoCommit(false);
+        verify(connection).commit();
+        verify(connection).close();
+        assertThat(TransactionSynchronizationManager.getResource(dataSource)).isNull();
+    }
+
+    @Test
+    void rollbackOnRuntimeException() throws SQLException {
+        final var service = transactionProxyFactory.createProxy(SampleService.class, new SampleServiceImpl(dataSource));
+
+        assertThatThrownBy(service::fail).isInstanceOf(IllegalStateException.class);
+
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        verify(connection).close();
+    }
+
+    @Test
+    void nonTransactionalMethodRunsWithoutTransaction() {
+        final var service = transactionProxyFactory.createProxy(SampleService.class, new SampleServiceImpl(dataSource));
+
+        final var boundConnection = service.find();
+
+        assertThat(boundConnection).isNull();
+        verifyNoInteractions(connection);
+    }
+
+    interface SampleService {
+
+        Connection save();
+
+        void fail();
+
+        Connection find();
+    }
+
+    static class SampleServiceImpl implements SampleService {
+
+        private final DataSource dataSource;
+
+        SampleServiceImpl(final DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @Override
+        @Transactional
+        public Connection save() {
+            return TransactionSynchronizationManager.getResource(dataSource);
+        }
+
+        @Override
+        @Transactional
+        public void fail() {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        public Connection find() {
+            return TransactionSynchronizationManager.getResource(dataSource);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.interface21.transaction.support;
+
+import com.interface21.dao.CannotAcquireLockException;
+import com.interface21.dao.DataAccessException;
+import com.interface21.dao.QueryCancelledException;
+import com.interface21.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
+import com.interface21.transaction.PlatformTransactionManager;
+import com.interface21.transaction.TransactionDefinition;
+import com.interface21.transaction.TransactionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RetryingTransactionExecutorTest {
+
+    private static final RetryPolicy NO_BACKOFF = new RetryPolicy(3, Duration.ZERO, Duration.ZERO, Duration.ofSeconds(1));
+
+    private PlatformTransactionManager transactionManager;
+    private RetryingTransactionExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any()))
+                .thenAnswer(invocation -> TransactionStatus.newTransaction(mock(Connection.class), true, true, null, null));
+        executor = new RetryingTransactionExecutor(transactionManager, NO_BACKOFF);
+    }
+
+    @Test
+    void retryDeadlockUntilSuccess() {
+        final var attempts = new AtomicInteger();
+
+        final var result = executor.execute(TransactionDefinition.DEFAULT, status -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new DataAccessException(new SQLException("deadlock", "40001"));
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager).commit(any());
+        assertThat(executor.getRetryCount()).isEqualTo(2);
+    }
+
+    @Test
+    void giveUpAfterMaxAttempts() {
+        final var attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute(TransactionDefinition.DEFAULT, status -> {
+            attempts.incrementAndGet();
+            throw new CannotAcquireLockException("lock wait timeout", new SQLException("lock wait timeout", "HY000", 1205));
+        })).isInstanceOf(DataAccessException.class);
+
+        assertThat(attempts).hasValue(3);
+        assertThat(executor.getExhaustedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void doNotRetryNonTransientFailure() {
+        final var attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute(TransactionDefinition.DEFAULT, status -> {
+            attempts.incrementAndGet();
+            throw new DataAccessException(new SQLException("syntax error", "42000"));
+        })).isInstanceOf(DataAccessException.class);
+
+        assertThat(attempts).hasValue(1);
+        assertThat(executor.getRetryCount()).isZero();
+    }
+
+    @Test
+    void doNotRetryWhenParticipating() {
+        when(transactionManager.getTransaction(any()))
+                .thenAnswer(invocation -> TransactionStatus.participating(mock(Connection.class)));
+        final var attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute(TransactionDefinition.DEFAULT, status -> {
+            attempts.incrementAndGet();
+            throw new DataAccessException(new SQLException("deadlock", "40001"));
+        })).isInstanceOf(DataAccessException.class);
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void doNotRetryCancelledStatement() {
+        final var attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute(TransactionDefinition.DEFAULT, status -> {
+            attempts.incrementAndGet();
+            throw new QueryCancelledException("Query cancelled", new SQLTimeoutException("cancelled", "40001"));
+        })).isInstanceOf(QueryCancelledException.class);
+
+        assertThat(attempts).hasValue(1);
+        assertThat(executor.getRetryCount()).isZero();
+    }
+
+    @Test
+    void retryLockTimeoutReportedAsSqlTimeout() {
+        final var attempts = new AtomicInteger();
+
+        final var result = executor.execute(TransactionDefinition.DEFAULT, status -> {
+            if (attempts.incrementAndGet() < 2) {
+                throw new CannotAcquireLockException("timeout", new SQLTimeoutException("Timeout trying to lock table", "HYT00", 50200));
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void doNotRetryStatementCancelledBySqlTimeout() {
+        final var attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute(TransactionDefinition.DEFAULT, status -> {
+            attempts.incrementAndGet();
+            throw new DataAccessException(new SQLTimeoutException("Statement was canceled", "57014", 57014));
+        })).isInstanceOf(DataAccessException.class);
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void classifyH2TimeoutsByVendorCode() throws SQLException {
+        final var h2Executor = new RetryingTransactionExecutor(transactionManager, NO_BACKOFF, translatorFor("H2"));
+        final var lockTimeouts = new AtomicInteger();
+        final var cancels = new AtomicInteger();
+
+        assertThatThrownBy(() -> h2Executor.execute(TransactionDefinition.DEFAULT, status -> {
+            lockTimeouts.incrementAndGet();
+            throw new DataAccessException(new SQLTimeoutException("Timeout trying to lock table", "HYT00", 50200));
+        })).isInstanceOf(DataAccessException.class);
+        assertThatThrownBy(() -> h2Executor.execute(TransactionDefinition.DEFAULT, status -> {
+            cancels.incrementAndGet();
+            throw new DataAccessException(new SQLTimeoutException("Statement was canceled", "57014", 57014));
+        })).isInstanceOf(DataAccessException.class);
+
+        assertThat(lockTimeouts).hasValue(3);
+        assertThat(cancels).hasValue(1);
+    }
+
+    @Test
+    void classifyRawVendorCodesWithResolvedDialect() throws SQLException {
+        final var mysqlExecutor = new RetryingTransactionExecutor(transactionManager, NO_BACKOFF, translatorFor("MySQL"));
+        final var lockWaits = new AtomicInteger();
+        final var oracleDeadlocks = new AtomicInteger();
+
+        assertThatThrownBy(() -> mysqlExecutor.execute(TransactionDefinition.DEFAULT, status -> {
+            lockWaits.incrementAndGet();
+            throw new DataAccessException(new SQLException("lock wait timeout", "HY000", 1205));
+        })).isInstanceOf(DataAccessException.class);
+        assertThatThrownBy(() -> mysqlExecutor.execute(TransactionDefinition.DEFAULT, status -> {
+            oracleDeadlocks.incrementAndGet();
+            throw new DataAccessException(new SQLException("not a deadlock on MySQL", "HY000", 60));
+        })).isInstanceOf(DataAccessException.class);
+
+        assertThat(lockWaits).hasValue(3);
+        assertThat(oracleDeadlocks).hasValue(1);
+    }
+
+    private static SQLErrorCodeSQLExceptionTranslator translatorFor(final String productName) throws SQLException {
+        final var dataSource = mock(DataSource.class);
+        final var connection = mock(Connection.class);
+        final var metaData = mock(DatabaseMetaData.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn(productName);
+        return new SQLErrorCodeSQLExceptionTranslator(dataSource);
+    }
+}
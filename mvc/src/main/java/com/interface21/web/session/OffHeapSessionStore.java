@@ -0,0 +1,248 @@
+package com.interface21.web.session;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 세션 상태를 직렬화해 힙 밖의 direct ByteBuffer 슬랩에 담는 저장소.
+ * 슬랩은 고정 크기 슬롯으로 나뉘며, 세션 id 는 슬롯 번호와 할당 스탬프를 합친 long 핸들로 찾는다.
+ * 슬롯이 해제된 뒤 다른 세션에 재할당되어도 스탬프가 달라 이전 핸들로는 읽히지 않는다.
+ * 슬롯이 모두 차면 만료된 세션을 먼저 비우고, 그래도 없으면 SessionStoreFullException 을 던진다.
+ *
+ * <pre>
+ * slot : | stamp (int) | length (int) | lastAccessed (long) | payload ... |
+ * </pre>
+ */
+public class OffHeapSessionStore<T> implements SessionStore<T> {
+
+    private static final int STAMP_OFFSET = 0;
+    private static final int LENGTH_OFFSET = Integer.BYTES;
+    private static final int LAST_ACCESSED_OFFSET = Integer.BYTES * 2;
+    private static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES;
+    private static final int EMPTY_STAMP = 0;
+    private static final int LOCK_STRIPES = 64;
+
+    private final SessionCodec<T> codec;
+    private final ByteBuffer slab;
+    private final int slotSize;
+    private final long maxIdleMillis;
+    private final LongSupplier clock;
+    private final Map<String, Long> handles = new ConcurrentHashMap<>();
+    private final Object[] slotLocks = new Object[LOCK_STRIPES];
+    private final ThreadLocal<ByteBuffer> scratch;
+
+    private final int[] freeSlots;
+    private int freeCount;
+    private int nextStamp = EMPTY_STAMP;
+
+    public OffHeapSessionStore(final SessionCodec<T> codec, final int slotCount, final int slotSize, final Duration maxIdle) {
+        this(codec, slotCount, slotSize, maxIdle, System::currentTimeMillis);
+    }
+
+    OffHeapSessionStore(final SessionCodec<T> codec, final int slotCount, final int slotSize, final Duration maxIdle,
+                        final LongSupplier clock) {
+        if (slotCount <= 0 || slotSize <= HEADER_SIZE) {
+            throw new IllegalArgumentException("slotCount must be positive and slotSize larger than " + HEADER_SIZE);
+        }
+        if ((long) slotCount * slotSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("slab too large : " + slotCount + " * " + slotSize);
+        }
+        this.codec = codec;
+        this.slab = ByteBuffer.allocateDirect(slotCount * slotSize);
+        this.slotSize = slotSize;
+        this.maxIdleMillis = maxIdle.toMillis();
+        this.clock = clock;
+        this.scratch = ThreadLocal.withInitial(() -> ByteBuffer.allocate(slotSize - HEADER_SIZE));
+        this.freeSlots = new int[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            freeSlots[i] = slotCount - 1 - i;
+        }
+        this.freeCount = slotCount;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            slotLocks[i] = new Object();
+        }
+    }
+
+    @Override
+    public Optional<T> get(final String sessionId) {
+        final var handle = handles.get(sessionId);
+        if (handle == null) {
+            return Optional.empty();
+        }
+        final var buffer = scratch.get().clear();
+        if (!read(handle, buffer)) {
+            expire(sessionId, handle);
+            return Optional.empty();
+        }
+        return Optional.of(codec.decode(buffer.flip()));
+    }
+
+    @Override
+    public void put(final String sessionId, final T value) {
+        final var buffer = encode(value);
+        while (true) {
+            final var handle = handles.get(sessionId);
+            if (handle != null) {
+                if (write(handle, buffer, false)) {
+                    return;
+                }
+                handles.remove(sessionId, handle);
+                continue;
+            }
+
+            final var allocated = allocateOrEvict();
+            write(allocated, buffer, true);
+            if (handles.putIfAbsent(sessionId, allocated) == null) {
+                return;
+            }
+            clear(allocated);
+            release(allocated);
+        }
+    }
+
+    @Override
+    public void remove(final String sessionId) {
+        final var handle = handles.remove(sessionId);
+        if (handle != null) {
+            clear(handle);
+            release(handle);
+        }
+    }
+
+    /**
+     * 마지막 접근 이후 maxIdle 이 지난 세션을 모두 제거하고 제거한 수를 반환한다.
+     */
+    @Override
+    public int evictIdle() {
+        final var now = clock.getAsLong();
+        int evicted = 0;
+        for (final var entry : handles.entrySet()) {
+            if (isIdle(entry.getValue(), now) && expire(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    @Override
+    public int size() {
+        return handles.size();
+    }
+
+    private ByteBuffer encode(final T value) {
+        final var buffer = scratch.get().clear();
+        try {
+            codec.encode(value, buffer);
+        } catch (BufferOverflowException e) {
+            throw new IllegalArgumentException("session value exceeds slot payload size : " + buffer.capacity(), e);
+        }
+        return buffer.flip();
+    }
+
+    private boolean read(final long handle, final ByteBuffer target) {
+        final var offset = offset(handle);
+        synchronized (lockFor(handle)) {
+            if (slab.getInt(offset + STAMP_OFFSET) != stamp(handle)) {
+                return false;
+            }
+            final var now = clock.getAsLong();
+            if (now - slab.getLong(offset + LAST_ACCESSED_OFFSET) > maxIdleMillis) {
+                return false;
+            }
+            final var length = slab.getInt(offset + LENGTH_OFFSET);
+            slab.get(offset + HEADER_SIZE, target.array(), 0, length);
+            target.position(length);
+            slab.putLong(offset + LAST_ACCESSED_OFFSET, now);
+            return true;
+        }
+    }
+
+    private boolean write(final long handle, final ByteBuffer source, final boolean claim) {
+        final var offset = offset(handle);
+        synchronized (lockFor(handle)) {
+            if (claim) {
+                slab.putInt(offset + STAMP_OFFSET, stamp(handle));
+            } else if (slab.getInt(offset + STAMP_OFFSET) != stamp(handle)) {
+                return false;
+            }
+            slab.putInt(offset + LENGTH_OFFSET, source.remaining());
+            slab.putLong(offset + LAST_ACCESSED_OFFSET, clock.getAsLong());
+            slab.put(offset + HEADER_SIZE, source.array(), 0, source.remaining());
+            return true;
+        }
+    }
+
+    private boolean isIdle(final long handle, final long now) {
+        final var offset = offset(handle);
+        synchronized (lockFor(handle)) {
+            return slab.getInt(offset + STAMP_OFFSET) != stamp(handle)
+                    || now - slab.getLong(offset + LAST_ACCESSED_OFFSET) > maxIdleMillis;
+        }
+    }
+
+    private boolean expire(final String sessionId, final long handle) {
+        if (!handles.remove(sessionId, handle)) {
+            return false;
+        }
+        clear(handle);
+        release(handle);
+        return true;
+    }
+
+    private void clear(final long handle) {
+        final var offset = offset(handle);
+        synchronized (lockFor(handle)) {
+            if (slab.getInt(offset + STAMP_OFFSET) == stamp(handle)) {
+                slab.putInt(offset + STAMP_OFFSET, EMPTY_STAMP);
+            }
+        }
+    }
+
+    private long allocateOrEvict() {
+        var handle = allocate();
+        if (handle < 0) {
+            evictIdle();
+            handle = allocate();
+        }
+        if (handle < 0) {
+            throw new SessionStoreFullException("OffHeapSessionStore is full. slots : " + freeSlots.length);
+        }
+        return handle;
+    }
+
+    private synchronized long allocate() {
+        if (freeCount == 0) {
+            return -1L;
+        }
+        final var slot = freeSlots[--freeCount];
+        if (++nextStamp <= EMPTY_STAMP) {
+            nextStamp = EMPTY_STAMP + 1;
+        }
+        return ((long) nextStamp << 32) | slot;
+    }
+
+    private synchronized void release(final long handle) {
+        freeSlots[freeCount++] = slot(handle);
+    }
+
+    private Object lockFor(final long handle) {
+        return slotLocks[slot(handle) & (LOCK_STRIPES - 1)];
+    }
+
+    private int offset(final long handle) {
+        return slot(handle) * slotSize;
+    }
+
+    private static int slot(final long handle) {
+        return (int) handle;
+    }
+
+    private static int stamp(final long handle) {
+        return (int) (handle >>> 32);
+    }
+}
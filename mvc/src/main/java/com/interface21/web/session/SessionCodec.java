@@ -0,0 +1,13 @@
+package com.interface21.web.session;
+
+import java.nio.ByteBuffer;
+
+public interface SessionCodec<T> {
+
+    /**
+     * target 의 남은 공간보다 큰 값이면 BufferOverflowException 이 발생한다.
+     */
+    void encode(final T value, final ByteBuffer target);
+
+    T decode(final ByteBuffer source);
+}
@@ -0,0 +1,16 @@
+package com.interface21.web.session;
+
+import java.util.Optional;
+
+public interface SessionStore<T> {
+
+    Optional<T> get(final String sessionId);
+
+    void put(final String sessionId, final T value);
+
+    void remove(final String sessionId);
+
+    int evictIdle();
+
+    int size();
+}
@@ -0,0 +1,14 @@
+package com.interface21.web.session;
+
+/**
+ * 저장소의 자리가 모두 찼고 만료된 세션도 없어 새 세션을 저장하지 못했다.
+ * 기존 세션을 밀어내지 않으므로, 호출한 쪽은 잠시 뒤 다시 시도하라고 응답해야 한다.
+ */
+public class SessionStoreFullException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    public SessionStoreFullException(final String message) {
+        super(message);
+    }
+}
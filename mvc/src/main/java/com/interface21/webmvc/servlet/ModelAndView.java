@@ -1,30 +1,38 @@
 package com.interface21.webmvc.servlet;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import com.interface21.webmvc.servlet.view.RawJson;
 
 public class ModelAndView {
 
     private final View view;
-    private final Map<String, Object> model;
+    private final ModelMap model;
 
     public ModelAndView(final View view) {
         this.view = view;
-        this.model = new HashMap<>();
+        this.model = new ModelMap();
     }
 
     public ModelAndView addObject(final String attributeName, final Object attributeValue) {
-        model.put(attributeName, attributeValue);
+        model.add(attributeName, attributeValue);
         return this;
     }
 
+    /**
+     * 이미 인코딩된 UTF-8 JSON 을 그대로 모델에 넣는다. JsonView 는 이 값을 다시 직렬화하지 않는다.
+     */
+    public ModelAndView addRawJson(final String attributeName, final byte[] json) {
+        return addObject(attributeName, RawJson.of(json));
+    }
+
     public Object getObject(final String attributeName) {
         return model.get(attributeName);
     }
 
-    public Map<String, Object> getModel() {
-        return Collections.unmodifiableMap(model);
+    /**
+     * 읽기 전용 모델을 감싸지 않고 그대로 반환한다. 호출할 때마다 새 객체를 만들지 않는다.
+     */
+    public ModelMap getModel() {
+        return model;
     }
 
     public View getView() {
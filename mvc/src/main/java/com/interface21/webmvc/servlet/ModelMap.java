@@ -0,0 +1,123 @@
+package com.interface21.webmvc.servlet;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * 키와 값을 배열 하나에 번갈아 담는 작은 모델. 대부분의 요청은 속성이 0~2개이므로 해시 테이블을 만들지 않고
+ * 선형 탐색한다. 비어 있으면 배열도 만들지 않고, 넘치면 두 배로 늘린다. 넣은 순서를 유지한다.
+ * <p>
+ * Map 으로는 읽기만 할 수 있다. 뷰는 keyAt, valueAt 이나 forEach 로 Iterator, Entry 없이 순회할 수 있다.
+ */
+public final class ModelMap extends AbstractMap<String, Object> {
+
+    private static final int INITIAL_CAPACITY = 2;
+
+    private Object[] table;
+    private int size;
+
+    ModelMap() {
+    }
+
+    void add(final String key, final Object value) {
+        final var index = indexOf(key);
+        if (index >= 0) {
+            table[index * 2 + 1] = value;
+            return;
+        }
+        if (table == null) {
+            table = new Object[INITIAL_CAPACITY * 2];
+        } else if (size * 2 == table.length) {
+            table = Arrays.copyOf(table, table.length * 2);
+        }
+        table[size * 2] = key;
+        table[size * 2 + 1] = value;
+        size++;
+    }
+
+    public String keyAt(final int index) {
+        Objects.checkIndex(index, size);
+        return (String) table[index * 2];
+    }
+
+    public Object valueAt(final int index) {
+        Objects.checkIndex(index, size);
+        return table[index * 2 + 1];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(final Object key) {
+        final var index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        return table[index * 2 + 1];
+    }
+
+    @Override
+    public void forEach(final BiConsumer<? super String, ? super Object> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept((String) table[i * 2], table[i * 2 + 1]);
+        }
+    }
+
+    /**
+     * Map 계약을 위한 뷰. Entry 를 만들므로 뷰 구현에서는 keyAt, valueAt 을 쓴다.
+     */
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size;
+                    }
+
+                    @Override
+                    public Map.Entry<String, Object> next() {
+                        if (next >= size) {
+                            throw new NoSuchElementException();
+                        }
+                        final var index = next++;
+                        return new SimpleImmutableEntry<>(keyAt(index), valueAt(index));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int indexOf(final Object key) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(table[i * 2], key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,175 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 요청 본문을 ReadListener 로 읽어 풀에서 빌린 버퍼에 모은 뒤 핸들러를 호출한다.
+ * 본문이 도착하는 동안에는 요청 스레드를 반납하므로 느리게 올리는 클라이언트가 컨테이너 스레드를 붙잡지 못한다.
+ * 본문을 다 읽으면 같은 요청을 비동기로 다시 디스패치하고, DispatcherServlet 은 그때 버퍼를 감싼 요청으로 핸들러를 호출한다.
+ */
+public class AsyncRequestBodyReader {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncRequestBodyReader.class);
+
+    private static final String BODY_ATTRIBUTE = AsyncRequestBodyReader.class.getName() + ".BODY";
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int POOL_CAPACITY = 256;
+
+    private final int maximumBodySize;
+    private final Duration readTimeout;
+    private final BufferPool bufferPool;
+
+    /**
+     * @param maximumBodySize 이보다 큰 본문은 413 으로 거절한다.
+     * @param readTimeout     본문을 다 받을 때까지 기다리는 시간. 넘기면 408 로 응답한다.
+     */
+    public AsyncRequestBodyReader(final int maximumBodySize, final Duration readTimeout) {
+        this(maximumBodySize, readTimeout, new BufferPool(BUFFER_SIZE, POOL_CAPACITY));
+    }
+
+    AsyncRequestBodyReader(final int maximumBodySize, final Duration readTimeout, final BufferPool bufferPool) {
+        if (maximumBodySize < 1) {
+            throw new IllegalArgumentException("maximumBodySize must be positive : " + maximumBodySize);
+        }
+        this.maximumBodySize = maximumBodySize;
+        this.readTimeout = readTimeout;
+        this.bufferPool = bufferPool;
+    }
+
+    /**
+     * 본문이 있는 요청이면 비동기 읽기를 시작하고 true 를 반환한다. 이때 호출한 쪽은 바로 반환해야 한다.
+     */
+    boolean startReading(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+        if (request.getDispatcherType() != DispatcherType.REQUEST || !request.isAsyncSupported() || !hasBody(request)) {
+            return false;
+        }
+        if (request.getContentLengthLong() > maximumBodySize) {
+            response.setStatus(413);
+            return true;
+        }
+        final var asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(readTimeout.toMillis());
+        final var collector = new BodyCollector(asyncContext, request.getInputStream(), response);
+        asyncContext.addListener(collector);
+        request.getInputStream().setReadListener(collector);
+        return true;
+    }
+
+    /**
+     * 본문을 다 읽고 다시 디스패치된 요청이면 버퍼를 감싼 요청을, 아니면 받은 요청을 그대로 반환한다.
+     */
+    static HttpServletRequest bufferedRequest(final HttpServletRequest request) {
+        if (request.getAttribute(BODY_ATTRIBUTE) instanceof RequestBody body) {
+            return new BufferedBodyRequest(request, body);
+        }
+        return request;
+    }
+
+    static void release(final HttpServletRequest request) {
+        if (request.getAttribute(BODY_ATTRIBUTE) instanceof RequestBody body) {
+            request.removeAttribute(BODY_ATTRIBUTE);
+            body.release();
+        }
+    }
+
+    private static boolean hasBody(final HttpServletRequest request) {
+        final var method = request.getMethod();
+        if (!"POST".equals(method) && !"PUT".equals(method) && !"PATCH".equals(method)) {
+            return false;
+        }
+        final var contentLength = request.getContentLengthLong();
+        return contentLength > 0 || contentLength < 0 && request.getHeader("Transfer-Encoding") != null;
+    }
+
+    /**
+     * 입력이 준비된 만큼만 읽고 반환한다. 컨테이너는 데이터가 더 오면 onDataAvailable 을 다시 호출한다.
+     */
+    private final class BodyCollector implements ReadListener, AsyncListener {
+
+        private final AsyncContext asyncContext;
+        private final ServletInputStream inputStream;
+        private final HttpServletResponse response;
+        private final RequestBody body = new RequestBody(bufferPool);
+        private boolean done;
+
+        private BodyCollector(final AsyncContext asyncContext, final ServletInputStream inputStream,
+                              final HttpServletResponse response) {
+            this.asyncContext = asyncContext;
+            this.inputStream = inputStream;
+            this.response = response;
+        }
+
+        @Override
+        public synchronized void onDataAvailable() throws IOException {
+            while (!done && inputStream.isReady()) {
+                final var buffer = body.writableBuffer();
+                final var offset = body.writableOffset();
+                final var read = inputStream.read(buffer, offset, buffer.length - offset);
+                if (read < 0) {
+                    return;
+                }
+                body.written(read);
+                if (body.length() > maximumBodySize) {
+                    fail(413);
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public synchronized void onAllDataRead() {
+            if (done) {
+                return;
+            }
+            done = true;
+            asyncContext.getRequest().setAttribute(BODY_ATTRIBUTE, body);
+            asyncContext.dispatch();
+        }
+
+        @Override
+        public synchronized void onError(final Throwable t) {
+            log.debug("failed to read request body : {}", t.getMessage());
+            fail(400);
+        }
+
+        @Override
+        public synchronized void onTimeout(final AsyncEvent event) {
+            fail(408);
+        }
+
+        @Override
+        public void onError(final AsyncEvent event) {
+            onError(event.getThrowable());
+        }
+
+        @Override
+        public void onComplete(final AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(final AsyncEvent event) {
+        }
+
+        private void fail(final int status) {
+            if (done) {
+                return;
+            }
+            done = true;
+            body.release();
+            response.setStatus(status);
+            asyncContext.complete();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 요청 본문을 담는 고정 크기 버퍼를 재사용한다. 풀이 비면 새로 만들고, 가득 차 있으면 반납된 버퍼는 버린다.
+ */
+final class BufferPool {
+
+    private final int bufferSize;
+    private final BlockingQueue<byte[]> idle;
+
+    BufferPool(final int bufferSize, final int capacity) {
+        this.bufferSize = bufferSize;
+        this.idle = new ArrayBlockingQueue<>(capacity);
+    }
+
+    int bufferSize() {
+        return bufferSize;
+    }
+
+    byte[] borrow() {
+        final var buffer = idle.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+        return new byte[bufferSize];
+    }
+
+    void release(final byte[] buffer) {
+        idle.offer(buffer);
+    }
+}
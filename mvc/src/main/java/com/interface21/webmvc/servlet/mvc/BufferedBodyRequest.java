@@ -0,0 +1,132 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 미리 다 읽어 둔 본문을 보여주는 요청. 컨테이너는 본문을 이미 소비했으므로
+ * form 본문의 파라미터는 여기서 직접 파싱해 쿼리 스트링 파라미터 뒤에 붙인다.
+ */
+final class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+    private static final String FORM_CONTENT_TYPE = "application/x-www-form-urlencoded";
+
+    private final RequestBody body;
+    private Map<String, String[]> parameters;
+
+    BufferedBodyRequest(final HttpServletRequest request, final RequestBody body) {
+        super(request);
+        this.body = body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        final var inputStream = body.openStream();
+        return new ServletInputStream() {
+            @Override
+            public int read() {
+                return inputStream.read();
+            }
+
+            @Override
+            public int read(final byte[] b, final int off, final int len) {
+                return inputStream.read(b, off, len);
+            }
+
+            @Override
+            public boolean isFinished() {
+                return inputStream.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(final ReadListener readListener) {
+                throw new IllegalStateException("Request body has already been read");
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        return new BufferedReader(new InputStreamReader(body.openStream(), charset()));
+    }
+
+    @Override
+    public String getParameter(final String name) {
+        final var values = parameters().get(name);
+        return values == null ? null : values[0];
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return Collections.unmodifiableMap(parameters());
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parameters().keySet());
+    }
+
+    @Override
+    public String[] getParameterValues(final String name) {
+        final var values = parameters().get(name);
+        return values == null ? null : values.clone();
+    }
+
+    private Map<String, String[]> parameters() {
+        if (parameters == null) {
+            parameters = parseParameters();
+        }
+        return parameters;
+    }
+
+    private Map<String, String[]> parseParameters() {
+        final var merged = new LinkedHashMap<String, List<String>>();
+        super.getParameterMap().forEach((name, values) -> merged.computeIfAbsent(name, key -> new ArrayList<>()).addAll(List.of(values)));
+        if (isForm()) {
+            final var charset = charset();
+            for (final var pair : new String(body.toByteArray(), StandardCharsets.ISO_8859_1).split("&")) {
+                if (pair.isEmpty()) {
+                    continue;
+                }
+                final var separator = pair.indexOf('=');
+                final var name = separator < 0 ? pair : pair.substring(0, separator);
+                final var value = separator < 0 ? "" : pair.substring(separator + 1);
+                merged.computeIfAbsent(URLDecoder.decode(name, charset), key -> new ArrayList<>())
+                        .add(URLDecoder.decode(value, charset));
+            }
+        }
+        final var result = new LinkedHashMap<String, String[]>();
+        merged.forEach((name, values) -> result.put(name, values.toArray(String[]::new)));
+        return result;
+    }
+
+    private boolean isForm() {
+        final var contentType = getContentType();
+        return contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith(FORM_CONTENT_TYPE);
+    }
+
+    private Charset charset() {
+        final var encoding = getCharacterEncoding();
+        return encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+    }
+}
@@ -0,0 +1,61 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * If-None-Match, If-Modified-Since 를 검사하고 ETag, Last-Modified 를 내려준다.
+ * ETag 는 변경 시각으로 만든 weak ETag 다. 압축 필터가 본문 바이트를 바꿔도 같은 리소스로 취급되어야 하기 때문이다.
+ */
+final class ConditionalRequests {
+
+    private ConditionalRequests() {}
+
+    static boolean isCacheable(final HttpServletRequest request) {
+        final var method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method);
+    }
+
+    static void writeValidators(final HttpServletResponse response, final long lastModified) {
+        response.setHeader("ETag", etagOf(lastModified));
+        response.setDateHeader("Last-Modified", lastModified);
+    }
+
+    /**
+     * If-None-Match 가 있으면 그것만 보고, 없을 때만 If-Modified-Since 를 비교한다.
+     * 변경 시각은 밀리초 단위인데 HTTP 날짜는 초 단위이므로, 초로 내려 비교하면 같은 초 안의 변경을 놓친다.
+     * 그래서 밀리초 그대로 비교한다. 초 경계에 맞지 않는 버전은 If-Modified-Since 로는 304 가 되지 않고 ETag 로만 된다.
+     */
+    static boolean isNotModified(final HttpServletRequest request, final long lastModified) {
+        final var ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            return matchesAny(ifNoneMatch, etagOf(lastModified));
+        }
+        final long ifModifiedSince;
+        try {
+            ifModifiedSince = request.getDateHeader("If-Modified-Since");
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return ifModifiedSince >= 0 && lastModified <= ifModifiedSince;
+    }
+
+    private static boolean matchesAny(final String ifNoneMatch, final String etag) {
+        final var opaque = opaqueTag(etag);
+        for (final var candidate : ifNoneMatch.split(",")) {
+            final var tag = candidate.trim();
+            if (tag.equals("*") || opaqueTag(tag).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(final String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static String etagOf(final long lastModified) {
+        return "W/\"" + Long.toHexString(lastModified) + "\"";
+    }
+}
@@ -1,21 +1,49 @@
 package com.interface21.webmvc.servlet.mvc;
 
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.interface21.web.http.MediaType;
 import com.interface21.webmvc.servlet.ModelAndView;
+import com.interface21.webmvc.servlet.mvc.limit.AdmissionLimiter;
+import com.interface21.webmvc.servlet.mvc.metrics.RequestMetrics;
+import com.interface21.webmvc.servlet.mvc.metrics.RouteMetrics;
+import com.interface21.webmvc.servlet.view.JsonView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 public class DispatcherServlet extends HttpServlet {
 
     private static final long serialVersionUID = 1L;
     private static final Logger log = LoggerFactory.getLogger(DispatcherServlet.class);
 
+    /**
+     * 요청 처리 중인 RequestCancellation.Handle 이 담기는 요청 속성. 연결이 끊긴 것을 알게 된 쪽이 꺼내 취소할 수 있다.
+     */
+    public static final String CANCELLATION_ATTRIBUTE = DispatcherServlet.class.getName() + ".CANCELLATION";
+
     private final HandlerMappingRegistry handlerMappingRegistry;
     private final HandlerAdapterRegistry handlerAdapterRegistry;
     private HandlerExecutor handlerExecutor;
+    private RequestCancellation requestCancellation;
+    private Duration requestTimeout = Duration.ZERO;
+    private ScheduledThreadPoolExecutor watchdog;
+    private JsonBodyCache jsonBodyCache;
+    private AsyncRequestBodyReader asyncRequestBodyReader;
+    private final List<MappedInterceptor> mappedInterceptors = new ArrayList<>();
+    private RequestMetrics requestMetrics;
 
     public DispatcherServlet() {
         handlerMappingRegistry = new HandlerMappingRegistry();
@@ -25,6 +53,10 @@ public class DispatcherServlet extends HttpServlet {
     @Override
     public void init() {
         handlerExecutor = new HandlerExecutor(handlerAdapterRegistry);
+        handlerMappingRegistry.applyInterceptors(mappedInterceptors);
+        if (requestMetrics != null) {
+            handlerMappingRegistry.registerRouteMetrics(requestMetrics);
+        }
     }
 
     public void addHandlerMapping(final HandlerMapping handlerMapping) {
@@ -35,10 +67,82 @@ public class DispatcherServlet extends HttpServlet {
         handlerAdapterRegistry.addHandlerAdapter(handlerAdapter);
     }
 
+    /**
+     * 경로 패턴에 맞는 핸들러에 인터셉터를 건다. 패턴이 없으면 모든 핸들러에 건다.
+     * 서블릿 init 때 핸들러마다 맞는 인터셉터를 골라 두므로 그 전에 등록해야 한다.
+     */
+    public void addInterceptor(final HandlerInterceptor interceptor, final String... pathPatterns) {
+        addInterceptor(new MappedInterceptor(pathPatterns, interceptor));
+    }
+
+    public void addInterceptor(final MappedInterceptor mappedInterceptor) {
+        mappedInterceptors.add(mappedInterceptor);
+    }
+
+    /**
+     * 요청마다 취소 핸들을 열고, requestTimeout 이 지나도 끝나지 않은 요청은 취소한다.
+     * requestTimeout 이 0 이면 시간 제한 없이 핸들만 요청 속성으로 노출한다.
+     * 핸들과 시간 제한은 service 를 실행하는 스레드에만 걸린다. StreamingView 처럼 비동기로 이어서 쓰는 응답은
+     * service 가 반환할 때 핸들이 닫히므로, 그 뒤의 쓰기는 뷰가 정한 비동기 제한 시간으로만 끊긴다.
+     */
+    public void setRequestCancellation(final RequestCancellation requestCancellation, final Duration requestTimeout) {
+        this.requestCancellation = requestCancellation;
+        this.requestTimeout = requestTimeout;
+        if (watchdog == null && requestTimeout.isPositive()) {
+            watchdog = new ScheduledThreadPoolExecutor(1, runnable -> {
+                final var thread = new Thread(runnable, "request-watchdog");
+                thread.setDaemon(true);
+                return thread;
+            });
+            watchdog.setRemoveOnCancelPolicy(true);
+        }
+    }
+
+    /**
+     * LastModified 를 구현한 핸들러의 JSON 응답 본문을 URL 과 변경 시각으로 캐시한다.
+     * 리소스가 바뀌지 않았다면 조건부 요청이 아닌 요청도 핸들러와 직렬화를 건너뛴다.
+     */
+    public void setJsonBodyCache(final JsonBodyCache jsonBodyCache) {
+        this.jsonBodyCache = jsonBodyCache;
+    }
+
+    /**
+     * 본문이 있는 요청은 본문을 비동기로 다 읽은 뒤에 핸들러를 호출한다.
+     */
+    public void setAsyncRequestBodyReader(final AsyncRequestBodyReader asyncRequestBodyReader) {
+        this.asyncRequestBodyReader = asyncRequestBodyReader;
+    }
+
+    /**
+     * 핸들러마다 요청 수, 오류 수, 응답 시간 분포를 기록한다. 서블릿 init 때 핸들러에 지표를 붙이므로 그 전에 설정해야 한다.
+     * 리미터가 거절한 요청은 핸들러를 실행하지 않았으므로 기록하지 않는다.
+     */
+    public void setRequestMetrics(final RequestMetrics requestMetrics) {
+        this.requestMetrics = requestMetrics;
+    }
+
     @Override
-    protected void service(final HttpServletRequest request, final HttpServletResponse response) throws ServletException {
-        log.debug("Method : {}, Request URI : {}", request.getMethod(), request.getRequestURI());
+    public void destroy() {
+        if (watchdog != null) {
+            watchdog.shutdownNow();
+        }
+    }
 
+    @Override
+    protected void service(final HttpServletRequest originalRequest, final HttpServletResponse response) throws ServletException {
+        log.debug("Method : {}, Request URI : {}", originalRequest.getMethod(), originalRequest.getRequestURI());
+        try {
+            if (asyncRequestBodyReader != null && asyncRequestBodyReader.startReading(originalRequest, response)) {
+                return;
+            }
+        } catch (IOException e) {
+            log.error("Exception : {}", e.getMessage(), e);
+            throw new ServletException(e.getMessage());
+        }
+
+        final var request = AsyncRequestBodyReader.bufferedRequest(originalRequest);
+        final var cancellation = requestCancellation == null ? null : requestCancellation.open();
+        final var timeout = scheduleTimeout(cancellation, request);
         try {
             final var handler = handlerMappingRegistry.getHandler(request);
             if (!handler.isPresent()) {
@@ -46,12 +150,244 @@ public class DispatcherServlet extends HttpServlet {
                 return;
             }
 
-            final var modelAndView = handlerExecutor.handle(request, response, handler.get());
-            render(modelAndView, request, response);
+            final var admissionLimiters = handlerExecutor.getAdmissionLimiters(handler.get());
+            if (!admit(admissionLimiters, request, response)) {
+                return;
+            }
+            final var routeMetrics = requestMetrics == null ? null : handlerExecutor.getRouteMetrics(handler.get());
+            final var startNanos = System.nanoTime();
+            var dropped = true;
+            var continuesAsync = false;
+            try {
+                handle(request, response, handler.get());
+                dropped = false;
+                if (request.isAsyncStarted()) {
+                    request.getAsyncContext().addListener(new AsyncCompletion(admissionLimiters, routeMetrics, startNanos, response));
+                    continuesAsync = true;
+                }
+            } finally {
+                if (!continuesAsync) {
+                    final var latencyNanos = System.nanoTime() - startNanos;
+                    release(admissionLimiters, latencyNanos, dropped);
+                    record(routeMetrics, latencyNanos, dropped || response.getStatus() >= 500);
+                }
+            }
         } catch (Throwable e) {
             log.error("Exception : {}", e.getMessage(), e);
             throw new ServletException(e.getMessage());
+        } finally {
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+            if (cancellation != null) {
+                cancellation.close();
+            }
+            AsyncRequestBodyReader.release(originalRequest);
+        }
+    }
+
+    private ScheduledFuture<?> scheduleTimeout(final RequestCancellation.Handle cancellation, final HttpServletRequest request) {
+        if (cancellation == null) {
+            return null;
+        }
+        request.setAttribute(CANCELLATION_ATTRIBUTE, cancellation);
+        if (watchdog == null || !requestTimeout.isPositive()) {
+            return null;
+        }
+        return watchdog.schedule(() -> {
+            log.warn("request timed out. Request URI : {}", request.getRequestURI());
+            cancellation.cancel();
+        }, requestTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * preHandle 이 false 를 반환하면 거기서 멈추고, 그때까지 통과한 인터셉터의 afterCompletion 만 호출한다.
+     */
+    private void handle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) throws Exception {
+        final var interceptors = handlerExecutor.getInterceptors(handler);
+        var applied = 0;
+        Exception failure = null;
+        try {
+            while (applied < interceptors.length) {
+                if (!interceptors[applied].preHandle(request, response, handler)) {
+                    return;
+                }
+                applied++;
+            }
+            invokeHandler(request, response, handler, interceptors);
+        } catch (Exception e) {
+            failure = e;
+            throw e;
+        } finally {
+            triggerAfterCompletion(interceptors, applied, request, response, handler, failure);
+        }
+    }
+
+    private void invokeHandler(final HttpServletRequest request, final HttpServletResponse response, final Object handler,
+                               final HandlerInterceptor[] interceptors) throws Exception {
+        final var lastModified = ConditionalRequests.isCacheable(request)
+                ? handlerExecutor.getLastModified(request, handler)
+                : -1;
+        if (lastModified >= 0) {
+            ConditionalRequests.writeValidators(response, lastModified);
+            if (ConditionalRequests.isNotModified(request, lastModified)) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                applyPostHandle(interceptors, request, response, handler, null);
+                return;
+            }
+            if (writeCachedBody(request, response, lastModified)) {
+                applyPostHandle(interceptors, request, response, handler, null);
+                return;
+            }
+        }
+
+        final var modelAndView = handlerExecutor.handle(request, response, handler);
+        applyPostHandle(interceptors, request, response, handler, modelAndView);
+        if (lastModified >= 0 && jsonBodyCache != null && modelAndView.getView() instanceof JsonView jsonView) {
+            renderAndCache(jsonView, modelAndView, request, response, lastModified);
+            return;
+        }
+        render(modelAndView, request, response);
+    }
+
+    private void applyPostHandle(final HandlerInterceptor[] interceptors, final HttpServletRequest request,
+                                 final HttpServletResponse response, final Object handler,
+                                 final ModelAndView modelAndView) throws Exception {
+        for (int i = interceptors.length - 1; i >= 0; i--) {
+            interceptors[i].postHandle(request, response, handler, modelAndView);
+        }
+    }
+
+    private void triggerAfterCompletion(final HandlerInterceptor[] interceptors, final int applied, final HttpServletRequest request,
+                                        final HttpServletResponse response, final Object handler, final Exception failure) {
+        for (int i = applied - 1; i >= 0; i--) {
+            try {
+                interceptors[i].afterCompletion(request, response, handler, failure);
+            } catch (Exception e) {
+                log.error("afterCompletion failed : {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 리미터를 순서대로 통과시킨다. 하나라도 거절하면 앞에서 받은 것을 되돌리고 거절한 리미터가 응답을 쓴다.
+     */
+    private boolean admit(final AdmissionLimiter[] admissionLimiters, final HttpServletRequest request,
+                          final HttpServletResponse response) {
+        for (int i = 0; i < admissionLimiters.length; i++) {
+            if (!admissionLimiters[i].tryAcquire()) {
+                for (int j = 0; j < i; j++) {
+                    admissionLimiters[j].abandon();
+                }
+                log.debug("request rejected. Request URI : {}", request.getRequestURI());
+                admissionLimiters[i].reject(response);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void release(final AdmissionLimiter[] admissionLimiters, final long latencyNanos, final boolean dropped) {
+        for (final var admissionLimiter : admissionLimiters) {
+            admissionLimiter.release(latencyNanos, dropped);
+        }
+    }
+
+    private static void record(final RouteMetrics routeMetrics, final long latencyNanos, final boolean error) {
+        if (routeMetrics != null) {
+            routeMetrics.record(latencyNanos, error);
+        }
+    }
+
+    /**
+     * 핸들러가 비동기 처리를 시작했으면 응답을 다 쓴 뒤에 리미터를 반납하고 지표를 기록한다.
+     * 그래야 스트리밍 중인 요청도 동시 처리 수에 들어가고, 응답 시간이 실제 전송 시간이 된다.
+     */
+    private static final class AsyncCompletion implements AsyncListener {
+
+        private final AdmissionLimiter[] admissionLimiters;
+        private final RouteMetrics routeMetrics;
+        private final long startNanos;
+        private final HttpServletResponse response;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private AsyncCompletion(final AdmissionLimiter[] admissionLimiters, final RouteMetrics routeMetrics,
+                                final long startNanos, final HttpServletResponse response) {
+            this.admissionLimiters = admissionLimiters;
+            this.routeMetrics = routeMetrics;
+            this.startNanos = startNanos;
+            this.response = response;
+        }
+
+        @Override
+        public void onComplete(final AsyncEvent event) {
+            finish(false);
+        }
+
+        @Override
+        public void onTimeout(final AsyncEvent event) {
+            finish(true);
+        }
+
+        @Override
+        public void onError(final AsyncEvent event) {
+            finish(true);
+        }
+
+        @Override
+        public void onStartAsync(final AsyncEvent event) {
+        }
+
+        private void finish(final boolean dropped) {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            final var latencyNanos = System.nanoTime() - startNanos;
+            release(admissionLimiters, latencyNanos, dropped);
+            record(routeMetrics, latencyNanos, dropped || response.getStatus() >= 500);
+        }
+    }
+
+    private boolean writeCachedBody(final HttpServletRequest request, final HttpServletResponse response,
+                                    final long lastModified) throws IOException {
+        if (jsonBodyCache == null) {
+            return false;
+        }
+        final var body = jsonBodyCache.get(cacheKeyOf(request), lastModified);
+        if (body == null) {
+            return false;
+        }
+        writeJson(response, body);
+        return true;
+    }
+
+    /**
+     * 정상 응답만 캐시한다. 핸들러가 오류 상태를 정했거나 모델이 비어 있으면 평소처럼 렌더링한다.
+     */
+    private void renderAndCache(final JsonView jsonView, final ModelAndView modelAndView, final HttpServletRequest request,
+                                final HttpServletResponse response, final long lastModified) throws Exception {
+        final var model = modelAndView.getModel();
+        if (model.isEmpty() || response.getStatus() != HttpServletResponse.SC_OK) {
+            render(modelAndView, request, response);
+            return;
+        }
+        final var body = jsonView.serialize(model);
+        jsonBodyCache.put(cacheKeyOf(request), lastModified, body);
+        writeJson(response, body);
+    }
+
+    private void writeJson(final HttpServletResponse response, final byte[] body) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_UTF8_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private String cacheKeyOf(final HttpServletRequest request) {
+        final var queryString = request.getQueryString();
+        if (queryString == null) {
+            return request.getRequestURI();
         }
+        return request.getRequestURI() + '?' + queryString;
     }
 
     private void render(final ModelAndView modelAndView, final HttpServletRequest request, final HttpServletResponse response) throws Exception {
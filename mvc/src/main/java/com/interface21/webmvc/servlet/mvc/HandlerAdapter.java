@@ -1,12 +1,51 @@
 package com.interface21.webmvc.servlet.mvc;
 
 import com.interface21.webmvc.servlet.ModelAndView;
+import com.interface21.webmvc.servlet.mvc.limit.AdmissionLimiter;
+import com.interface21.webmvc.servlet.mvc.metrics.RouteMetrics;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 public interface HandlerAdapter {
+
+    AdmissionLimiter[] NO_LIMITERS = new AdmissionLimiter[0];
+    HandlerInterceptor[] NO_INTERCEPTORS = new HandlerInterceptor[0];
+
     boolean supports(final Object handler);
 
     ModelAndView handle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) throws Exception;
+
+    /**
+     * 핸들러를 실행하기 전에 리소스의 변경 시각을 알아낸다. 지원하지 않으면 -1.
+     *
+     * @see LastModified
+     */
+    default long getLastModified(final HttpServletRequest request, final Object handler) {
+        if (handler instanceof LastModified lastModified) {
+            return lastModified.getLastModified(request);
+        }
+        return -1;
+    }
+
+    /**
+     * 핸들러를 실행하기 전에 통과해야 하는 리미터. 매 요청 같은 배열을 반환하며, 호출한 쪽은 배열을 바꾸면 안 된다.
+     */
+    default AdmissionLimiter[] getAdmissionLimiters(final Object handler) {
+        return NO_LIMITERS;
+    }
+
+    /**
+     * 초기화할 때 골라 둔 이 핸들러의 인터셉터. 요청마다 같은 배열을 반환한다.
+     */
+    default HandlerInterceptor[] getInterceptors(final Object handler) {
+        return NO_INTERCEPTORS;
+    }
+
+    /**
+     * 초기화할 때 이 핸들러에 붙여 둔 경로별 지표. 없으면 null.
+     */
+    default RouteMetrics getRouteMetrics(final Object handler) {
+        return null;
+    }
 }
@@ -3,6 +3,8 @@ package com.interface21.webmvc.servlet.mvc;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import com.interface21.webmvc.servlet.ModelAndView;
+import com.interface21.webmvc.servlet.mvc.limit.AdmissionLimiter;
+import com.interface21.webmvc.servlet.mvc.metrics.RouteMetrics;
 
 public class HandlerExecutor {
 
@@ -16,4 +18,24 @@ public class HandlerExecutor {
         final var handlerAdapter = handlerAdapterRegistry.getHandlerAdapter(handler);
         return handlerAdapter.handle(request, response, handler);
     }
+
+    public long getLastModified(final HttpServletRequest request, final Object handler) {
+        final var handlerAdapter = handlerAdapterRegistry.getHandlerAdapter(handler);
+        return handlerAdapter.getLastModified(request, handler);
+    }
+
+    public AdmissionLimiter[] getAdmissionLimiters(final Object handler) {
+        final var handlerAdapter = handlerAdapterRegistry.getHandlerAdapter(handler);
+        return handlerAdapter.getAdmissionLimiters(handler);
+    }
+
+    public HandlerInterceptor[] getInterceptors(final Object handler) {
+        final var handlerAdapter = handlerAdapterRegistry.getHandlerAdapter(handler);
+        return handlerAdapter.getInterceptors(handler);
+    }
+
+    public RouteMetrics getRouteMetrics(final Object handler) {
+        final var handlerAdapter = handlerAdapterRegistry.getHandlerAdapter(handler);
+        return handlerAdapter.getRouteMetrics(handler);
+    }
 }
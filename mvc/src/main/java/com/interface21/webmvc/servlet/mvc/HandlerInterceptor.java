@@ -0,0 +1,38 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import com.interface21.webmvc.servlet.ModelAndView;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 핸들러 실행 전후에 끼어드는 지점. 필터와 달리 핸들러가 있는 경로에서만, 등록한 경로 패턴에 맞는 핸들러에서만 실행된다.
+ * preHandle 은 등록 순서대로, postHandle 과 afterCompletion 은 역순으로 호출된다.
+ */
+public interface HandlerInterceptor {
+
+    /**
+     * @return false 면 핸들러를 실행하지 않는다. 이때 응답은 인터셉터가 직접 써야 한다.
+     */
+    default boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler)
+            throws Exception {
+        return true;
+    }
+
+    /**
+     * 핸들러가 ModelAndView 를 반환한 뒤, 렌더링하기 전에 호출된다.
+     *
+     * @param modelAndView 304 나 캐시된 본문으로 응답해 핸들러를 실행하지 않았으면 null
+     */
+    default void postHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler,
+                            final ModelAndView modelAndView) throws Exception {
+    }
+
+    /**
+     * preHandle 이 true 를 반환한 인터셉터에 대해 요청이 어떻게 끝났든 호출된다.
+     *
+     * @param ex 핸들러나 렌더링에서 던진 예외. 정상 종료면 null
+     */
+    default void afterCompletion(final HttpServletRequest request, final HttpServletResponse response, final Object handler,
+                                 final Exception ex) throws Exception {
+    }
+}
@@ -1,10 +1,25 @@
 package com.interface21.webmvc.servlet.mvc;
 
+import com.interface21.webmvc.servlet.mvc.metrics.RequestMetrics;
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.util.List;
+
 public interface HandlerMapping {
 
     void initialize();
 
     Object getHandler(final HttpServletRequest request);
+
+    /**
+     * 핸들러마다 경로에 맞는 인터셉터를 미리 골라 둔다. 핸들러에 인터셉터를 담을 수 없는 매핑은 무시한다.
+     */
+    default void applyInterceptors(final List<MappedInterceptor> mappedInterceptors) {
+    }
+
+    /**
+     * 핸들러마다 경로별 지표를 등록해 붙여 둔다. 핸들러에 지표를 담을 수 없는 매핑은 무시한다.
+     */
+    default void registerRouteMetrics(final RequestMetrics requestMetrics) {
+    }
 }
@@ -1,5 +1,6 @@
 package com.interface21.webmvc.servlet.mvc;
 
+import com.interface21.webmvc.servlet.mvc.metrics.RequestMetrics;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.ArrayList;
 import java.util.List;
@@ -15,6 +16,14 @@ public class HandlerMappingRegistry {
         handlerMappings.add(handlerMapping);
     }
 
+    public void applyInterceptors(final List<MappedInterceptor> mappedInterceptors) {
+        handlerMappings.forEach(handlerMapping -> handlerMapping.applyInterceptors(mappedInterceptors));
+    }
+
+    public void registerRouteMetrics(final RequestMetrics requestMetrics) {
+        handlerMappings.forEach(handlerMapping -> handlerMapping.registerRouteMetrics(requestMetrics));
+    }
+
     public Optional<Object> getHandler(final HttpServletRequest request) {
         return handlerMappings.stream()
                 .map(hm -> hm.getHandler(request))
@@ -0,0 +1,57 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LastModified 를 구현한 핸들러가 JsonView 로 만든 응답 본문을 URL 별로 보관한다.
+ * 저장할 때의 변경 시각과 지금의 변경 시각이 같을 때만 꺼내 주므로, 리소스가 바뀌면 다음 요청에서 자연히 갱신된다.
+ * 응답이 URL 과 리소스 버전만으로 정해지는 핸들러에만 써야 한다. 세션이나 헤더에 따라 달라지는 응답은 캐시하면 안 된다.
+ */
+public class JsonBodyCache {
+
+    private final int maximumSize;
+    private final Map<String, Entry> entries;
+
+    public JsonBodyCache(final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive : " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+                return size() > JsonBodyCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * @return 같은 버전으로 저장된 본문. 없거나 버전이 다르면 null
+     */
+    public byte[] get(final String url, final long lastModified) {
+        final Entry entry;
+        synchronized (entries) {
+            entry = entries.get(url);
+        }
+        if (entry == null || entry.lastModified() != lastModified) {
+            return null;
+        }
+        return entry.body();
+    }
+
+    public void put(final String url, final long lastModified, final byte[] body) {
+        synchronized (entries) {
+            entries.put(url, new Entry(lastModified, body));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Entry(long lastModified, byte[] body) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 핸들러를 실행하지 않고도 요청한 리소스가 언제 바뀌었는지 알려줄 수 있는 컨트롤러가 구현한다.
+ * DispatcherServlet 은 이 값으로 ETag, Last-Modified 를 내려주고, 클라이언트가 가진 것과 같으면
+ * 핸들러를 호출하지 않고 304 로 응답한다.
+ * <p>
+ * 반환값은 epoch millis 이며 리소스가 바뀔 때마다 반드시 커져야 한다. 버전 번호로도 쓰이기 때문이다.
+ */
+public interface LastModified {
+
+    /**
+     * @return 리소스를 마지막으로 바꾼 시각. 알 수 없거나 캐시하면 안 되는 요청이면 -1
+     */
+    long getLastModified(final HttpServletRequest request);
+}
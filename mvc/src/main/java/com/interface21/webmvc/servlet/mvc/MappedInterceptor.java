@@ -0,0 +1,83 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * 경로 패턴과 인터셉터의 묶음. 패턴에서 * 는 경로 한 단계, ** 는 여러 단계에 맞는다.
+ * /api/** 처럼 끝이 /** 이면 /api 자체에도 맞는다.
+ * 패턴 검사는 초기화할 때 핸들러마다 한 번만 하고, 요청을 처리할 때는 하지 않는다.
+ */
+public class MappedInterceptor {
+
+    private static final String[] NO_PATTERNS = new String[0];
+
+    private final Pattern[] includePatterns;
+    private final Pattern[] excludePatterns;
+    private final HandlerInterceptor interceptor;
+
+    public MappedInterceptor(final String[] includePatterns, final HandlerInterceptor interceptor) {
+        this(includePatterns, NO_PATTERNS, interceptor);
+    }
+
+    public MappedInterceptor(final String[] includePatterns, final String[] excludePatterns,
+                             final HandlerInterceptor interceptor) {
+        this.includePatterns = compile(includePatterns);
+        this.excludePatterns = compile(excludePatterns);
+        this.interceptor = interceptor;
+    }
+
+    /**
+     * include 패턴이 없으면 모든 경로에 맞는다. exclude 패턴에 맞으면 include 에 맞아도 제외한다.
+     */
+    public boolean matches(final String path) {
+        for (final var excludePattern : excludePatterns) {
+            if (excludePattern.matcher(path).matches()) {
+                return false;
+            }
+        }
+        if (includePatterns.length == 0) {
+            return true;
+        }
+        for (final var includePattern : includePatterns) {
+            if (includePattern.matcher(path).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public HandlerInterceptor getInterceptor() {
+        return interceptor;
+    }
+
+    private static Pattern[] compile(final String[] pathPatterns) {
+        return Arrays.stream(pathPatterns)
+                .map(MappedInterceptor::toRegex)
+                .map(Pattern::compile)
+                .toArray(Pattern[]::new);
+    }
+
+    private static String toRegex(final String pathPattern) {
+        if (pathPattern.endsWith("/**")) {
+            return toRegex(pathPattern.substring(0, pathPattern.length() - 3)) + "(/.*)?";
+        }
+        final var regex = new StringBuilder();
+        var literalStart = 0;
+        for (int i = 0; i < pathPattern.length(); i++) {
+            if (pathPattern.charAt(i) != '*') {
+                continue;
+            }
+            regex.append(Pattern.quote(pathPattern.substring(literalStart, i)));
+            if (i + 1 < pathPattern.length() && pathPattern.charAt(i + 1) == '*') {
+                regex.append(".*");
+                i++;
+            } else {
+                regex.append("[^/]*");
+            }
+            literalStart = i + 1;
+        }
+        regex.append(Pattern.quote(pathPattern.substring(literalStart)));
+        return regex.toString();
+    }
+}
@@ -0,0 +1,99 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 풀에서 빌린 버퍼 여러 개에 나눠 담은 요청 본문. 요청 처리가 끝나면 release 로 버퍼를 돌려준다.
+ */
+final class RequestBody {
+
+    private final BufferPool bufferPool;
+    private final int bufferSize;
+    private final List<byte[]> buffers = new ArrayList<>();
+    private int length;
+
+    RequestBody(final BufferPool bufferPool) {
+        this.bufferPool = bufferPool;
+        this.bufferSize = bufferPool.bufferSize();
+    }
+
+    int length() {
+        return length;
+    }
+
+    /**
+     * 본문을 이어 쓸 버퍼를 반환한다. 마지막 버퍼가 가득 차 있으면 하나 더 빌린다.
+     * 쓸 위치는 writableOffset, 쓴 뒤에는 written 으로 알린다.
+     */
+    byte[] writableBuffer() {
+        if (length == buffers.size() * bufferSize) {
+            buffers.add(bufferPool.borrow());
+        }
+        return buffers.get(buffers.size() - 1);
+    }
+
+    int writableOffset() {
+        return length - (buffers.size() - 1) * bufferSize;
+    }
+
+    void written(final int count) {
+        length += count;
+    }
+
+    byte[] toByteArray() {
+        final var bytes = new byte[length];
+        var position = 0;
+        for (final var buffer : buffers) {
+            final var count = Math.min(buffer.length, length - position);
+            System.arraycopy(buffer, 0, bytes, position, count);
+            position += count;
+        }
+        return bytes;
+    }
+
+    BodyStream openStream() {
+        return new BodyStream();
+    }
+
+    void release() {
+        buffers.forEach(bufferPool::release);
+        buffers.clear();
+        length = 0;
+    }
+
+    final class BodyStream extends InputStream {
+
+        private int position;
+
+        @Override
+        public int read() {
+            if (position >= length) {
+                return -1;
+            }
+            return buffers.get(position / bufferSize)[position++ % bufferSize] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (position >= length) {
+                return -1;
+            }
+            final var buffer = buffers.get(position / bufferSize);
+            final var start = position % bufferSize;
+            final var count = Math.min(len, Math.min(bufferSize - start, length - position));
+            System.arraycopy(buffer, start, b, off, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return length - position;
+        }
+    }
+}
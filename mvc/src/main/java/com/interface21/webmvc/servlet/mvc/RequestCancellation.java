@@ -0,0 +1,19 @@
+package com.interface21.webmvc.servlet.mvc;
+
+/**
+ * 요청을 처리하는 스레드의 작업(예: 실행 중인 쿼리)을 다른 스레드에서 취소할 수 있게 하는 확장 지점.
+ * DispatcherServlet 이 요청마다 open 으로 핸들을 열고, 요청 제한 시간이 지나면 cancel 을 호출한다.
+ */
+@FunctionalInterface
+public interface RequestCancellation {
+
+    Handle open();
+
+    interface Handle extends AutoCloseable {
+
+        void cancel();
+
+        @Override
+        void close();
+    }
+}
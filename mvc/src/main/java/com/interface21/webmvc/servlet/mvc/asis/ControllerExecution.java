@@ -0,0 +1,39 @@
+package com.interface21.webmvc.servlet.mvc.asis;
+
+import com.interface21.webmvc.servlet.mvc.HandlerAdapter;
+import com.interface21.webmvc.servlet.mvc.HandlerInterceptor;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.Objects;
+
+/**
+ * 경로에 등록한 Controller 와 그 경로에 맞는 인터셉터의 묶음.
+ * Controller 에는 인터셉터를 담을 곳이 없으므로, 매핑이 이 객체를 핸들러로 돌려주면 ControllerHandlerAdapter 가 인터셉터를 꺼낸다.
+ */
+public class ControllerExecution implements Controller {
+
+    private final Controller controller;
+    private HandlerInterceptor[] interceptors = HandlerAdapter.NO_INTERCEPTORS;
+
+    public ControllerExecution(final Controller controller) {
+        this.controller = Objects.requireNonNull(controller);
+    }
+
+    @Override
+    public String execute(final HttpServletRequest request, final HttpServletResponse response) throws Exception {
+        return controller.execute(request, response);
+    }
+
+    public Controller getController() {
+        return controller;
+    }
+
+    public void setInterceptors(final HandlerInterceptor[] interceptors) {
+        this.interceptors = interceptors.clone();
+    }
+
+    public HandlerInterceptor[] getInterceptors() {
+        return interceptors;
+    }
+}
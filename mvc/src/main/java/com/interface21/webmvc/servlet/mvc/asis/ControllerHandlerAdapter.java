@@ -2,6 +2,7 @@ package com.interface21.webmvc.servlet.mvc.asis;
 
 import com.interface21.webmvc.servlet.ModelAndView;
 import com.interface21.webmvc.servlet.mvc.HandlerAdapter;
+import com.interface21.webmvc.servlet.mvc.HandlerInterceptor;
 import com.interface21.webmvc.servlet.view.JspView;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -18,4 +19,15 @@ public class ControllerHandlerAdapter implements HandlerAdapter {
         final var forwardView = ((Controller) handler).execute(request, response);
         return new ModelAndView(new JspView(forwardView));
     }
+
+    /**
+     * ControllerExecution 으로 감싸지 않은 Controller 에는 인터셉터가 없다.
+     */
+    @Override
+    public HandlerInterceptor[] getInterceptors(final Object handler) {
+        if (handler instanceof ControllerExecution controllerExecution) {
+            return controllerExecution.getInterceptors();
+        }
+        return NO_INTERCEPTORS;
+    }
 }
@@ -0,0 +1,29 @@
+package com.interface21.webmvc.servlet.mvc.limit;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 핸들러를 실행하기 전에 요청을 받을지 정한다. 거절된 요청은 핸들러와 DataSource 에 닿기 전에 바로 응답한다.
+ * tryAcquire 가 true 를 반환한 요청은 끝난 뒤 반드시 release 나 abandon 중 하나를 호출해야 한다.
+ */
+public interface AdmissionLimiter {
+
+    boolean tryAcquire();
+
+    /**
+     * 받아들인 요청이 끝났을 때 호출한다.
+     *
+     * @param latencyNanos 핸들러와 렌더링에 걸린 시간
+     * @param dropped      예외로 끝났으면 true
+     */
+    default void release(final long latencyNanos, final boolean dropped) {
+    }
+
+    /**
+     * 받아들였지만 실행하지 않은 요청을 되돌린다. 여러 리미터 중 뒤의 것이 거절했을 때 호출된다.
+     */
+    default void abandon() {
+    }
+
+    void reject(final HttpServletResponse response);
+}
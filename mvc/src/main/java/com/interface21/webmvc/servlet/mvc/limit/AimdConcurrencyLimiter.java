@@ -0,0 +1,87 @@
+package com.interface21.webmvc.servlet.mvc.limit;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동시에 처리 중인 요청 수를 limit 으로 제한하고, limit 을 AIMD 로 조정한다. 넘치면 503 으로 거절한다.
+ * 요청이 제때 끝나면 limit 을 1 씩 늘리고, 예외로 끝나거나 latencyThreshold 를 넘기면 backoffRatio 를 곱해 줄인다.
+ * 처리 중인 요청이 limit 의 절반도 안 되면 늘리지 않는다. 한가할 때 limit 이 근거 없이 커지는 것을 막기 위함이다.
+ */
+public class AimdConcurrencyLimiter implements AdmissionLimiter {
+
+    private static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+    private final int minimumLimit;
+    private final int maximumLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final AtomicInteger limit;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    public AimdConcurrencyLimiter(final int initialLimit, final int minimumLimit, final int maximumLimit,
+                                  final Duration latencyThreshold) {
+        this(initialLimit, minimumLimit, maximumLimit, DEFAULT_BACKOFF_RATIO, latencyThreshold);
+    }
+
+    public AimdConcurrencyLimiter(final int initialLimit, final int minimumLimit, final int maximumLimit,
+                                  final double backoffRatio, final Duration latencyThreshold) {
+        if (minimumLimit < 1 || minimumLimit > initialLimit || initialLimit > maximumLimit) {
+            throw new IllegalArgumentException(
+                    "limits must satisfy 1 <= minimum <= initial <= maximum : " + minimumLimit + ", " + initialLimit + ", " + maximumLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be between 0 and 1 : " + backoffRatio);
+        }
+        this.minimumLimit = minimumLimit;
+        this.maximumLimit = maximumLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.limit = new AtomicInteger(initialLimit);
+    }
+
+    @Override
+    public boolean tryAcquire() {
+        while (true) {
+            final var current = inflight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void release(final long latencyNanos, final boolean dropped) {
+        final var current = inflight.getAndDecrement();
+        if (dropped || latencyNanos > latencyThresholdNanos) {
+            limit.updateAndGet(value -> Math.max(minimumLimit, (int) (value * backoffRatio)));
+            return;
+        }
+        if (current * 2 >= limit.get()) {
+            limit.updateAndGet(value -> Math.min(maximumLimit, value + 1));
+        }
+    }
+
+    @Override
+    public void abandon() {
+        inflight.decrementAndGet();
+    }
+
+    @Override
+    public void reject(final HttpServletResponse response) {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+}
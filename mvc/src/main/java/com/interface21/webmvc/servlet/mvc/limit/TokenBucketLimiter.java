@@ -0,0 +1,77 @@
+package com.interface21.webmvc.servlet.mvc.limit;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 초당 permitsPerSecond 개의 토큰이 burst 개까지 쌓이는 토큰 버킷. 다 쓰면 429 로 거절한다.
+ * 토큰 수 대신 다음 토큰이 생기는 시각(GCRA) 하나만 AtomicLong 에 두고 CAS 로 갱신하므로 락이 없다.
+ */
+public class TokenBucketLimiter implements AdmissionLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucketLimiter(final double permitsPerSecond, final int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucketLimiter(final double permitsPerSecond, final int burst, final LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive : " + permitsPerSecond + ", " + burst);
+        }
+        this.emissionIntervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.nanoClock = nanoClock;
+        this.theoreticalArrival = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    @Override
+    public boolean tryAcquire() {
+        final var now = nanoClock.getAsLong();
+        while (true) {
+            final var arrival = theoreticalArrival.get();
+            final var start = arrival - now > 0 ? arrival : now;
+            if (start - now > burstToleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, start + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 실행하지 않은 요청의 토큰을 돌려준다. 다음 토큰 시각을 한 간격 앞당기되 현재 시각보다 앞으로는 당기지 않아 burst 를 넘지 않는다.
+     */
+    @Override
+    public void abandon() {
+        final var now = nanoClock.getAsLong();
+        while (true) {
+            final var arrival = theoreticalArrival.get();
+            if (arrival - now <= 0) {
+                return;
+            }
+            final var returned = arrival - emissionIntervalNanos - now > 0 ? arrival - emissionIntervalNanos : now;
+            if (theoreticalArrival.compareAndSet(arrival, returned)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 다음 토큰이 생길 때까지의 시간을 초 단위로 올림해 Retry-After 로 알려준다.
+     */
+    @Override
+    public void reject(final HttpServletResponse response) {
+        final var waitNanos = theoreticalArrival.get() - burstToleranceNanos - nanoClock.getAsLong();
+        final var retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(HttpServletResponse.SC_TOO_MANY_REQUESTS);
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+    }
+}
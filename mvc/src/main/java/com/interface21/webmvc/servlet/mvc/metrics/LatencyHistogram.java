@@ -0,0 +1,95 @@
+package com.interface21.webmvc.servlet.mvc.metrics;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 응답 시간을 마이크로초 단위의 고정 버킷에 세는 히스토그램.
+ * HdrHistogram 처럼 2 의 거듭제곱 구간마다 버킷을 둘로 나누므로 어느 구간이든 상대 오차가 같다.
+ * 64µs 이하는 첫 버킷에, 2^26µs(약 67초)를 넘으면 마지막 버킷에 모은다.
+ * 버킷마다 LongAdder 를 두어 여러 스레드가 동시에 기록해도 경합하지 않는다.
+ */
+public class LatencyHistogram {
+
+    private static final int MIN_EXPONENT = 6;
+    private static final int MAX_EXPONENT = 25;
+    private static final int SUB_BUCKETS = 2;
+    private static final int OVERFLOW_INDEX = 1 + (MAX_EXPONENT - MIN_EXPONENT + 1) * SUB_BUCKETS;
+    private static final long[] UPPER_BOUNDS_MICROS = upperBoundsMicros();
+
+    private final LongAdder[] buckets = new LongAdder[OVERFLOW_INDEX + 1];
+    private final LongAdder sumNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(final long latencyNanos) {
+        final var nanos = Math.max(0, latencyNanos);
+        buckets[indexOf((nanos + 999) / 1_000)].increment();
+        sumNanos.add(nanos);
+    }
+
+    /**
+     * 버킷마다 그 버킷에 든 값의 수. 마지막 원소는 상한을 넘은 값의 수다.
+     * 기록과 동시에 읽으면 버킷 사이의 합이 잠깐 어긋날 수 있다.
+     */
+    public long[] snapshot() {
+        final var counts = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    public long getSumNanos() {
+        return sumNanos.sum();
+    }
+
+    /**
+     * 상한을 넘은 값을 모으는 마지막 버킷을 뺀 버킷 수.
+     */
+    public static int boundedBucketCount() {
+        return OVERFLOW_INDEX;
+    }
+
+    /**
+     * index 번째 버킷에 드는 값의 상한(포함)을 초 단위 문자열로 반환한다.
+     */
+    public static String upperBoundSeconds(final int index) {
+        return BigDecimal.valueOf(UPPER_BOUNDS_MICROS[index], 6).stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * 버킷은 (하한, 상한] 구간이다. 값에서 1 을 빼고 최상위 비트로 구간을, 그 아래 비트로 절반을 고른다.
+     */
+    static int indexOf(final long latencyMicros) {
+        if (latencyMicros <= 1L << MIN_EXPONENT) {
+            return 0;
+        }
+        final var value = latencyMicros - 1;
+        final var exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return OVERFLOW_INDEX;
+        }
+        final var half = (int) (value >>> (exponent - 1)) & 1;
+        return 1 + (exponent - MIN_EXPONENT) * SUB_BUCKETS + half;
+    }
+
+    static long upperBoundMicros(final int index) {
+        return UPPER_BOUNDS_MICROS[index];
+    }
+
+    private static long[] upperBoundsMicros() {
+        final var upperBounds = new long[OVERFLOW_INDEX];
+        upperBounds[0] = 1L << MIN_EXPONENT;
+        for (int i = 1; i < OVERFLOW_INDEX; i++) {
+            final var exponent = MIN_EXPONENT + (i - 1) / SUB_BUCKETS;
+            final var half = (i - 1) % SUB_BUCKETS;
+            upperBounds[i] = (3L + half) << (exponent - 1);
+        }
+        return upperBounds;
+    }
+}
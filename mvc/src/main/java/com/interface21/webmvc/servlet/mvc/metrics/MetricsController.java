@@ -0,0 +1,28 @@
+package com.interface21.webmvc.servlet.mvc.metrics;
+
+import com.interface21.webmvc.servlet.ModelAndView;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RequestMetrics 를 Prometheus 텍스트 형식으로 응답한다. MetricsHandlerMapping 이 경로에 연결한다.
+ */
+public class MetricsController {
+
+    private final RequestMetrics requestMetrics;
+
+    public MetricsController(final RequestMetrics requestMetrics) {
+        this.requestMetrics = requestMetrics;
+    }
+
+    public ModelAndView metrics(final HttpServletRequest request, final HttpServletResponse response) {
+        return new ModelAndView((model, req, res) -> {
+            final var body = requestMetrics.scrape().getBytes(StandardCharsets.UTF_8);
+            res.setContentType(RequestMetrics.CONTENT_TYPE);
+            res.setContentLength(body.length);
+            res.getOutputStream().write(body);
+        });
+    }
+}
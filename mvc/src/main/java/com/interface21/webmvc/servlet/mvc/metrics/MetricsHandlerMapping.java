@@ -0,0 +1,58 @@
+package com.interface21.webmvc.servlet.mvc.metrics;
+
+import com.interface21.webmvc.servlet.mvc.HandlerInterceptor;
+import com.interface21.webmvc.servlet.mvc.HandlerMapping;
+import com.interface21.webmvc.servlet.mvc.MappedInterceptor;
+import com.interface21.webmvc.servlet.mvc.tobe.HandlerExecution;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * GET path 요청을 MetricsController 로 보낸다. 핸들러가 HandlerExecution 이므로
+ * HandlerExecutionHandlerAdapter 로 실행되고, 경로에 맞는 인터셉터로 접근을 막을 수 있다.
+ */
+public class MetricsHandlerMapping implements HandlerMapping {
+
+    private static final Logger log = LoggerFactory.getLogger(MetricsHandlerMapping.class);
+
+    private final String path;
+    private final RequestMetrics requestMetrics;
+    private HandlerExecution handlerExecution;
+
+    public MetricsHandlerMapping(final String path, final RequestMetrics requestMetrics) {
+        this.path = path;
+        this.requestMetrics = requestMetrics;
+    }
+
+    @Override
+    public void initialize() {
+        try {
+            final var method = MetricsController.class.getMethod("metrics", HttpServletRequest.class, HttpServletResponse.class);
+            handlerExecution = new HandlerExecution(new MetricsController(requestMetrics), method);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+        log.info("Initialized MetricsHandlerMapping! path : {}", path);
+    }
+
+    @Override
+    public void applyInterceptors(final List<MappedInterceptor> mappedInterceptors) {
+        final var interceptors = mappedInterceptors.stream()
+                .filter(mappedInterceptor -> mappedInterceptor.matches(path))
+                .map(MappedInterceptor::getInterceptor)
+                .toArray(HandlerInterceptor[]::new);
+        handlerExecution.setInterceptors(interceptors);
+    }
+
+    @Override
+    public Object getHandler(final HttpServletRequest request) {
+        if (!"GET".equalsIgnoreCase(request.getMethod()) || !path.equals(request.getRequestURI())) {
+            return null;
+        }
+        return handlerExecution;
+    }
+}
@@ -0,0 +1,87 @@
+package com.interface21.webmvc.servlet.mvc.metrics;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 경로별 RouteMetrics 를 모아 두고 Prometheus 텍스트 형식(0.0.4)으로 내보낸다.
+ * 경로는 초기화할 때 등록하며, 요청을 처리할 때는 핸들러에 붙은 RouteMetrics 에 바로 기록한다.
+ */
+public class RequestMetrics {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final String LATENCY = "http_server_requests_seconds";
+    private static final String ERRORS = "http_server_request_errors_total";
+
+    private final Map<String, RouteMetrics> routeMetrics = new ConcurrentSkipListMap<>();
+
+    /**
+     * 같은 메서드와 경로로 다시 등록하면 이미 있는 것을 반환한다.
+     */
+    public RouteMetrics register(final String method, final String route) {
+        return routeMetrics.computeIfAbsent(method + ' ' + route, key -> new RouteMetrics(method, route));
+    }
+
+    /**
+     * 한 번도 요청되지 않은 경로는 내보내지 않는다.
+     * 경로마다 버킷을 한 번만 읽어 _bucket 의 +Inf 와 _count 가 항상 같게 한다.
+     */
+    public String scrape() {
+        final var snapshots = new ArrayList<Snapshot>();
+        for (final var metrics : routeMetrics.values()) {
+            final var snapshot = Snapshot.of(metrics);
+            if (snapshot.count() > 0) {
+                snapshots.add(snapshot);
+            }
+        }
+
+        final var text = new StringBuilder();
+        text.append("# HELP ").append(LATENCY).append(" Handler latency by route.\n");
+        text.append("# TYPE ").append(LATENCY).append(" histogram\n");
+        for (final var snapshot : snapshots) {
+            var cumulative = 0L;
+            for (int i = 0; i < LatencyHistogram.boundedBucketCount(); i++) {
+                cumulative += snapshot.buckets()[i];
+                appendSample(text, LATENCY + "_bucket", snapshot.labels(), LatencyHistogram.upperBoundSeconds(i), cumulative);
+            }
+            appendSample(text, LATENCY + "_bucket", snapshot.labels(), "+Inf", snapshot.count());
+            text.append(LATENCY).append("_sum{").append(snapshot.labels()).append("} ")
+                    .append(BigDecimal.valueOf(snapshot.sumNanos(), 9).toPlainString()).append('\n');
+            text.append(LATENCY).append("_count{").append(snapshot.labels()).append("} ")
+                    .append(snapshot.count()).append('\n');
+        }
+
+        text.append("# HELP ").append(ERRORS).append(" Requests that threw or answered 5xx by route.\n");
+        text.append("# TYPE ").append(ERRORS).append(" counter\n");
+        for (final var snapshot : snapshots) {
+            text.append(ERRORS).append('{').append(snapshot.labels()).append("} ").append(snapshot.errors()).append('\n');
+        }
+        return text.toString();
+    }
+
+    private static void appendSample(final StringBuilder text, final String name, final String labels, final String le,
+                                     final long value) {
+        text.append(name).append('{').append(labels).append(",le=\"").append(le).append("\"} ").append(value).append('\n');
+    }
+
+    private static String escape(final String labelValue) {
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private record Snapshot(String labels, long[] buckets, long count, long sumNanos, long errors) {
+
+        static Snapshot of(final RouteMetrics metrics) {
+            final var histogram = metrics.getLatencyHistogram();
+            final var buckets = histogram.snapshot();
+            var count = 0L;
+            for (final var bucket : buckets) {
+                count += bucket;
+            }
+            final var labels = "method=\"" + escape(metrics.getMethod()) + "\",route=\"" + escape(metrics.getRoute()) + '"';
+            return new Snapshot(labels, buckets, count, histogram.getSumNanos(), metrics.getErrors());
+        }
+    }
+}
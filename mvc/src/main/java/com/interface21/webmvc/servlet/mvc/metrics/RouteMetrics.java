@@ -0,0 +1,45 @@
+package com.interface21.webmvc.servlet.mvc.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 경로 하나(요청 메서드와 URL)의 응답 시간 분포와 오류 수. 요청 수는 히스토그램의 전체 개수다.
+ */
+public class RouteMetrics {
+
+    private final String method;
+    private final String route;
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+
+    RouteMetrics(final String method, final String route) {
+        this.method = method;
+        this.route = route;
+    }
+
+    /**
+     * @param error 핸들러가 예외를 던졌거나 5xx 로 응답했으면 true
+     */
+    public void record(final long latencyNanos, final boolean error) {
+        latencyHistogram.record(latencyNanos);
+        if (error) {
+            errors.increment();
+        }
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public LatencyHistogram getLatencyHistogram() {
+        return latencyHistogram;
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+}
@@ -1,6 +1,10 @@
 package com.interface21.webmvc.servlet.mvc.tobe;
 
+import com.interface21.webmvc.servlet.mvc.HandlerInterceptor;
 import com.interface21.webmvc.servlet.mvc.HandlerMapping;
+import com.interface21.webmvc.servlet.mvc.MappedInterceptor;
+import com.interface21.webmvc.servlet.mvc.limit.AdmissionLimiter;
+import com.interface21.webmvc.servlet.mvc.metrics.RequestMetrics;
 import jakarta.servlet.http.HttpServletRequest;
 import com.interface21.web.bind.annotation.RequestMapping;
 import com.interface21.web.bind.annotation.RequestMethod;
@@ -64,6 +68,35 @@ public class AnnotationHandlerMapping implements HandlerMapping {
         return requestMappingMethods;
     }
 
+    /**
+     * initialize 이후에 호출한다. 같은 리미터를 여러 키에 넣으면 그 경로들이 한도를 나눠 쓴다.
+     */
+    public void addAdmissionLimiter(final HandlerKey handlerKey, final AdmissionLimiter admissionLimiter) {
+        final var handlerExecution = handlerExecutions.get(handlerKey);
+        if (handlerExecution == null) {
+            throw new IllegalArgumentException("No handler registered for " + handlerKey);
+        }
+        handlerExecution.addAdmissionLimiter(admissionLimiter);
+    }
+
+    @Override
+    public void applyInterceptors(final List<MappedInterceptor> mappedInterceptors) {
+        handlerExecutions.forEach((handlerKey, handlerExecution) -> {
+            final var interceptors = mappedInterceptors.stream()
+                    .filter(mappedInterceptor -> mappedInterceptor.matches(handlerKey.getUrl()))
+                    .map(MappedInterceptor::getInterceptor)
+                    .toArray(HandlerInterceptor[]::new);
+            handlerExecution.setInterceptors(interceptors);
+            log.debug("apply {} interceptors to {}", interceptors.length, handlerKey);
+        });
+    }
+
+    @Override
+    public void registerRouteMetrics(final RequestMetrics requestMetrics) {
+        handlerExecutions.forEach((handlerKey, handlerExecution) -> handlerExecution.setRouteMetrics(
+                requestMetrics.register(handlerKey.getRequestMethod().name(), handlerKey.getUrl())));
+    }
+
     public Object getHandler(final HttpServletRequest request) {
         final var requestUri = request.getRequestURI();
         final var requestMethod = RequestMethod.valueOf(request.getMethod().toUpperCase());
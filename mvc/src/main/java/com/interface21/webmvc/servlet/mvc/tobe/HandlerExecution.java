@@ -1,6 +1,11 @@
 package com.interface21.webmvc.servlet.mvc.tobe;
 
 import com.interface21.webmvc.servlet.ModelAndView;
+import com.interface21.webmvc.servlet.mvc.HandlerAdapter;
+import com.interface21.webmvc.servlet.mvc.HandlerInterceptor;
+import com.interface21.webmvc.servlet.mvc.LastModified;
+import com.interface21.webmvc.servlet.mvc.limit.AdmissionLimiter;
+import com.interface21.webmvc.servlet.mvc.metrics.RouteMetrics;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
@@ -8,6 +13,7 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 
 public class HandlerExecution {
 
@@ -15,6 +21,9 @@ public class HandlerExecution {
 
     private final Object declaredObject;
     private final Method method;
+    private volatile AdmissionLimiter[] admissionLimiters = HandlerAdapter.NO_LIMITERS;
+    private volatile HandlerInterceptor[] interceptors = HandlerAdapter.NO_INTERCEPTORS;
+    private volatile RouteMetrics routeMetrics;
 
     public HandlerExecution(final Object declaredObject, final Method method) {
         this.declaredObject = declaredObject;
@@ -29,4 +38,44 @@ public class HandlerExecution {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * 컨트롤러가 LastModified 를 구현하면 그 값을, 아니면 -1 을 반환한다.
+     * 한 컨트롤러의 여러 메서드가 같은 구현을 공유하므로 구현 쪽에서 요청 URI 로 구분한다.
+     */
+    public long getLastModified(final HttpServletRequest request) {
+        if (declaredObject instanceof LastModified lastModified) {
+            return lastModified.getLastModified(request);
+        }
+        return -1;
+    }
+
+    /**
+     * 요청마다 같은 배열을 읽기만 하도록, 추가할 때 배열을 새로 만들어 바꿔 끼운다.
+     */
+    public synchronized void addAdmissionLimiter(final AdmissionLimiter admissionLimiter) {
+        final var limiters = Arrays.copyOf(admissionLimiters, admissionLimiters.length + 1);
+        limiters[limiters.length - 1] = admissionLimiter;
+        admissionLimiters = limiters;
+    }
+
+    public AdmissionLimiter[] getAdmissionLimiters() {
+        return admissionLimiters;
+    }
+
+    public void setInterceptors(final HandlerInterceptor[] interceptors) {
+        this.interceptors = interceptors.clone();
+    }
+
+    public HandlerInterceptor[] getInterceptors() {
+        return interceptors;
+    }
+
+    public void setRouteMetrics(final RouteMetrics routeMetrics) {
+        this.routeMetrics = routeMetrics;
+    }
+
+    public RouteMetrics getRouteMetrics() {
+        return routeMetrics;
+    }
 }
@@ -2,6 +2,9 @@ package com.interface21.webmvc.servlet.mvc.tobe;
 
 import com.interface21.webmvc.servlet.ModelAndView;
 import com.interface21.webmvc.servlet.mvc.HandlerAdapter;
+import com.interface21.webmvc.servlet.mvc.HandlerInterceptor;
+import com.interface21.webmvc.servlet.mvc.limit.AdmissionLimiter;
+import com.interface21.webmvc.servlet.mvc.metrics.RouteMetrics;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
@@ -16,4 +19,24 @@ public class HandlerExecutionHandlerAdapter implements HandlerAdapter {
     public ModelAndView handle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) throws Exception {
         return ((HandlerExecution) handler).handle(request, response);
     }
+
+    @Override
+    public long getLastModified(final HttpServletRequest request, final Object handler) {
+        return ((HandlerExecution) handler).getLastModified(request);
+    }
+
+    @Override
+    public AdmissionLimiter[] getAdmissionLimiters(final Object handler) {
+        return ((HandlerExecution) handler).getAdmissionLimiters();
+    }
+
+    @Override
+    public HandlerInterceptor[] getInterceptors(final Object handler) {
+        return ((HandlerExecution) handler).getInterceptors();
+    }
+
+    @Override
+    public RouteMetrics getRouteMetrics(final Object handler) {
+        return ((HandlerExecution) handler).getRouteMetrics();
+    }
 }
@@ -0,0 +1,79 @@
+package com.interface21.webmvc.servlet.view;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.UncheckedIOException;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 불변 객체를 JSON 으로 한 번만 인코딩하고, 같은 인스턴스가 다시 오면 저장해 둔 RawJson 을 돌려준다.
+ * 객체를 equals 가 아니라 동일성으로 구분하므로, 바뀔 때마다 새 인스턴스를 만드는 스냅샷 객체에 쓴다.
+ * 인코딩한 뒤에 객체를 바꾸면 캐시된 JSON 은 예전 값 그대로 남는다.
+ */
+public class JsonEncodingCache {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final int maximumSize;
+    private final Map<IdentityKey, RawJson> encoded;
+
+    public JsonEncodingCache(final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive : " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.encoded = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<IdentityKey, RawJson> eldest) {
+                return size() > JsonEncodingCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * 인코딩은 락 밖에서 한다. 같은 객체를 동시에 처음 요청하면 두 번 인코딩될 수 있지만 결과는 같다.
+     */
+    public RawJson encode(final Object value) {
+        final var key = new IdentityKey(value);
+        synchronized (encoded) {
+            final var cached = encoded.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final var rawJson = RawJson.of(serialize(value));
+        synchronized (encoded) {
+            encoded.put(key, rawJson);
+        }
+        return rawJson;
+    }
+
+    public int size() {
+        synchronized (encoded) {
+            return encoded.size();
+        }
+    }
+
+    private static byte[] serialize(final Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record IdentityKey(Object value) {
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof IdentityKey other && other.value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(value);
+        }
+    }
+}
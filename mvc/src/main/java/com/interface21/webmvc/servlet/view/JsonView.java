@@ -1,10 +1,10 @@
 package com.interface21.webmvc.servlet.view;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import com.interface21.web.http.MediaType;
+import com.interface21.webmvc.servlet.ModelMap;
 import com.interface21.webmvc.servlet.View;
 
 import java.io.IOException;
@@ -12,6 +12,8 @@ import java.util.Map;
 
 public class JsonView implements View {
 
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
     @Override
     public void render(final Map<String, ?> model, final HttpServletRequest request, final HttpServletResponse response) throws Exception {
         if (model == null || model.isEmpty()) {
@@ -21,16 +23,30 @@ public class JsonView implements View {
         response.setContentType(MediaType.APPLICATION_JSON_UTF8_VALUE);
 
         final Object renderObject = toJsonObject(model);
-        render(renderObject, response.getOutputStream());
+        if (renderObject instanceof RawJson rawJson) {
+            response.setContentLength(rawJson.length());
+            rawJson.writeTo(response.getOutputStream());
+            return;
+        }
+        objectMapper.writeValue(response.getOutputStream(), renderObject);
     }
 
-    private void render(final Object renderObject, final ServletOutputStream outputStream) throws IOException {
-        final ObjectMapper mapper = new ObjectMapper();
-        mapper.writeValue(outputStream, renderObject);
+    /**
+     * 모델을 응답에 쓰지 않고 JSON 바이트로 만든다. 만든 본문을 캐시해 두었다가 그대로 내려줄 때 사용한다.
+     */
+    public byte[] serialize(final Map<String, ?> model) throws IOException {
+        final Object renderObject = toJsonObject(model);
+        if (renderObject instanceof RawJson rawJson) {
+            return rawJson.toByteArray();
+        }
+        return objectMapper.writeValueAsBytes(renderObject);
     }
 
     private Object toJsonObject(final Map<String, ?> model) {
         if (model.size() == 1) {
+            if (model instanceof ModelMap modelMap) {
+                return modelMap.valueAt(0);
+            }
             return model.values()
                     .stream()
                     .findFirst()
@@ -4,6 +4,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.interface21.webmvc.servlet.ModelMap;
 import com.interface21.webmvc.servlet.View;
 
 import java.util.Map;
@@ -29,12 +30,20 @@ public class JspView implements View {
             return;
         }
 
-        model.keySet().forEach(key -> {
-            log.debug("attribute name : {}, value : {}", key, model.get(key));
-            request.setAttribute(key, model.get(key));
-        });
+        if (model instanceof ModelMap modelMap) {
+            for (int i = 0; i < modelMap.size(); i++) {
+                exposeAttribute(request, modelMap.keyAt(i), modelMap.valueAt(i));
+            }
+        } else {
+            model.forEach((key, value) -> exposeAttribute(request, key, value));
+        }
 
         final var requestDispatcher = request.getRequestDispatcher(viewName);
         requestDispatcher.forward(request, response);
     }
+
+    private void exposeAttribute(final HttpServletRequest request, final String key, final Object value) {
+        log.debug("attribute name : {}, value : {}", key, value);
+        request.setAttribute(key, value);
+    }
 }
@@ -0,0 +1,78 @@
+package com.interface21.webmvc.servlet.view;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 이미 UTF-8 JSON 으로 인코딩된 값. 모델에 넣으면 JsonView 가 다시 직렬화하지 않고 바이트를 그대로 쓴다.
+ * 모델에 이 값 하나만 있으면 응답은 버퍼 복사 한 번으로 끝나고, 다른 값과 섞여 있으면 그 자리에 원문 그대로 끼워 넣는다.
+ * <p>
+ * 전달한 배열을 복사하지 않으므로 만든 뒤에는 배열을 바꾸면 안 된다. 올바른 JSON 인지도 검사하지 않는다.
+ */
+public final class RawJson implements JsonSerializable {
+
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+
+    private RawJson(final byte[] bytes, final int offset, final int length) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public static RawJson of(final byte[] json) {
+        return new RawJson(json, 0, json.length);
+    }
+
+    /**
+     * 힙 버퍼면 배열을 그대로 쓰고, 다이렉트 버퍼면 한 번 복사한다. 버퍼의 position 은 바꾸지 않는다.
+     */
+    public static RawJson of(final ByteBuffer json) {
+        if (json.hasArray()) {
+            return new RawJson(json.array(), json.arrayOffset() + json.position(), json.remaining());
+        }
+        final var copy = new byte[json.remaining()];
+        json.duplicate().get(copy);
+        return of(copy);
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public void writeTo(final OutputStream outputStream) throws IOException {
+        outputStream.write(bytes, offset, length);
+    }
+
+    public byte[] toByteArray() {
+        if (offset == 0 && length == bytes.length) {
+            return bytes;
+        }
+        return Arrays.copyOfRange(bytes, offset, offset + length);
+    }
+
+    @Override
+    public void serialize(final JsonGenerator generator, final SerializerProvider serializers) throws IOException {
+        generator.writeRawValue(toString());
+    }
+
+    @Override
+    public void serializeWithType(final JsonGenerator generator, final SerializerProvider serializers,
+                                  final TypeSerializer typeSerializer) throws IOException {
+        serialize(generator, serializers);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, offset, length, StandardCharsets.UTF_8);
+    }
+}
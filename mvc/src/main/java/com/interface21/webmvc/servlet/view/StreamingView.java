@@ -0,0 +1,205 @@
+package com.interface21.webmvc.servlet.view;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interface21.webmvc.servlet.View;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 항목을 하나씩 JSON 으로 인코딩해 보내는 뷰. Server-Sent Events 나 줄 단위 JSON(NDJSON) 으로 내려준다.
+ * 길이를 미리 알 수 없으므로 chunked 로 전송된다.
+ * <p>
+ * 비동기를 지원하는 요청이면 WriteListener 로 출력 버퍼가 비었을 때만 다음 항목을 꺼내 쓴다.
+ * 느린 클라이언트를 기다리는 동안 스레드를 붙잡지 않고, 메모리에는 항목 하나만 올라간다.
+ * 항목은 Iterator 에서 필요할 때 꺼내므로 KeysetIterator 처럼 페이지 단위로 읽는 소스를 넘기면 된다.
+ * 소스가 AutoCloseable 이면 전송이 끝나거나 실패했을 때 닫는다.
+ * <p>
+ * 읽기를 멈춘 클라이언트는 onWritePossible 을 다시 부르지 않으므로, 전송 전체에 timeout 을 두어
+ * 그 시간이 지나면 소스를 닫고 요청을 끝낸다.
+ */
+public class StreamingView implements View {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamingView.class);
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(5);
+
+    private final Format format;
+    private final Iterator<?> items;
+    private final Duration timeout;
+
+    private StreamingView(final Format format, final Iterator<?> items, final Duration timeout) {
+        if (!timeout.isPositive()) {
+            throw new IllegalArgumentException("timeout must be positive : " + timeout);
+        }
+        this.format = format;
+        this.items = items;
+        this.timeout = timeout;
+    }
+
+    public static StreamingView serverSentEvents(final Iterator<?> items) {
+        return serverSentEvents(items, DEFAULT_TIMEOUT);
+    }
+
+    public static StreamingView serverSentEvents(final Iterator<?> items, final Duration timeout) {
+        return new StreamingView(Format.SERVER_SENT_EVENTS, items, timeout);
+    }
+
+    public static StreamingView jsonLines(final Iterator<?> items) {
+        return jsonLines(items, DEFAULT_TIMEOUT);
+    }
+
+    public static StreamingView jsonLines(final Iterator<?> items, final Duration timeout) {
+        return new StreamingView(Format.JSON_LINES, items, timeout);
+    }
+
+    @Override
+    public void render(final Map<String, ?> model, final HttpServletRequest request, final HttpServletResponse response) throws Exception {
+        response.setContentType(format.contentType);
+        response.setHeader("Cache-Control", "no-cache");
+
+        if (!request.isAsyncSupported()) {
+            writeBlocking(response.getOutputStream());
+            return;
+        }
+        final var asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(timeout.toMillis());
+        final var pump = new Pump(asyncContext, response.getOutputStream());
+        asyncContext.addListener(pump);
+        response.getOutputStream().setWriteListener(pump);
+    }
+
+    private void writeBlocking(final OutputStream outputStream) throws IOException {
+        try {
+            while (items.hasNext()) {
+                outputStream.write(encode(items.next()));
+                outputStream.flush();
+            }
+        } finally {
+            closeItems();
+        }
+    }
+
+    private byte[] encode(final Object item) throws IOException {
+        final var json = item instanceof RawJson rawJson ? rawJson.toByteArray() : objectMapper.writeValueAsBytes(item);
+        final var prefix = format.prefix;
+        final var suffix = format.suffix;
+        final var frame = new byte[prefix.length + json.length + suffix.length];
+        System.arraycopy(prefix, 0, frame, 0, prefix.length);
+        System.arraycopy(json, 0, frame, prefix.length, json.length);
+        System.arraycopy(suffix, 0, frame, prefix.length + json.length, suffix.length);
+        return frame;
+    }
+
+    private void closeItems() {
+        if (items instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("failed to close stream source : {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private enum Format {
+        SERVER_SENT_EVENTS("text/event-stream;charset=UTF-8", "data: ", "\n\n"),
+        JSON_LINES("application/x-ndjson;charset=UTF-8", "", "\n");
+
+        private final String contentType;
+        private final byte[] prefix;
+        private final byte[] suffix;
+
+        Format(final String contentType, final String prefix, final String suffix) {
+            this.contentType = contentType;
+            this.prefix = prefix.getBytes(StandardCharsets.UTF_8);
+            this.suffix = suffix.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * 컨테이너가 쓸 수 있다고 알려줄 때마다 isReady 가 false 가 될 때까지 항목을 쓴다.
+     * 항목마다 flush 해 클라이언트가 바로 받도록 한다.
+     */
+    private final class Pump implements WriteListener, AsyncListener {
+
+        private final AsyncContext asyncContext;
+        private final ServletOutputStream outputStream;
+        private boolean finished;
+
+        private Pump(final AsyncContext asyncContext, final ServletOutputStream outputStream) {
+            this.asyncContext = asyncContext;
+            this.outputStream = outputStream;
+        }
+
+        @Override
+        public synchronized void onWritePossible() throws IOException {
+            while (!finished && outputStream.isReady()) {
+                if (!items.hasNext()) {
+                    finish();
+                    asyncContext.complete();
+                    return;
+                }
+                outputStream.write(encode(items.next()));
+                if (outputStream.isReady()) {
+                    outputStream.flush();
+                }
+            }
+        }
+
+        @Override
+        public synchronized void onError(final Throwable t) {
+            log.debug("streaming aborted : {}", t.getMessage());
+            finish();
+            asyncContext.complete();
+        }
+
+        @Override
+        public void onComplete(final AsyncEvent event) {
+            finishSafely();
+        }
+
+        /**
+         * 리스너가 요청을 끝내지 않으면 컨테이너가 오류 응답으로 다시 디스패치하므로 여기서 끝낸다.
+         */
+        @Override
+        public synchronized void onTimeout(final AsyncEvent event) {
+            log.debug("streaming timed out after {}", timeout);
+            finish();
+            asyncContext.complete();
+        }
+
+        @Override
+        public void onError(final AsyncEvent event) {
+            finishSafely();
+        }
+
+        @Override
+        public void onStartAsync(final AsyncEvent event) {
+        }
+
+        private synchronized void finishSafely() {
+            finish();
+        }
+
+        private void finish() {
+            if (!finished) {
+                finished = true;
+                closeItems();
+            }
+        }
+    }
+}
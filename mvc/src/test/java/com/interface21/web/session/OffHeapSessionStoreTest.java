@@ -0,0 +1,105 @@
+package com.interface21.web.session;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OffHeapSessionStoreTest {
+
+    private static final SessionCodec<String> STRING_CODEC = new SessionCodec<>() {
+        @Override
+        public void encode(final String value, final ByteBuffer target) {
+            target.put(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String decode(final ByteBuffer source) {
+            return StandardCharsets.UTF_8.decode(source).toString();
+        }
+    };
+
+    private AtomicLong now;
+    private OffHeapSessionStore<String> store;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong();
+        store = new OffHeapSessionStore<>(STRING_CODEC, 2, 64, Duration.ofMinutes(30), now::get);
+    }
+
+    @Test
+    void putAndGet() {
+        store.put("session-1", "gugu");
+        store.put("session-2", "kyle");
+
+        assertThat(store.get("session-1")).contains("gugu");
+        assertThat(store.get("session-2")).contains("kyle");
+    }
+
+    @Test
+    void putOverwritesExistingSession() {
+        store.put("session-1", "gugu");
+
+        store.put("session-1", "gugu-updated");
+
+        assertThat(store.get("session-1")).contains("gugu-updated");
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void removedSlotIsReused() {
+        store.put("session-1", "gugu");
+        store.put("session-2", "kyle");
+        store.remove("session-1");
+
+        store.put("session-3", "brown");
+
+        assertThat(store.get("session-1")).isEmpty();
+        assertThat(store.get("session-3")).contains("brown");
+    }
+
+    @Test
+    void idleSessionExpires() {
+        store.put("session-1", "gugu");
+
+        now.addAndGet(Duration.ofMinutes(31).toMillis());
+
+        assertThat(store.get("session-1")).isEmpty();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void evictIdleWhenFull() {
+        store.put("session-1", "gugu");
+        store.put("session-2", "kyle");
+        now.addAndGet(Duration.ofMinutes(31).toMillis());
+
+        store.put("session-3", "brown");
+
+        assertThat(store.get("session-3")).contains("brown");
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void fullStoreRejectsNewSession() {
+        store.put("session-1", "gugu");
+        store.put("session-2", "kyle");
+
+        assertThatThrownBy(() -> store.put("session-3", "brown"))
+                .isInstanceOf(SessionStoreFullException.class);
+        assertThat(store.get("session-1")).contains("gugu");
+    }
+
+    @Test
+    void valueLargerThanSlotIsRejected() {
+        assertThatThrownBy(() -> store.put("session-1", "x".repeat(100)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
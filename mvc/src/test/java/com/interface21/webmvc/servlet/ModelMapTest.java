@@ -0,0 +1,50 @@
+package com.interface21.webmvc.servlet;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ModelMapTest {
+
+    @Test
+    void keepInsertionOrderAndReplaceExistingKey() {
+        final var modelAndView = new ModelAndView(null)
+                .addObject("a", 1)
+                .addObject("b", 2)
+                .addObject("c", 3)
+                .addObject("a", 4);
+        final var model = modelAndView.getModel();
+
+        final var keys = new ArrayList<String>();
+        model.forEach((key, value) -> keys.add(key));
+
+        assertThat(keys).containsExactly("a", "b", "c");
+        assertThat(model.get("a")).isEqualTo(4);
+        assertThat(model.keyAt(2)).isEqualTo("c");
+        assertThat(model.valueAt(2)).isEqualTo(3);
+        assertThat(model).isEqualTo(Map.of("a", 4, "b", 2, "c", 3));
+    }
+
+    @Test
+    void returnSameReadOnlyModel() {
+        final var modelAndView = new ModelAndView(null).addObject("user", "gugu");
+
+        assertThat(modelAndView.getModel()).isSameAs(modelAndView.getModel());
+        assertThatThrownBy(() -> modelAndView.getModel().put("other", 1))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> modelAndView.getModel().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void emptyModel() {
+        final var model = new ModelAndView(null).getModel();
+
+        assertThat(model).isEmpty();
+        assertThat(model.get("missing")).isNull();
+    }
+}
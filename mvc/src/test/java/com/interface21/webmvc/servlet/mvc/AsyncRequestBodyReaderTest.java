@@ -0,0 +1,280 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import com.interface21.webmvc.servlet.ModelAndView;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncRequestBodyReaderTest {
+
+    private static final int BUFFER_SIZE = 4;
+    private static final int MAXIMUM_BODY_SIZE = 10;
+
+    private final BufferPool bufferPool = new BufferPool(BUFFER_SIZE, 8);
+    private final byte[][] pooledBuffers = {new byte[BUFFER_SIZE], new byte[BUFFER_SIZE], new byte[BUFFER_SIZE]};
+    private final AsyncRequestBodyReader reader =
+            new AsyncRequestBodyReader(MAXIMUM_BODY_SIZE, Duration.ofSeconds(5), bufferPool);
+
+    private final FakeInputStream inputStream = new FakeInputStream();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        for (final var buffer : pooledBuffers) {
+            bufferPool.release(buffer);
+        }
+        request = new MockHttpServletRequest("POST", "/api/user") {
+            @Override
+            public ServletInputStream getInputStream() {
+                return inputStream;
+            }
+        };
+        request.setAsyncSupported(true);
+    }
+
+    @Test
+    void collectBodyAndDispatchWithBufferedRequest() throws IOException {
+        final var json = "{\"id\":1}";
+        request.setContent(json.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(reader.startReading(request, response)).isTrue();
+        final var asyncContext = asyncContext();
+        assertThat(asyncContext.getTimeout()).isEqualTo(5_000);
+        assertThat(asyncContext.getDispatchedPath()).isNull();
+
+        inputStream.arrive("{\"id\"");
+        inputStream.arrive(":1}");
+        inputStream.end();
+
+        assertThat(asyncContext.getDispatchedPath()).isEqualTo("/api/user");
+        request.setDispatcherType(DispatcherType.ASYNC);
+        assertThat(reader.startReading(request, response)).isFalse();
+        final var buffered = AsyncRequestBodyReader.bufferedRequest(request);
+        assertThat(new String(buffered.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(json);
+
+        AsyncRequestBodyReader.release(request);
+        assertThat(AsyncRequestBodyReader.bufferedRequest(request)).isSameAs(request);
+        assertBuffersReturned();
+    }
+
+    @Test
+    void dispatcherInvokesHandlerOnlyAfterRedispatch() throws Exception {
+        final var json = "{\"id\":1}";
+        final var received = new ArrayList<String>();
+        final var dispatcherServlet = dispatcherServlet(received);
+        request.setContent(json.getBytes(StandardCharsets.UTF_8));
+
+        dispatcherServlet.service(request, response);
+        assertThat(received).isEmpty();
+        asyncContext().addDispatchHandler(() -> {
+            request.setDispatcherType(DispatcherType.ASYNC);
+            try {
+                dispatcherServlet.service(request, response);
+            } catch (ServletException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        inputStream.arrive(json);
+        inputStream.end();
+
+        assertThat(received).containsExactly(json);
+        assertThat(AsyncRequestBodyReader.bufferedRequest(request)).isSameAs(request);
+        assertBuffersReturned();
+    }
+
+    @Test
+    void rejectDeclaredOversizeBodyWithoutReading() throws IOException {
+        request.setContent(new byte[MAXIMUM_BODY_SIZE + 1]);
+
+        assertThat(reader.startReading(request, response)).isTrue();
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(request.isAsyncStarted()).isFalse();
+        assertThat(inputStream.listener).isNull();
+        assertBuffersReturned();
+    }
+
+    @Test
+    void rejectStreamedOversizeBody() throws IOException {
+        request.addHeader("Transfer-Encoding", "chunked");
+
+        assertThat(reader.startReading(request, response)).isTrue();
+        inputStream.arrive("0123456789");
+        inputStream.arrive("a");
+        inputStream.end();
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(request.isAsyncStarted()).isFalse();
+        assertThat(asyncContext().getDispatchedPath()).isNull();
+        assertThat(AsyncRequestBodyReader.bufferedRequest(request)).isSameAs(request);
+        assertBuffersReturned();
+    }
+
+    @Test
+    void respondRequestTimeoutWhenBodyStalls() throws IOException {
+        request.setContent(new byte[MAXIMUM_BODY_SIZE]);
+
+        reader.startReading(request, response);
+        inputStream.arrive("0123");
+        final var asyncContext = asyncContext();
+        for (final var listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext, request, response));
+        }
+        inputStream.arrive("456789");
+        inputStream.end();
+
+        assertThat(response.getStatus()).isEqualTo(408);
+        assertThat(asyncContext.getDispatchedPath()).isNull();
+        assertBuffersReturned();
+    }
+
+    @Test
+    void respondBadRequestWhenReadFails() throws IOException {
+        request.setContent(new byte[MAXIMUM_BODY_SIZE]);
+
+        reader.startReading(request, response);
+        inputStream.arrive("0123");
+        inputStream.listener.onError(new IOException("connection reset"));
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(request.isAsyncStarted()).isFalse();
+        assertBuffersReturned();
+    }
+
+    @Test
+    void skipRequestsWithoutBody() throws IOException {
+        final var get = new MockHttpServletRequest("GET", "/api/user");
+        get.setAsyncSupported(true);
+        request.setContent(new byte[0]);
+
+        assertThat(reader.startReading(get, response)).isFalse();
+        assertThat(reader.startReading(request, response)).isFalse();
+        assertThat(request.isAsyncStarted()).isFalse();
+    }
+
+    private DispatcherServlet dispatcherServlet(final List<String> received) {
+        final var dispatcherServlet = new DispatcherServlet();
+        dispatcherServlet.setAsyncRequestBodyReader(reader);
+        dispatcherServlet.addHandlerMapping(new HandlerMapping() {
+            @Override
+            public void initialize() {
+            }
+
+            @Override
+            public Object getHandler(final HttpServletRequest request) {
+                return received;
+            }
+        });
+        dispatcherServlet.addHandlerAdapter(new HandlerAdapter() {
+            @Override
+            public boolean supports(final Object handler) {
+                return true;
+            }
+
+            @Override
+            public ModelAndView handle(final HttpServletRequest request, final HttpServletResponse response,
+                                       final Object handler) throws IOException {
+                received.add(new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+                return new ModelAndView((model, req, res) -> {
+                });
+            }
+        });
+        dispatcherServlet.init();
+        return dispatcherServlet;
+    }
+
+    private MockAsyncContext asyncContext() {
+        return (MockAsyncContext) request.getAsyncContext();
+    }
+
+    /**
+     * 미리 넣어 둔 버퍼를 읽기에 빌려 주었으므로, 돌려받지 못했다면 풀은 새 버퍼를 내준다.
+     */
+    private void assertBuffersReturned() {
+        final var borrowed = new byte[pooledBuffers.length][];
+        for (int i = 0; i < borrowed.length; i++) {
+            borrowed[i] = bufferPool.borrow();
+        }
+        for (final var pooled : pooledBuffers) {
+            assertThat(borrowed).anySatisfy(buffer -> assertThat(buffer).isSameAs(pooled));
+        }
+    }
+
+    /**
+     * 도착한 조각만큼만 isReady 가 true 인 입력 스트림. 조각이 도착할 때마다 컨테이너처럼 onDataAvailable 을 호출한다.
+     */
+    private static class FakeInputStream extends ServletInputStream {
+
+        private final Deque<byte[]> chunks = new ArrayDeque<>();
+        private int position;
+        private boolean finished;
+        private ReadListener listener;
+
+        void arrive(final String chunk) throws IOException {
+            chunks.add(chunk.getBytes(StandardCharsets.UTF_8));
+            listener.onDataAvailable();
+        }
+
+        void end() throws IOException {
+            finished = true;
+            listener.onAllDataRead();
+        }
+
+        @Override
+        public int read() {
+            final var single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            final var chunk = chunks.peek();
+            if (chunk == null) {
+                return finished ? -1 : 0;
+            }
+            final var count = Math.min(len, chunk.length - position);
+            System.arraycopy(chunk, position, b, off, count);
+            position += count;
+            if (position == chunk.length) {
+                chunks.poll();
+                position = 0;
+            }
+            return count;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished && chunks.isEmpty();
+        }
+
+        @Override
+        public boolean isReady() {
+            return !chunks.isEmpty();
+        }
+
+        @Override
+        public void setReadListener(final ReadListener readListener) {
+            this.listener = readListener;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BufferedBodyRequestTest {
+
+    private final BufferPool bufferPool = new BufferPool(4, 8);
+
+    @Test
+    void readBodySpanningBuffers() throws IOException {
+        final var json = "{\"account\":\"gugu\"}";
+        final var request = new BufferedBodyRequest(new MockHttpServletRequest("POST", "/api/user"), bodyOf(json));
+
+        assertThat(new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(json);
+        assertThat(request.getReader().readLine()).isEqualTo(json);
+    }
+
+    @Test
+    void mergeFormBodyWithQueryParameters() {
+        final var original = new MockHttpServletRequest("POST", "/register");
+        original.setContentType("application/x-www-form-urlencoded");
+        original.setCharacterEncoding("UTF-8");
+        original.addParameter("redirect", "/index");
+        final var request = new BufferedBodyRequest(original, bodyOf("account=gugu&email=a%40b.com&name=%EA%B5%AC%EA%B5%AC&tag=1&tag=2"));
+
+        assertThat(request.getParameter("account")).isEqualTo("gugu");
+        assertThat(request.getParameter("email")).isEqualTo("a@b.com");
+        assertThat(request.getParameter("name")).isEqualTo("구구");
+        assertThat(request.getParameter("redirect")).isEqualTo("/index");
+        assertThat(request.getParameterValues("tag")).containsExactly("1", "2");
+    }
+
+    @Test
+    void releaseBuffersToPool() {
+        final var body = bodyOf("ab");
+        final var borrowed = body.writableBuffer();
+
+        body.release();
+
+        assertThat(body.length()).isZero();
+        assertThat(bufferPool.borrow()).isSameAs(borrowed);
+    }
+
+    private RequestBody bodyOf(final String content) {
+        final var bytes = content.getBytes(StandardCharsets.UTF_8);
+        final var body = new RequestBody(bufferPool);
+        var position = 0;
+        while (position < bytes.length) {
+            final var buffer = body.writableBuffer();
+            final var offset = body.writableOffset();
+            final var count = Math.min(buffer.length - offset, bytes.length - position);
+            System.arraycopy(bytes, position, buffer, offset, count);
+            body.written(count);
+            position += count;
+        }
+        return body;
+    }
+}
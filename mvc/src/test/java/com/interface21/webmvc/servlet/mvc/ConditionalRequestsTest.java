@@ -0,0 +1,58 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalRequestsTest {
+
+    private static final long LAST_MODIFIED = 1_700_000_000_123L;
+
+    @Test
+    void notModifiedWhenEtagMatches() {
+        final var response = new MockHttpServletResponse();
+        ConditionalRequests.writeValidators(response, LAST_MODIFIED);
+
+        final var request = new MockHttpServletRequest("GET", "/api/user");
+        request.addHeader("If-None-Match", "\"other\", " + response.getHeader("ETag"));
+
+        assertThat(ConditionalRequests.isNotModified(request, LAST_MODIFIED)).isTrue();
+        assertThat(ConditionalRequests.isNotModified(request, LAST_MODIFIED + 1)).isFalse();
+    }
+
+    @Test
+    void ifNoneMatchTakesPrecedenceOverIfModifiedSince() {
+        final var request = new MockHttpServletRequest("GET", "/api/user");
+        request.addHeader("If-None-Match", "W/\"0\"");
+        request.addHeader("If-Modified-Since", LAST_MODIFIED + 60_000);
+
+        assertThat(ConditionalRequests.isNotModified(request, LAST_MODIFIED)).isFalse();
+    }
+
+    @Test
+    void ifModifiedSinceDoesNotHideChangeWithinSameSecond() {
+        final var request = new MockHttpServletRequest("GET", "/api/user");
+        request.addHeader("If-Modified-Since", LAST_MODIFIED - 123);
+
+        assertThat(ConditionalRequests.isNotModified(request, LAST_MODIFIED - 123)).isTrue();
+        assertThat(ConditionalRequests.isNotModified(request, LAST_MODIFIED)).isFalse();
+    }
+
+    @Test
+    void ifModifiedSinceAfterLastModified() {
+        final var request = new MockHttpServletRequest("GET", "/api/user");
+        request.addHeader("If-Modified-Since", LAST_MODIFIED - 123 + 1_000);
+
+        assertThat(ConditionalRequests.isNotModified(request, LAST_MODIFIED)).isTrue();
+        assertThat(ConditionalRequests.isNotModified(request, LAST_MODIFIED + 1_000)).isFalse();
+    }
+
+    @Test
+    void onlyGetAndHeadAreCacheable() {
+        assertThat(ConditionalRequests.isCacheable(new MockHttpServletRequest("GET", "/"))).isTrue();
+        assertThat(ConditionalRequests.isCacheable(new MockHttpServletRequest("HEAD", "/"))).isTrue();
+        assertThat(ConditionalRequests.isCacheable(new MockHttpServletRequest("POST", "/"))).isFalse();
+    }
+}
@@ -0,0 +1,112 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import com.interface21.webmvc.servlet.ModelAndView;
+import com.interface21.webmvc.servlet.mvc.limit.AdmissionLimiter;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DispatcherServletAsyncTest {
+
+    private final List<String> releases = new ArrayList<>();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/stream");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void releaseLimiterWhenSynchronousRequestReturns() throws Exception {
+        dispatcherServlet(false).service(request, response);
+
+        assertThat(releases).containsExactly("release:false");
+    }
+
+    @Test
+    void releaseLimiterOnlyAfterAsyncResponseCompletes() throws Exception {
+        request.setAsyncSupported(true);
+
+        dispatcherServlet(true).service(request, response);
+        assertThat(request.isAsyncStarted()).isTrue();
+        assertThat(releases).isEmpty();
+
+        asyncContext().complete();
+        assertThat(releases).containsExactly("release:false");
+    }
+
+    @Test
+    void releaseAsDroppedWhenAsyncResponseTimesOut() throws Exception {
+        request.setAsyncSupported(true);
+        dispatcherServlet(true).service(request, response);
+
+        final var asyncContext = asyncContext();
+        for (final var listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext, request, response));
+        }
+        asyncContext.complete();
+
+        assertThat(releases).containsExactly("release:true");
+    }
+
+    private MockAsyncContext asyncContext() {
+        return (MockAsyncContext) request.getAsyncContext();
+    }
+
+    private DispatcherServlet dispatcherServlet(final boolean startAsync) {
+        final var admissionLimiter = new AdmissionLimiter() {
+            @Override
+            public boolean tryAcquire() {
+                return true;
+            }
+
+            @Override
+            public void release(final long latencyNanos, final boolean dropped) {
+                releases.add("release:" + dropped);
+            }
+
+            @Override
+            public void reject(final HttpServletResponse response) {
+                response.setStatus(429);
+            }
+        };
+        final var dispatcherServlet = new DispatcherServlet();
+        dispatcherServlet.addHandlerMapping(new HandlerMapping() {
+            @Override
+            public void initialize() {
+            }
+
+            @Override
+            public Object getHandler(final HttpServletRequest request) {
+                return releases;
+            }
+        });
+        dispatcherServlet.addHandlerAdapter(new HandlerAdapter() {
+            @Override
+            public boolean supports(final Object handler) {
+                return true;
+            }
+
+            @Override
+            public ModelAndView handle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+                return new ModelAndView((model, req, res) -> {
+                    if (startAsync) {
+                        req.startAsync(req, res);
+                    }
+                });
+            }
+
+            @Override
+            public AdmissionLimiter[] getAdmissionLimiters(final Object handler) {
+                return new AdmissionLimiter[]{admissionLimiter};
+            }
+        });
+        dispatcherServlet.init();
+        return dispatcherServlet;
+    }
+}
@@ -0,0 +1,162 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import com.interface21.webmvc.servlet.ModelAndView;
+import com.interface21.webmvc.servlet.view.JsonView;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DispatcherServletInterceptorTest {
+
+    private static final long LAST_MODIFIED = 1_700_000_000_000L;
+
+    private final List<String> events = new ArrayList<>();
+    private long lastModified;
+    private final LastModified handler = request -> lastModified;
+    private RuntimeException handlerFailure;
+    private JsonBodyCache jsonBodyCache;
+
+    @BeforeEach
+    void setUp() {
+        events.clear();
+        handlerFailure = null;
+        lastModified = -1;
+        jsonBodyCache = null;
+    }
+
+    @Test
+    void invokeInterceptorsAroundHandler() throws Exception {
+        final var dispatcherServlet = dispatcherServlet(recording("a", true), recording("b", true));
+
+        dispatcherServlet.service(new MockHttpServletRequest("GET", "/test"), new MockHttpServletResponse());
+
+        assertThat(events).containsExactly(
+                "a.pre", "b.pre", "handle", "b.post", "a.post", "render", "b.after", "a.after");
+    }
+
+    @Test
+    void stopWhenPreHandleReturnsFalse() throws Exception {
+        final var dispatcherServlet = dispatcherServlet(recording("a", true), recording("b", false), recording("c", true));
+
+        dispatcherServlet.service(new MockHttpServletRequest("GET", "/test"), new MockHttpServletResponse());
+
+        assertThat(events).containsExactly("a.pre", "b.pre", "a.after");
+    }
+
+    @Test
+    void passFailureToAfterCompletion() {
+        handlerFailure = new IllegalStateException("boom");
+        final var dispatcherServlet = dispatcherServlet(recording("a", true));
+
+        assertThatThrownBy(() -> dispatcherServlet.service(new MockHttpServletRequest("GET", "/test"), new MockHttpServletResponse()))
+                .isInstanceOf(ServletException.class);
+        assertThat(events).containsExactly("a.pre", "handle", "a.after:boom");
+    }
+
+    @Test
+    void postHandleWithoutModelWhenServedFromCache() throws Exception {
+        lastModified = LAST_MODIFIED;
+        jsonBodyCache = new JsonBodyCache(8);
+        final var dispatcherServlet = dispatcherServlet(recording("a", true));
+        dispatcherServlet.service(new MockHttpServletRequest("GET", "/test"), new MockHttpServletResponse());
+        events.clear();
+
+        final var response = new MockHttpServletResponse();
+        dispatcherServlet.service(new MockHttpServletRequest("GET", "/test"), response);
+
+        assertThat(events).containsExactly("a.pre", "a.post:null", "a.after");
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    void postHandleWithoutModelWhenNotModified() throws Exception {
+        lastModified = LAST_MODIFIED;
+        final var dispatcherServlet = dispatcherServlet(recording("a", true));
+        final var first = new MockHttpServletResponse();
+        dispatcherServlet.service(new MockHttpServletRequest("GET", "/test"), first);
+        events.clear();
+
+        final var request = new MockHttpServletRequest("GET", "/test");
+        request.addHeader("If-None-Match", first.getHeader("ETag"));
+        final var response = new MockHttpServletResponse();
+        dispatcherServlet.service(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(events).containsExactly("a.pre", "a.post:null", "a.after");
+    }
+
+    private DispatcherServlet dispatcherServlet(final HandlerInterceptor... interceptors) {
+        final var dispatcherServlet = new DispatcherServlet();
+        dispatcherServlet.addHandlerMapping(new HandlerMapping() {
+            @Override
+            public void initialize() {
+            }
+
+            @Override
+            public Object getHandler(final HttpServletRequest request) {
+                return handler;
+            }
+        });
+        dispatcherServlet.addHandlerAdapter(new HandlerAdapter() {
+            @Override
+            public boolean supports(final Object handler) {
+                return true;
+            }
+
+            @Override
+            public ModelAndView handle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+                events.add("handle");
+                if (handlerFailure != null) {
+                    throw handlerFailure;
+                }
+                if (jsonBodyCache != null) {
+                    return new ModelAndView(new JsonView()).addRawJson("user", "{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+                }
+                return new ModelAndView((model, req, res) -> events.add("render"));
+            }
+
+            @Override
+            public HandlerInterceptor[] getInterceptors(final Object handler) {
+                return interceptors;
+            }
+        });
+        if (jsonBodyCache != null) {
+            dispatcherServlet.setJsonBodyCache(jsonBodyCache);
+        }
+        dispatcherServlet.init();
+        return dispatcherServlet;
+    }
+
+    private HandlerInterceptor recording(final String name, final boolean proceed) {
+        return new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+                events.add(name + ".pre");
+                return proceed;
+            }
+
+            @Override
+            public void postHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler,
+                                   final ModelAndView modelAndView) {
+                events.add(modelAndView == null ? name + ".post:null" : name + ".post");
+            }
+
+            @Override
+            public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response, final Object handler,
+                                        final Exception ex) {
+                events.add(ex == null ? name + ".after" : name + ".after:" + ex.getMessage());
+            }
+        };
+    }
+}
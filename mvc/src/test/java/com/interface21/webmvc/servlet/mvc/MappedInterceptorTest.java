@@ -0,0 +1,46 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedInterceptorTest {
+
+    private final HandlerInterceptor interceptor = new HandlerInterceptor() {
+    };
+
+    @Test
+    void matchSingleAndMultipleSegments() {
+        final var mappedInterceptor = new MappedInterceptor(new String[]{"/api/**", "/users/*/history"}, interceptor);
+
+        assertThat(mappedInterceptor.matches("/api")).isTrue();
+        assertThat(mappedInterceptor.matches("/api/user")).isTrue();
+        assertThat(mappedInterceptor.matches("/api/users/1")).isTrue();
+        assertThat(mappedInterceptor.matches("/apix")).isFalse();
+        assertThat(mappedInterceptor.matches("/users/1/history")).isTrue();
+        assertThat(mappedInterceptor.matches("/users/1/2/history")).isFalse();
+    }
+
+    @Test
+    void excludeWinsOverInclude() {
+        final var mappedInterceptor = new MappedInterceptor(new String[]{"/**"}, new String[]{"/login"}, interceptor);
+
+        assertThat(mappedInterceptor.matches("/register")).isTrue();
+        assertThat(mappedInterceptor.matches("/login")).isFalse();
+    }
+
+    @Test
+    void matchEverythingWithoutIncludePatterns() {
+        final var mappedInterceptor = new MappedInterceptor(new String[0], interceptor);
+
+        assertThat(mappedInterceptor.matches("/anything")).isTrue();
+    }
+
+    @Test
+    void quoteLiteralCharacters() {
+        final var mappedInterceptor = new MappedInterceptor(new String[]{"/index.jsp"}, interceptor);
+
+        assertThat(mappedInterceptor.matches("/index.jsp")).isTrue();
+        assertThat(mappedInterceptor.matches("/indexxjsp")).isFalse();
+    }
+}
@@ -0,0 +1,38 @@
+package com.interface21.webmvc.servlet.mvc.asis;
+
+import com.interface21.webmvc.servlet.mvc.HandlerInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ControllerHandlerAdapterTest {
+
+    private final ControllerHandlerAdapter handlerAdapter = new ControllerHandlerAdapter();
+
+    @Test
+    void returnInterceptorsAppliedToControllerExecution() {
+        final var interceptor = new HandlerInterceptor() {
+        };
+        final var controllerExecution = new ControllerExecution(new ForwardController("/index.jsp"));
+        controllerExecution.setInterceptors(new HandlerInterceptor[]{interceptor});
+
+        assertThat(handlerAdapter.supports(controllerExecution)).isTrue();
+        assertThat(handlerAdapter.getInterceptors(controllerExecution)).containsExactly(interceptor);
+    }
+
+    @Test
+    void plainControllerHasNoInterceptors() {
+        assertThat(handlerAdapter.getInterceptors(new ForwardController("/index.jsp"))).isEmpty();
+    }
+
+    @Test
+    void executeWrappedController() throws Exception {
+        final var controllerExecution = new ControllerExecution(new ForwardController("/index.jsp"));
+
+        final var modelAndView = handlerAdapter.handle(new MockHttpServletRequest(), new MockHttpServletResponse(), controllerExecution);
+
+        assertThat(modelAndView.getView()).hasFieldOrPropertyWithValue("viewName", "/index.jsp");
+    }
+}
@@ -0,0 +1,72 @@
+package com.interface21.webmvc.servlet.mvc.limit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AimdConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void rejectOverLimit() {
+        final var limiter = new AimdConcurrencyLimiter(2, 1, 10, Duration.ofMillis(100));
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.abandon();
+
+        assertThat(limiter.getInflight()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void increaseOnFastResponsesUnderLoad() {
+        final var limiter = new AimdConcurrencyLimiter(2, 1, 10, Duration.ofMillis(100));
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        limiter.release(FAST, false);
+
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void doNotIncreaseWhenMostlyIdle() {
+        final var limiter = new AimdConcurrencyLimiter(8, 1, 10, Duration.ofMillis(100));
+        limiter.tryAcquire();
+
+        limiter.release(FAST, false);
+
+        assertThat(limiter.getLimit()).isEqualTo(8);
+    }
+
+    @Test
+    void decreaseOnSlowOrDroppedResponses() {
+        final var limiter = new AimdConcurrencyLimiter(10, 5, 20, 0.5, Duration.ofMillis(100));
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        limiter.release(SLOW, false);
+        assertThat(limiter.getLimit()).isEqualTo(5);
+
+        limiter.release(FAST, true);
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void rejectWithServiceUnavailable() {
+        final var response = new MockHttpServletResponse();
+
+        new AimdConcurrencyLimiter(1, 1, 1, Duration.ofMillis(100)).reject(response);
+
+        assertThat(response.getStatus()).isEqualTo(503);
+    }
+}
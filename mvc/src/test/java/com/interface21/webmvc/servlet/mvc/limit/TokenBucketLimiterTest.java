@@ -0,0 +1,78 @@
+package com.interface21.webmvc.servlet.mvc.limit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+
+    @Test
+    void allowBurstThenRefillAtRate() {
+        final var limiter = new TokenBucketLimiter(10, 3, now::get);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void idleTimeDoesNotExceedBurst() {
+        final var limiter = new TokenBucketLimiter(10, 2, now::get);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void abandonReturnsToken() {
+        final var limiter = new TokenBucketLimiter(10, 2, now::get);
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.abandon();
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void abandonDoesNotExceedBurst() {
+        final var limiter = new TokenBucketLimiter(10, 2, now::get);
+        limiter.tryAcquire();
+
+        limiter.abandon();
+        limiter.abandon();
+        limiter.abandon();
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void rejectWithRetryAfter() {
+        final var limiter = new TokenBucketLimiter(0.5, 1, now::get);
+        limiter.tryAcquire();
+        final var response = new MockHttpServletResponse();
+
+        limiter.reject(response);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+    }
+}
@@ -0,0 +1,60 @@
+package com.interface21.webmvc.servlet.mvc.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyHistogramTest {
+
+    @Test
+    void upperBoundIsInclusive() {
+        assertThat(LatencyHistogram.indexOf(0)).isZero();
+        assertThat(LatencyHistogram.indexOf(64)).isZero();
+        assertThat(LatencyHistogram.indexOf(65)).isEqualTo(1);
+        assertThat(LatencyHistogram.indexOf(96)).isEqualTo(1);
+        assertThat(LatencyHistogram.indexOf(97)).isEqualTo(2);
+        assertThat(LatencyHistogram.indexOf(128)).isEqualTo(2);
+        assertThat(LatencyHistogram.indexOf(129)).isEqualTo(3);
+    }
+
+    @Test
+    void everyValueFallsUnderItsBucketUpperBound() {
+        for (long micros = 1; micros < 1L << 26; micros = micros * 5 / 4 + 1) {
+            final var index = LatencyHistogram.indexOf(micros);
+            assertThat(micros).isLessThanOrEqualTo(LatencyHistogram.upperBoundMicros(index));
+            if (index > 0) {
+                assertThat(micros).isGreaterThan(LatencyHistogram.upperBoundMicros(index - 1));
+            }
+        }
+    }
+
+    @Test
+    void valuesAboveRangeGoToOverflowBucket() {
+        assertThat(LatencyHistogram.indexOf(1L << 26)).isEqualTo(LatencyHistogram.boundedBucketCount() - 1);
+        assertThat(LatencyHistogram.indexOf((1L << 26) + 1)).isEqualTo(LatencyHistogram.boundedBucketCount());
+        assertThat(LatencyHistogram.indexOf(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.boundedBucketCount());
+    }
+
+    @Test
+    void recordRoundsUpToMicroseconds() {
+        final var histogram = new LatencyHistogram();
+
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(64));
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(64) + 1);
+        histogram.record(-1);
+
+        final var counts = histogram.snapshot();
+        assertThat(counts[0]).isEqualTo(2);
+        assertThat(counts[1]).isEqualTo(1);
+        assertThat(histogram.getSumNanos()).isEqualTo(TimeUnit.MICROSECONDS.toNanos(128) + 1);
+    }
+
+    @Test
+    void upperBoundSecondsIsPlainDecimal() {
+        assertThat(LatencyHistogram.upperBoundSeconds(0)).isEqualTo("0.000064");
+        assertThat(LatencyHistogram.upperBoundSeconds(1)).isEqualTo("0.000096");
+        assertThat(LatencyHistogram.upperBoundSeconds(LatencyHistogram.boundedBucketCount() - 1)).isEqualTo("67.108864");
+    }
+}
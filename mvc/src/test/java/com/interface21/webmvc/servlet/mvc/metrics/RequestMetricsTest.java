@@ -0,0 +1,56 @@
+package com.interface21.webmvc.servlet.mvc.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestMetricsTest {
+
+    @Test
+    void registerReturnsSameMetricsForSameRoute() {
+        final var requestMetrics = new RequestMetrics();
+
+        assertThat(requestMetrics.register("GET", "/api/user")).isSameAs(requestMetrics.register("GET", "/api/user"));
+        assertThat(requestMetrics.register("GET", "/api/user")).isNotSameAs(requestMetrics.register("POST", "/api/user"));
+    }
+
+    @Test
+    void scrapeWritesCumulativeBucketsSumCountAndErrors() {
+        final var requestMetrics = new RequestMetrics();
+        final var routeMetrics = requestMetrics.register("GET", "/api/user");
+        routeMetrics.record(TimeUnit.MICROSECONDS.toNanos(50), false);
+        routeMetrics.record(TimeUnit.MICROSECONDS.toNanos(90), false);
+        routeMetrics.record(TimeUnit.SECONDS.toNanos(100), true);
+
+        final var text = requestMetrics.scrape();
+
+        final var labels = "method=\"GET\",route=\"/api/user\"";
+        assertThat(text).contains("# TYPE http_server_requests_seconds histogram\n");
+        assertThat(text).contains("http_server_requests_seconds_bucket{" + labels + ",le=\"0.000064\"} 1\n");
+        assertThat(text).contains("http_server_requests_seconds_bucket{" + labels + ",le=\"0.000096\"} 2\n");
+        assertThat(text).contains("http_server_requests_seconds_bucket{" + labels + ",le=\"67.108864\"} 2\n");
+        assertThat(text).contains("http_server_requests_seconds_bucket{" + labels + ",le=\"+Inf\"} 3\n");
+        assertThat(text).contains("http_server_requests_seconds_sum{" + labels + "} 100.000140000\n");
+        assertThat(text).contains("http_server_requests_seconds_count{" + labels + "} 3\n");
+        assertThat(text).contains("# TYPE http_server_request_errors_total counter\n");
+        assertThat(text).contains("http_server_request_errors_total{" + labels + "} 1\n");
+    }
+
+    @Test
+    void scrapeSkipsRoutesWithoutRequests() {
+        final var requestMetrics = new RequestMetrics();
+        requestMetrics.register("DELETE", "/api/user");
+
+        assertThat(requestMetrics.scrape()).doesNotContain("DELETE");
+    }
+
+    @Test
+    void escapeLabelValues() {
+        final var requestMetrics = new RequestMetrics();
+        requestMetrics.register("GET", "/a\"b\\c").record(1, false);
+
+        assertThat(requestMetrics.scrape()).contains("route=\"/a\\\"b\\\\c\"");
+    }
+}
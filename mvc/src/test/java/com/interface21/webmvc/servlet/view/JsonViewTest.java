@@ -0,0 +1,52 @@
+package com.interface21.webmvc.servlet.view;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonViewTest {
+
+    private final JsonView jsonView = new JsonView();
+
+    @Test
+    void writeSingleRawJsonAsIs() throws Exception {
+        final var response = new MockHttpServletResponse();
+        final var json = "{\"account\":\"gugu\"}".getBytes(StandardCharsets.UTF_8);
+
+        jsonView.render(Map.of("user", RawJson.of(json)), new MockHttpServletRequest(), response);
+
+        assertThat(response.getContentAsByteArray()).isEqualTo(json);
+        assertThat(response.getContentLength()).isEqualTo(json.length);
+    }
+
+    @Test
+    void embedRawJsonInModel() throws Exception {
+        final var response = new MockHttpServletResponse();
+        final var model = new LinkedHashMap<String, Object>();
+        model.put("user", RawJson.of(ByteBuffer.wrap("xx{\"id\":1}".getBytes(StandardCharsets.UTF_8), 2, 8)));
+        model.put("next", "abc");
+
+        jsonView.render(model, new MockHttpServletRequest(), response);
+
+        assertThat(response.getContentAsString()).isEqualTo("{\"user\":{\"id\":1},\"next\":\"abc\"}");
+    }
+
+    @Test
+    void encodeSameInstanceOnce() {
+        final var cache = new JsonEncodingCache(16);
+        final var value = Map.of("id", 1);
+
+        final var first = cache.encode(value);
+
+        assertThat(cache.encode(value)).isSameAs(first);
+        assertThat(cache.encode(Map.of("id", 1))).isNotSameAs(first);
+        assertThat(first.toString()).isEqualTo("{\"id\":1}");
+    }
+}
@@ -0,0 +1,196 @@
+package com.interface21.webmvc.servlet.view;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamingViewTest {
+
+    private final FakeOutputStream outputStream = new FakeOutputStream();
+    private final MockHttpServletResponse asyncResponse = new MockHttpServletResponse() {
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+    };
+    private final MockHttpServletRequest asyncRequest = new MockHttpServletRequest();
+
+    @BeforeEach
+    void setUp() {
+        asyncRequest.setAsyncSupported(true);
+    }
+
+    @Test
+    void writeServerSentEvents() throws Exception {
+        final var response = new MockHttpServletResponse();
+        final var items = List.of(raw("{\"id\":1}"), raw("{\"id\":2}")).iterator();
+
+        StreamingView.serverSentEvents(items).render(Map.of(), new MockHttpServletRequest(), response);
+
+        assertThat(response.getContentType()).startsWith("text/event-stream");
+        assertThat(response.getContentAsString()).isEqualTo("data: {\"id\":1}\n\ndata: {\"id\":2}\n\n");
+    }
+
+    @Test
+    void writeJsonLines() throws Exception {
+        final var response = new MockHttpServletResponse();
+        final var items = List.of(raw("{\"id\":1}"), Map.of("id", 2)).iterator();
+
+        StreamingView.jsonLines(items).render(Map.of(), new MockHttpServletRequest(), response);
+
+        assertThat(response.getContentType()).startsWith("application/x-ndjson");
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}\n{\"id\":2}\n");
+    }
+
+    @Test
+    void writeOnlyWhileContainerReportsReady() throws Exception {
+        final var items = new ClosingIterator(raw("{\"id\":1}"), raw("{\"id\":2}"), raw("{\"id\":3}"));
+
+        StreamingView.jsonLines(items, Duration.ofSeconds(30)).render(Map.of(), asyncRequest, asyncResponse);
+
+        assertThat(asyncRequest.isAsyncStarted()).isTrue();
+        assertThat(asyncContext().getTimeout()).isEqualTo(30_000);
+        assertThat(outputStream.written()).isEmpty();
+
+        outputStream.becomeReady(2);
+        assertThat(outputStream.written()).isEqualTo("{\"id\":1}\n{\"id\":2}\n");
+        assertThat(asyncRequest.isAsyncStarted()).isTrue();
+        assertThat(items.closed).isFalse();
+
+        outputStream.becomeReady(2);
+        assertThat(outputStream.written()).isEqualTo("{\"id\":1}\n{\"id\":2}\n{\"id\":3}\n");
+        assertThat(asyncRequest.isAsyncStarted()).isFalse();
+        assertThat(items.closed).isTrue();
+    }
+
+    @Test
+    void closeSourceAndCompleteOnTimeout() throws Exception {
+        final var items = new ClosingIterator(raw("{\"id\":1}"), raw("{\"id\":2}"));
+
+        StreamingView.serverSentEvents(items, Duration.ofSeconds(1)).render(Map.of(), asyncRequest, asyncResponse);
+        outputStream.becomeReady(1);
+        final var asyncContext = asyncContext();
+        for (final var listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext, asyncRequest, asyncResponse));
+        }
+
+        assertThat(items.closed).isTrue();
+        assertThat(asyncRequest.isAsyncStarted()).isFalse();
+        outputStream.becomeReady(1);
+        assertThat(outputStream.written()).isEqualTo("data: {\"id\":1}\n\n");
+    }
+
+    @Test
+    void closeSourceAndCompleteOnWriteError() throws Exception {
+        final var items = new ClosingIterator(raw("{\"id\":1}"));
+
+        StreamingView.jsonLines(items).render(Map.of(), asyncRequest, asyncResponse);
+        outputStream.listener.onError(new IOException("connection reset"));
+
+        assertThat(items.closed).isTrue();
+        assertThat(asyncRequest.isAsyncStarted()).isFalse();
+    }
+
+    @Test
+    void rejectNonPositiveTimeout() {
+        final var items = List.of().iterator();
+
+        assertThatThrownBy(() -> StreamingView.jsonLines(items, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private MockAsyncContext asyncContext() {
+        return (MockAsyncContext) asyncRequest.getAsyncContext();
+    }
+
+    private static RawJson raw(final String json) {
+        return RawJson.of(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 소스가 닫혔는지 확인할 수 있는 반복자.
+     */
+    private static class ClosingIterator implements Iterator<Object>, AutoCloseable {
+
+        private final Iterator<Object> delegate;
+        private boolean closed;
+
+        ClosingIterator(final Object... items) {
+            this.delegate = List.of(items).iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public Object next() {
+            return delegate.next();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    /**
+     * 정해 둔 횟수만큼 쓰면 isReady 가 false 가 되는 출력 스트림. 다시 쓸 수 있게 되면 컨테이너처럼 onWritePossible 을 호출한다.
+     */
+    private static class FakeOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        private int remainingWrites;
+        private WriteListener listener;
+
+        void becomeReady(final int writes) throws IOException {
+            remainingWrites = writes;
+            listener.onWritePossible();
+        }
+
+        String written() {
+            return sink.toString(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void write(final int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            if (remainingWrites == 0) {
+                throw new IllegalStateException("write while not ready");
+            }
+            sink.write(b, off, len);
+            remainingWrites--;
+        }
+
+        @Override
+        public boolean isReady() {
+            return remainingWrites > 0;
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+            this.listener = writeListener;
+        }
+    }
+}